@@ -1,55 +1,195 @@
 package com.loopers.application;
 
+import com.loopers.application.product.ProductCatalogInfo;
+import com.loopers.application.product.ProductCatalogReader;
+import com.loopers.application.product.ProductIdList;
 import com.loopers.domain.like.LikeService;
-import com.loopers.domain.product.ProductEntity;
-import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductAccessStats;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductFreshness;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.ETagged;
 import com.loopers.interfaces.api.PageResponse;
 import com.loopers.interfaces.api.product.ProductV1Dto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ProductFacade {
 
-    private final ProductService productService;
+    private final ProductCatalogReader productCatalogReader;
     private final LikeService likeService;
+    private final ProductAccessStats productAccessStats;
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "product", key = "'user:' + #userId + ':product:' + #productId", unless = "#result == null")
     public ProductV1Dto.ProductInfo getProduct(Long productId, Long userId) {
-        ProductEntity product = productService.findById(productId);
+        return getProductWithETag(productId, userId).body();
+    }
+
+    /**
+     * 상품 상세와 strong ETag. ETag 는 캐시된 카탈로그의 버전/좋아요 수와 사용자의 좋아요 여부로 만들므로,
+     * 클라이언트가 가진 ETag 와 같으면 응답 본문을 만들지 않아도 된다.
+     */
+    @Transactional(readOnly = true)
+    public ETagged<ProductV1Dto.ProductInfo> getProductWithETag(Long productId, Long userId) {
+        productAccessStats.record(productId);
+        // 공유 캐시에서 카탈로그 정보를 가져온 뒤, 사용자별 좋아요 여부만 덧씌운다.
+        ProductCatalogInfo product = productCatalogReader.getProduct(productId);
         boolean isLiked = likeService.isLiked(userId, productId);
-        long likesCount = likeService.getLikesCount(productId);
 
-        return ProductV1Dto.ProductInfo.of(product, likesCount, isLiked);
+        return ETagged.strong(
+                List.of(product.id(), product.version(), product.likesCount(), isLiked),
+                () -> ProductV1Dto.ProductInfo.of(product, isLiked)
+        );
     }
 
+    /**
+     * 여러 상품의 상세를 요청한 순서대로 반환한다. 사용자의 좋아요 여부는 한 번의 쿼리로 덧씌운다.
+     */
     @Transactional(readOnly = true)
-    @Cacheable(value = "products", key = "'user:' + #userId + ':page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize + ':sort:' + #pageable.sort", unless = "#result.isEmpty()")
-    public PageResponse<ProductV1Dto.ProductInfo> getProducts(Pageable pageable, Long userId) {
-        Page<ProductEntity> products = productService.findAll(pageable);
-        List<Long> productIds = products.getContent().stream()
-                .map(ProductEntity::getId)
+    public List<ProductV1Dto.ProductInfo> getProductsByIds(List<Long> productIds, Long userId) {
+        productAccessStats.recordAll(productIds);
+        List<ProductCatalogInfo> products = productCatalogReader.getProducts(productIds);
+        Set<Long> likedProductIds = findLikedProductIds(userId, products.stream().map(ProductCatalogInfo::id).toList());
+
+        return products.stream()
+                .map(product -> ProductV1Dto.ProductInfo.of(product, likedProductIds.contains(product.id())))
                 .toList();
+    }
 
-        Set<Long> likedProductIds = likeService.findLikedProductIds(userId, productIds);
-        Map<Long, Long> likesCounts = likeService.getLikesCounts(productIds);
+    @Transactional(readOnly = true)
+    public PageResponse<ProductV1Dto.ProductInfo> getProducts(Pageable pageable, Long userId) {
+        return getProductsWithETag(pageable, userId).body();
+    }
 
-        return PageResponse.from(
-                products.map(product -> {
-                    boolean isLiked = likedProductIds.contains(product.getId());
-                    long likesCount = likesCounts.getOrDefault(product.getId(), 0L);
-                    return ProductV1Dto.ProductInfo.of(product, likesCount, isLiked);
-                })
+    /**
+     * 목록과 weak ETag. ETag 는 캐시된 id 목록과 상품의 현재 버전/좋아요 수(freshness), 사용자의 좋아요 여부로 만들고,
+     * 상품 정보는 본문을 만들 때 조합하므로 클라이언트가 가진 ETag 와 같으면 상품을 읽지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ETagged<PageResponse<ProductV1Dto.ProductInfo>> getProductsWithETag(Pageable pageable, Long userId) {
+        ProductIdList productIds = productCatalogReader.getProductIds(pageable);
+        List<ProductFreshness> freshness = productCatalogReader.findFreshness(productIds.productIds());
+        Set<Long> likedProductIds = findLikedProductIds(userId, freshness.stream().map(ProductFreshness::id).toList());
+
+        return ETagged.weak(
+                freshnessETagParts(pageable.getPageNumber(), productIds.totalElements(), freshness, likedProductIds),
+                () -> PageResponse.from(new PageImpl<>(productCatalogReader.getFreshProducts(freshness), pageable, productIds.totalElements()))
+                        .map(product -> ProductV1Dto.ProductInfo.of(product, likedProductIds.contains(product.id())))
         );
     }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ProductV1Dto.ProductInfo> searchProducts(
+            Long brandId, BigDecimal minPrice, BigDecimal maxPrice, ProductSortType sortType, Pageable pageable, Long userId
+    ) {
+        return searchProductsWithETag(brandId, minPrice, maxPrice, sortType, pageable, userId).body();
+    }
+
+    @Transactional(readOnly = true)
+    public ETagged<PageResponse<ProductV1Dto.ProductInfo>> searchProductsWithETag(
+            Long brandId, BigDecimal minPrice, BigDecimal maxPrice, ProductSortType sortType, Pageable pageable, Long userId
+    ) {
+        ProductCommand.Search condition;
+        try {
+            condition = new ProductCommand.Search(brandId, minPrice, maxPrice, sortType);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, e.getMessage());
+        }
+
+        PageResponse<ProductCatalogInfo> products = productCatalogReader.searchProducts(condition, pageable);
+        Set<Long> likedProductIds = findLikedProductIds(userId, products.getContent().stream().map(ProductCatalogInfo::id).toList());
+
+        return ETagged.weak(
+                pageETagParts(products.getNumber(), products.getTotalElements(), products.getContent(), likedProductIds),
+                () -> products.map(product -> ProductV1Dto.ProductInfo.of(product, likedProductIds.contains(product.id())))
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductV1Dto.ProductInfo> getProductsByCursor(
+            ProductSortType sortType, String cursor, int size, Long userId
+    ) {
+        return getProductsByCursorWithETag(sortType, cursor, size, userId).body();
+    }
+
+    @Transactional(readOnly = true)
+    public ETagged<CursorPageResponse<ProductV1Dto.ProductInfo>> getProductsByCursorWithETag(
+            ProductSortType sortType, String cursor, int size, Long userId
+    ) {
+        ProductCursor decodedCursor = decodeCursor(cursor, sortType);
+        ProductIdList productIds = productCatalogReader.getProductIdsByCursor(sortType, decodedCursor, size);
+        List<ProductFreshness> freshness = productCatalogReader.findFreshness(productIds.productIds());
+        Set<Long> likedProductIds = findLikedProductIds(userId, freshness.stream().map(ProductFreshness::id).toList());
+
+        List<Object> eTagParts = new ArrayList<>(freshnessETagParts(0, 0, freshness, likedProductIds));
+        eTagParts.add(productIds.nextCursor());
+        return ETagged.weak(
+                eTagParts,
+                () -> CursorPageResponse.of(productCatalogReader.getFreshProducts(freshness), productIds.nextCursor(), size)
+                        .map(product -> ProductV1Dto.ProductInfo.of(product, likedProductIds.contains(product.id())))
+        );
+    }
+
+    private Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        return productIds.isEmpty()
+                ? Set.of()
+                : likeService.findLikedProductIds(userId, productIds);
+    }
+
+    /**
+     * 목록 응답을 구성하는 값(페이지 위치, 상품별 버전/좋아요 수/좋아요 여부)을 나열한다. 하나라도 바뀌면 ETag 가 달라진다.
+     */
+    private List<Object> pageETagParts(int pageNumber, long totalElements, List<ProductCatalogInfo> products, Set<Long> likedProductIds) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(pageNumber);
+        parts.add(totalElements);
+        for (ProductCatalogInfo product : products) {
+            parts.add(product.id());
+            parts.add(product.version());
+            parts.add(product.likesCount());
+            parts.add(likedProductIds.contains(product.id()));
+        }
+        return parts;
+    }
+
+    /**
+     * {@link #pageETagParts} 와 같은 값을 상품 정보 대신 freshness 로 나열한다.
+     */
+    private List<Object> freshnessETagParts(int pageNumber, long totalElements, List<ProductFreshness> freshness, Set<Long> likedProductIds) {
+        List<Object> parts = new ArrayList<>();
+        parts.add(pageNumber);
+        parts.add(totalElements);
+        for (ProductFreshness product : freshness) {
+            parts.add(product.id());
+            parts.add(product.version());
+            parts.add(product.likeCount());
+            parts.add(likedProductIds.contains(product.id()));
+        }
+        return parts;
+    }
+
+    private ProductCursor decodeCursor(String cursor, ProductSortType sortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ProductCursor.decode(cursor, sortType);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductCatalogReader;
+import com.loopers.domain.like.LikeCursor;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikedProductSlice;
+import com.loopers.domain.like.LikedProductStore;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 좋아요 토글은 사용자의 좋아요 목록 저장소에서 원자적으로 처리하고, likes 테이블에는 비동기로 반영한다.
+ * 목록이 아직 없으면 DB 에서 채운 뒤 다시 시도하며, 저장소를 사용할 수 없으면 DB 의 상태를 기준으로 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeFacade {
+
+    private final LikeService likeService;
+    private final LikedProductStore likedProductStore;
+    private final LikeWriteBehindBuffer likeWriteBehindBuffer;
+    private final ProductCatalogReader productCatalogReader;
+
+    public void like(Long userId, Long productId) {
+        toggle(userId, productId, true);
+    }
+
+    public void unlike(Long userId, Long productId) {
+        toggle(userId, productId, false);
+    }
+
+    /**
+     * 사용자가 좋아요한 상품을 최근 순으로 조회한다. 좋아요 목록은 인덱스만으로 읽고, 상품 정보는 상품 캐시에서 한 번에 채운다.
+     * 아직 DB 에 반영되지 않은 좋아요는 반영된 뒤부터 목록에 나타난다.
+     */
+    public CursorPageResponse<ProductV1Dto.ProductInfo> getLikedProducts(Long userId, String cursor, int size) {
+        LikedProductSlice likes = likeService.findLikedProducts(userId, decodeCursor(cursor), size);
+        List<ProductV1Dto.ProductInfo> products = productCatalogReader.getProducts(likes.productIds()).stream()
+                .map(product -> ProductV1Dto.ProductInfo.of(product, true))
+                .toList();
+
+        String nextCursor = likes.nextCursor() == null ? null : likes.nextCursor().encode();
+        return CursorPageResponse.of(products, nextCursor, size);
+    }
+
+    private void toggle(Long userId, Long productId, boolean liked) {
+        Optional<Boolean> changed = likedProductStore.toggle(userId, productId, liked);
+        if (changed.isEmpty()) {
+            likeService.loadLikedProductIds(userId);
+            changed = likedProductStore.toggle(userId, productId, liked);
+        }
+
+        if (changed.isEmpty()) {
+            // 아직 반영되지 않은 이전 상태가 나중에 덮어쓰지 않도록 같은 버퍼를 거친다. 상태가 바뀌었는지는 DB 에 반영할 때 판단한다.
+            // 저장소의 목록에는 이 토글이 빠져 있으므로 지우고, DB 에 반영한 뒤에도 한 번 더 지워 그 사이에 다시 채워진 목록을 버린다.
+            log.debug("좋아요 목록 저장소를 사용할 수 없어 DB 로 판단합니다. userId: [{}], productId: [{}]", userId, productId);
+            likedProductStore.evict(userId);
+            likeWriteBehindBuffer.addBypassingStore(userId, productId, liked);
+            return;
+        }
+
+        if (changed.get()) {
+            likeWriteBehindBuffer.add(userId, productId, liked);
+        }
+    }
+
+    private LikeCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return LikeCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
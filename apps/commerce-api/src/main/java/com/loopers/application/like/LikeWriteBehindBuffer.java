@@ -0,0 +1,200 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikeState;
+import com.loopers.domain.like.LikedProductStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 저장소에서 바뀐 상태를 모았다가 주기적으로 likes 테이블에 반영한다.
+ * 사용자와 상품 쌍마다 마지막 상태만 남기므로 짧은 시간 안의 좋아요/취소는 DB 쓰기 한 번(또는 0번)으로 줄어든다.
+ * 반영에 실패하면 그 사이에 더 새로운 상태가 들어오지 않은 쌍만 되돌려 다음 주기에 다시 시도한다.
+ * <p>
+ * 상태는 BATCH_SIZE 개씩 묶어 묶음마다 한 트랜잭션으로 반영한다. 제약 위반처럼 특정 상태 때문에 묶음이 실패하면 하나씩 다시 반영해
+ * 실패한 상태만 골라내고, 같은 상태가 MAX_ATTEMPTS 번 실패하면 로그를 남기고 버린다. 한 상태 때문에 모든 반영이 멈추지 않게 하기 위함이다.
+ * 커넥션 획득 실패처럼 상태와 무관한 실패는 횟수를 세지 않고, 남은 상태를 모두 되돌려 회복될 때까지 다시 시도한다.
+ * <p>
+ * 버퍼는 인스턴스마다 따로 있고 순서를 맞추지 않는다. 한 사용자가 같은 상품을 반영 주기(0.5초)보다 짧은 간격으로 서로 다른
+ * 인스턴스에서 토글하면, DB 에는 나중에 반영한 인스턴스의 상태가 남아 마지막 토글과 다를 수 있다. 이때 좋아요 저장소는 마지막 토글을
+ * 가지고 있어 DB 와 어긋나며, 사용자의 목록은 접근할 때마다 TTL 이 연장되므로 스스로 맞춰지지 않는다.
+ * 같은 사용자의 요청을 한 인스턴스로 보내지 않는 한 이 구간은 남는다.
+ * <ul>
+ *     <li>like.write.buffer.pending: 반영을 기다리는 사용자/상품 쌍의 수</li>
+ *     <li>like.write.flush.duration: 한 번 반영하는 데 걸린 시간</li>
+ *     <li>like.write.discarded: 반복해서 실패해 버린 상태의 수</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class LikeWriteBehindBuffer {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final LikeService likeService;
+    private final LikedProductStore likedProductStore;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Timer flushDuration;
+    private final Counter discarded;
+
+    public LikeWriteBehindBuffer(LikeService likeService, LikedProductStore likedProductStore, MeterRegistry meterRegistry) {
+        this.likeService = likeService;
+        this.likedProductStore = likedProductStore;
+        this.flushDuration = Timer.builder("like.write.flush.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.discarded = Counter.builder("like.write.discarded").register(meterRegistry);
+        Gauge.builder("like.write.buffer.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void add(Long userId, Long productId, boolean liked) {
+        put(userId, productId, new Pending(liked, false, 0));
+    }
+
+    /**
+     * 좋아요 저장소에 기록하지 못한 상태를 넣는다. DB 에 반영한 뒤 사용자의 목록을 지워, DB 기준으로 다시 채워지게 한다.
+     */
+    public void addBypassingStore(Long userId, Long productId, boolean liked) {
+        put(userId, productId, new Pending(liked, true, 0));
+    }
+
+    /**
+     * 모인 상태를 반영하고, 반영한 쌍의 수를 반환한다.
+     */
+    @Scheduled(fixedDelay = 500)
+    public synchronized int flush() {
+        Map<Key, Pending> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Key, Pending>> entries = new ArrayList<>(drained.entrySet());
+        Set<Long> staleUserIds = new HashSet<>();
+        int applied = 0;
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            List<Map.Entry<Key, Pending>> batch = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+            try {
+                applied += applyBatch(batch, staleUserIds);
+            } catch (RuntimeException e) {
+                // 커넥션 획득이나 커밋 실패처럼 DB 예외로 감싸지지 않는 실패도 있으므로, 어떤 실패든 남은 상태를 모두 되돌린다.
+                List<Map.Entry<Key, Pending>> remaining = entries.subList(from, entries.size());
+                log.warn("좋아요 상태 반영 실패. 다음 주기에 다시 시도합니다. size: [{}]", remaining.size(), e);
+                remaining.forEach(entry -> restore(entry.getKey(), entry.getValue()));
+                break;
+            }
+        }
+        flushDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        staleUserIds.forEach(likedProductStore::evict);
+        return applied;
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 반영하고, 특정 상태 때문에 실패하면 하나씩 다시 반영해 실패한 상태만 되돌리거나 버린다.
+     * 상태와 무관한 실패는 호출한 쪽에서 남은 상태를 되돌리도록 그대로 던진다.
+     */
+    private int applyBatch(List<Map.Entry<Key, Pending>> batch, Set<Long> staleUserIds) {
+        try {
+            likeService.applyLikeStates(batch.stream().map(LikeWriteBehindBuffer::toState).toList());
+            batch.forEach(entry -> markStale(entry, staleUserIds));
+            return batch.size();
+        } catch (NonTransientDataAccessException e) {
+            log.warn("좋아요 상태 묶음 반영 실패. 하나씩 다시 반영합니다. size: [{}]", batch.size(), e);
+        }
+
+        int applied = 0;
+        for (Map.Entry<Key, Pending> entry : batch) {
+            try {
+                likeService.applyLikeStates(List.of(toState(entry)));
+                markStale(entry, staleUserIds);
+                applied++;
+            } catch (NonTransientDataAccessException e) {
+                retryOrDiscard(entry.getKey(), entry.getValue(), staleUserIds, e);
+            }
+        }
+        return applied;
+    }
+
+    private void retryOrDiscard(Key key, Pending state, Set<Long> staleUserIds, RuntimeException e) {
+        int attempts = state.attempts() + 1;
+        if (attempts < MAX_ATTEMPTS) {
+            log.warn("좋아요 상태 반영 실패 ({}/{}). userId: [{}], productId: [{}]", attempts, MAX_ATTEMPTS, key.userId(), key.productId(), e);
+            restore(key, new Pending(state.liked(), state.bypassedStore(), attempts));
+            return;
+        }
+
+        log.error("좋아요 상태를 {}번 반영하지 못해 버립니다. userId: [{}], productId: [{}], liked: [{}]",
+                attempts, key.userId(), key.productId(), state.liked(), e);
+        discarded.increment();
+        // 좋아요 저장소에는 버린 상태가 남아 있으므로, DB 기준으로 다시 채워지게 지운다.
+        staleUserIds.add(key.userId());
+    }
+
+    private static void markStale(Map.Entry<Key, Pending> entry, Set<Long> staleUserIds) {
+        if (entry.getValue().bypassedStore()) {
+            staleUserIds.add(entry.getKey().userId());
+        }
+    }
+
+    private static LikeState toState(Map.Entry<Key, Pending> entry) {
+        return new LikeState(entry.getKey().userId(), entry.getKey().productId(), entry.getValue().liked());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("종료 전에 반영하지 못한 좋아요 상태가 있습니다. {}", pending);
+        }
+    }
+
+    private void put(Long userId, Long productId, Pending state) {
+        // 저장소에 기록하지 못한 상태가 있었다는 사실은, 그 뒤에 더 새로운 상태가 들어와도 남겨 둔다.
+        pending.merge(new Key(userId, productId), state,
+                (previous, latest) -> new Pending(latest.liked(), previous.bypassedStore() || latest.bypassedStore(), 0));
+    }
+
+    /**
+     * 그 사이에 더 새로운 상태가 들어왔으면 그 상태를 남기고, 저장소를 지워야 한다는 표시만 합친다. 실패 횟수는 새 상태로 다시 센다.
+     */
+    private void restore(Key key, Pending drained) {
+        pending.merge(key, drained,
+                (latest, previous) -> new Pending(latest.liked(), latest.bypassedStore() || previous.bypassedStore(), latest.attempts()));
+    }
+
+    private Map<Key, Pending> drain() {
+        Map<Key, Pending> drained = new HashMap<>();
+        for (Key key : List.copyOf(pending.keySet())) {
+            Pending state = pending.remove(key);
+            if (state != null) {
+                drained.put(key, state);
+            }
+        }
+        return drained;
+    }
+
+    private record Key(Long userId, Long productId) {
+    }
+
+    private record Pending(boolean liked, boolean bypassedStore, int attempts) {
+    }
+}
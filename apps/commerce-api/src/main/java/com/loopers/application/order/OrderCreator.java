@@ -0,0 +1,126 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.StockReserver;
+import com.loopers.domain.coupon.CouponEntity;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.event.OrderPlacedEvent;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductView;
+import com.loopers.domain.user.UserEntity;
+import com.loopers.domain.user.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약이 끝난 주문을 하나의 트랜잭션 안에서 생성한다.
+ * 예약한 주문이 커밋되지 않으면 트랜잭션 종료 후 예약을 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCreator {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserService userService;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final CouponService couponService;
+    private final StockReserver stockReserver;
+
+    @Transactional
+    public OrderInfo create(OrderCommand.Place command, Map<Long, Integer> quantities, boolean stockReserved) {
+        if (stockReserved) {
+            releaseOnRollback(quantities);
+        }
+
+        UserEntity user = userService.findById(command.userId());
+
+        // 1. 상품 조회 및 재고 확인
+        List<OrderItemInfo> orderItems = checkStocks(command.items(), stockReserved);
+
+        // 2. 주문 생성
+        OrderEntity order = orderService.save(OrderEntity.create(user));
+        orderItems.forEach(order::addOrderItem);
+        if (stockReserved) {
+            order.markStockAsReserved();
+        }
+
+        // 3. 쿠폰 적용 로직
+        applyCoupon(order, command.couponId());
+
+        // 4. 주문 상태 업데이트
+        OrderEntity saved = orderService.save(order);
+
+        // 5. 주문생성 이벤트 발행
+        eventPublisher.publishEvent(new OrderPlacedEvent(saved.getId(), command.paymentMethod(), saved.getFinalPrice(), orderItems));
+
+        return OrderInfo.from(saved, command.paymentMethod());
+    }
+
+    private void releaseOnRollback(Map<Long, Integer> quantities) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    stockReserver.release(quantities);
+                }
+            }
+        });
+    }
+
+    /**
+     * 주문할 상품을 한 번의 쿼리로 조회한다. 재고를 예약한 주문은 예약에서 이미 재고를 확인했으므로 DB 재고와 비교하지 않는다.
+     */
+    private List<OrderItemInfo> checkStocks(List<OrderCommand.OrderItemDetail> items, boolean stockReserved) {
+        Map<Long, ProductView> productsById = productService.findViewsByIds(
+                items.stream().map(OrderCommand.OrderItemDetail::productId).distinct().toList()
+        ).stream().collect(Collectors.toMap(ProductView::id, Function.identity()));
+
+        return items.stream()
+                .map(item -> {
+                    ProductView product = productsById.get(item.productId());
+                    if (product == null) {
+                        throw new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + item.productId());
+                    }
+                    if (!stockReserved && product.stock() < item.quantity()) {
+                        throw new IllegalArgumentException("재고가 부족합니다.");
+                    }
+                    return new OrderItemInfo(
+                            product.id(),
+                            product.name(),
+                            product.price(),
+                            item.quantity()
+                    );
+                })
+                .toList();
+    }
+
+    private void applyCoupon(OrderEntity order, Long couponId) {
+        if (couponId == null) {
+            return;
+        }
+
+        CouponEntity coupon = couponService.findById(couponId);
+        coupon.validateAvailability(order.getUser().getId());
+
+        BigDecimal originalPrice = order.getOriginalPrice();
+        BigDecimal discountAmount = coupon.getDiscountAmount(originalPrice);
+
+        coupon.use();
+        coupon.applyToOrder(order.getId());
+        couponService.save(coupon);
+        order.applyDiscount(coupon.getId(), discountAmount);
+    }
+}
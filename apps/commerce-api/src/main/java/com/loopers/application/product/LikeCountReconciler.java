@@ -0,0 +1,161 @@
+package com.loopers.application.product;
+
+import com.loopers.config.LikeCountReconciliationProperties;
+import com.loopers.domain.like.LikeCountReconciliationCheckpoint;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.LikeCountCorrection;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품의 like_count 와 likes 에서 센 좋아요 수를 비교해, 어긋난 값을 바로잡는다.
+ * <p>
+ * 상품을 id 순으로 chunk-size 개씩 읽고, 그 상품들의 좋아요 수를 product_id 인덱스로 한 번에 센다.
+ * 실행마다 최대 chunks-per-run 개의 청크만 처리하고 청크 사이에 pause 만큼 쉬어 DB 부하를 제한하며,
+ * 처리한 위치를 저장해 두므로 다음 실행이나 재기동 후에도 이어서 처리한다. 마지막 상품까지 처리하면 처음부터 다시 돈다.
+ * <p>
+ * 버퍼에 남은 좋아요가 반영되는 중이면 잠시 어긋나 보일 수 있으므로, 어긋난 상품은 settle-delay 뒤에 다시 확인해
+ * 두 번 모두 같은 값으로 어긋난 상품만 바로잡는다. 바로잡을 때도 읽었던 like_count 그대로인 경우에만 바꾼다.
+ * 이 노드의 버퍼에 아직 반영되지 않은 변화량이 있는 상품은 바로잡지 않고 다음 실행으로 넘긴다.
+ * settle-delay 동안 버퍼가 반영될 수 있도록 스케줄러 스레드가 아닌 배치 스레드에서 실행한다.
+ * <ul>
+ *     <li>like.count.reconciliation.checked: 비교한 상품 수</li>
+ *     <li>like.count.reconciliation.drifted: 처음 비교에서 어긋난 상품 수</li>
+ *     <li>like.count.reconciliation.corrected: 바로잡은 상품 수</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class LikeCountReconciler {
+
+    private final ProductService productService;
+    private final LikeService likeService;
+    private final ProductLikeCountBuffer likeCountBuffer;
+    private final LikeCountReconciliationCheckpoint checkpoint;
+    private final LikeCountReconciliationProperties properties;
+    private final Counter checked;
+    private final Counter drifted;
+    private final Counter corrected;
+
+    public LikeCountReconciler(
+            ProductService productService,
+            LikeService likeService,
+            ProductLikeCountBuffer likeCountBuffer,
+            LikeCountReconciliationCheckpoint checkpoint,
+            LikeCountReconciliationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.likeService = likeService;
+        this.likeCountBuffer = likeCountBuffer;
+        this.checkpoint = checkpoint;
+        this.properties = properties;
+        this.checked = Counter.builder("like.count.reconciliation.checked").register(meterRegistry);
+        this.drifted = Counter.builder("like.count.reconciliation.drifted").register(meterRegistry);
+        this.corrected = Counter.builder("like.count.reconciliation.corrected").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 저장된 위치부터 최대 chunks-per-run 개의 청크를 처리한다. 다른 인스턴스가 실행 중이면 건너뛴다.
+     */
+    public ReconciliationResult reconcile() {
+        if (!checkpoint.tryLock(properties.lockLease())) {
+            log.info("다른 인스턴스에서 좋아요 수 정합성 작업을 실행 중이므로 건너뜁니다.");
+            return new ReconciliationResult(0, 0, false);
+        }
+
+        try {
+            long lastId = checkpoint.lastProductId();
+            int checkedCount = 0;
+            int correctedCount = 0;
+            for (int i = 0; i < properties.chunksPerRun(); i++) {
+                List<ProductSortKey> chunk = productService.findSortKeysAfter(lastId, properties.chunkSize());
+                if (!chunk.isEmpty()) {
+                    checkedCount += chunk.size();
+                    correctedCount += reconcileChunk(chunk);
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+
+                if (chunk.size() < properties.chunkSize()) {
+                    checkpoint.save(0L);
+                    log.info("좋아요 수 정합성 작업이 마지막 상품까지 처리했습니다. 비교 [{}], 바로잡음 [{}]", checkedCount, correctedCount);
+                    return new ReconciliationResult(checkedCount, correctedCount, true);
+                }
+                checkpoint.save(lastId);
+                if (!sleep(properties.pause())) {
+                    break;
+                }
+            }
+            return new ReconciliationResult(checkedCount, correctedCount, false);
+        } finally {
+            checkpoint.unlock();
+        }
+    }
+
+    private int reconcileChunk(List<ProductSortKey> chunk) {
+        List<Long> productIds = chunk.stream()
+                .map(ProductSortKey::id)
+                .toList();
+        Map<Long, Long> likesCounts = likeService.getLikesCounts(productIds);
+        Map<Long, Long> driftedLikeCounts = chunk.stream()
+                .filter(product -> product.likeCount() != likesCounts.getOrDefault(product.id(), 0L))
+                .collect(Collectors.toMap(ProductSortKey::id, ProductSortKey::likeCount));
+        checked.increment(chunk.size());
+        if (driftedLikeCounts.isEmpty()) {
+            return 0;
+        }
+        drifted.increment(driftedLikeCounts.size());
+
+        if (!sleep(properties.settleDelay())) {
+            return 0;
+        }
+        List<Long> driftedIds = new ArrayList<>(driftedLikeCounts.keySet());
+        Map<Long, Long> recounted = likeService.getLikesCounts(driftedIds);
+        List<LikeCountCorrection> corrections = productService.findFreshnessByIds(driftedIds).stream()
+                .filter(product -> product.likeCount() == driftedLikeCounts.get(product.id()))
+                .filter(product -> !likeCountBuffer.hasPending(product.id()))
+                .filter(product -> recounted.getOrDefault(product.id(), 0L).equals(likesCounts.getOrDefault(product.id(), 0L)))
+                .map(product -> new LikeCountCorrection(product.id(), product.likeCount(), recounted.getOrDefault(product.id(), 0L)))
+                .toList();
+
+        int correctedCount = productService.correctLikeCounts(corrections);
+        corrected.increment(correctedCount);
+        if (correctedCount > 0) {
+            log.info("좋아요 수를 바로잡았습니다. {}", corrections);
+        }
+        return correctedCount;
+    }
+
+    private static boolean sleep(Duration duration) {
+        if (duration.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param completed 이번 실행에서 마지막 상품까지 처리해 다음 실행은 처음부터 시작하는지 여부
+     */
+    public record ReconciliationResult(int checked, int corrected, boolean completed) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.application.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품이 바뀌었을 때 관련된 캐시만 무효화한다.
+ * 목록은 id 만 캐시하므로 재고 변경은 상품 캐시 항목을 지우는 것으로 충분하다.
+ * 정렬 순서가 바뀔 수 있으면 그 상품이 담긴 목록만 지우고, 상품이 생성/삭제되면 모든 목록의 구성과 전체 개수가 바뀌므로 목록을 모두 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductIdListReader productIdListReader;
+
+    public void evict(List<Long> productIds, boolean sortKeyChanged, boolean listingChanged) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        productCatalogCache.evictAll(productIds);
+        if (listingChanged) {
+            productIdListReader.evictAllLists();
+        } else if (sortKeyChanged) {
+            productIdListReader.evictListsContaining(productIds);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.loopers.application.product;
+
+import com.loopers.config.CacheProperties;
+import com.loopers.domain.product.ProductFreshness;
+import com.loopers.domain.product.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시된 상품 일부를 골라 DB 와 비교해 캐시가 얼마나 자주, 얼마나 오래 어긋나 있는지 기록한다.
+ * 검사마다 최대 cache.consistency.sample-size 개만 보고, DB 는 id 목록으로 한 번만 조회한다.
+ * <ul>
+ *     <li>cache.consistency.samples: 검사한 키 수 (result: consistent, stale, deleted)</li>
+ *     <li>cache.consistency.mismatches: 어긋난 항목 수 (field: version, likes_count)</li>
+ *     <li>cache.consistency.staleness: 버전이 어긋난 항목이 DB 변경 후 지난 시간</li>
+ *     <li>cache.consistency.mismatch.ratio: 직전 검사에서 어긋난 키의 비율 (0 ~ 1)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProductCacheVerifier {
+
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductService productService;
+    private final CacheProperties.ConsistencySpec consistencySpec;
+    private final Counter consistentSamples;
+    private final Counter staleSamples;
+    private final Counter deletedSamples;
+    private final Counter versionMismatches;
+    private final Counter likesCountMismatches;
+    private final Timer staleness;
+    private volatile double lastMismatchRatio;
+
+    public ProductCacheVerifier(
+            ProductCatalogCache productCatalogCache,
+            ProductService productService,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productCatalogCache = productCatalogCache;
+        this.productService = productService;
+        this.consistencySpec = cacheProperties.consistency();
+        this.consistentSamples = sampleCounter(meterRegistry, "consistent");
+        this.staleSamples = sampleCounter(meterRegistry, "stale");
+        this.deletedSamples = sampleCounter(meterRegistry, "deleted");
+        this.versionMismatches = mismatchCounter(meterRegistry, "version");
+        this.likesCountMismatches = mismatchCounter(meterRegistry, "likes_count");
+        this.staleness = Timer.builder("cache.consistency.staleness")
+                .tag("cache", ProductCatalogCache.CACHE_NAME)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("cache.consistency.mismatch.ratio", this, verifier -> verifier.lastMismatchRatio)
+                .tag("cache", ProductCatalogCache.CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return consistencySpec.enabled();
+    }
+
+    public VerificationResult verify() {
+        Map<Long, ProductCatalogInfo> cached = productCatalogCache.sampleCached(consistencySpec.sampleSize());
+        if (cached.isEmpty()) {
+            return new VerificationResult(0, 0, 0);
+        }
+
+        List<Long> productIds = new ArrayList<>(cached.keySet());
+        Map<Long, ProductFreshness> sources = productService.findFreshnessByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductFreshness::id, Function.identity()));
+        ZonedDateTime now = ZonedDateTime.now();
+
+        int stale = 0;
+        int deleted = 0;
+        for (ProductCatalogInfo product : cached.values()) {
+            ProductFreshness source = sources.get(product.id());
+            if (source == null) {
+                deleted++;
+                deletedSamples.increment();
+                continue;
+            }
+
+            boolean versionChanged = !Objects.equals(product.version(), source.version());
+            boolean likesCountChanged = product.likesCount() != source.likeCount();
+            if (versionChanged) {
+                versionMismatches.increment();
+                // 수정 시각 이후로 캐시가 계속 이전 값을 들고 있었으므로, 그 시간이 최소한의 staleness 다.
+                if (source.updatedAt() != null) {
+                    staleness.record(Duration.between(source.updatedAt(), now));
+                }
+            }
+            if (likesCountChanged) {
+                likesCountMismatches.increment();
+            }
+            if (versionChanged || likesCountChanged) {
+                stale++;
+                staleSamples.increment();
+            } else {
+                consistentSamples.increment();
+            }
+        }
+
+        lastMismatchRatio = (double) (stale + deleted) / cached.size();
+        if (stale + deleted > 0) {
+            log.info("캐시 정합성 검사: 검사 [{}], 불일치 [{}], 삭제됨 [{}]", cached.size(), stale, deleted);
+        }
+        return new VerificationResult(cached.size(), stale, deleted);
+    }
+
+    private static Counter sampleCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.consistency.samples")
+                .tag("cache", ProductCatalogCache.CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter mismatchCounter(MeterRegistry meterRegistry, String field) {
+        return Counter.builder("cache.consistency.mismatches")
+                .tag("cache", ProductCatalogCache.CACHE_NAME)
+                .tag("field", field)
+                .register(meterRegistry);
+    }
+
+    public record VerificationResult(int sampled, int stale, int deleted) {
+    }
+}
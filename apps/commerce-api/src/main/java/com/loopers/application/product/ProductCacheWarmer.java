@@ -0,0 +1,109 @@
+package com.loopers.application.product;
+
+import com.loopers.config.CacheProperties;
+import com.loopers.domain.product.ProductAccessStats;
+import com.loopers.domain.product.ProductSortType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최근 조회가 많은 상품과 정렬 기준별 첫 페이지를 캐시(L1, L2)에 미리 적재한다.
+ * 새로 뜬 인스턴스가 빈 캐시로 트래픽을 받아 DB 로 미스가 몰리는 것을 막기 위함이다.
+ * <ul>
+ *     <li>cache.warmup.duration: 예열에 걸린 시간</li>
+ *     <li>cache.warmup.progress: 끝난 작업 / 전체 작업 (0 ~ 1)</li>
+ *     <li>cache.warmup.entries: 적재한 항목 수 (type: product, page)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProductCacheWarmer {
+
+    private static final int BATCH_SIZE = 100;
+    private static final List<Sort> PAGE_SORTS = List.of(
+            Sort.unsorted(),
+            Sort.by(Sort.Direction.DESC, "createdAt"),
+            Sort.by(Sort.Direction.ASC, "price"),
+            Sort.by(Sort.Direction.DESC, "likeCount")
+    );
+
+    private final ProductCatalogReader productCatalogReader;
+    private final ProductAccessStats productAccessStats;
+    private final CacheProperties.WarmUpSpec warmUpSpec;
+    private final Timer duration;
+    private final Counter productEntries;
+    private final Counter pageEntries;
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger totalTasks = new AtomicInteger();
+
+    public ProductCacheWarmer(
+            ProductCatalogReader productCatalogReader,
+            ProductAccessStats productAccessStats,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productCatalogReader = productCatalogReader;
+        this.productAccessStats = productAccessStats;
+        this.warmUpSpec = cacheProperties.warmUp();
+        this.duration = Timer.builder("cache.warmup.duration").register(meterRegistry);
+        this.productEntries = Counter.builder("cache.warmup.entries").tag("type", "product").register(meterRegistry);
+        this.pageEntries = Counter.builder("cache.warmup.entries").tag("type", "page").register(meterRegistry);
+        Gauge.builder("cache.warmup.progress", this, ProductCacheWarmer::progress).register(meterRegistry);
+    }
+
+    /**
+     * 예열 작업을 순서대로 실행한다. 한 작업이 실패해도 나머지는 계속하며, 캐시는 요청 시 다시 채워진다.
+     */
+    public void warmUp() {
+        long startedAt = System.nanoTime();
+        List<Runnable> tasks = new ArrayList<>();
+
+        List<Long> topProductIds = productAccessStats.findTopProductIds(warmUpSpec.topProducts());
+        for (int from = 0; from < topProductIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = topProductIds.subList(from, Math.min(from + BATCH_SIZE, topProductIds.size()));
+            tasks.add(() -> productEntries.increment(productCatalogReader.getProducts(batch).size()));
+        }
+        for (Sort sort : PAGE_SORTS) {
+            tasks.add(() -> {
+                productCatalogReader.getProducts(PageRequest.of(0, warmUpSpec.pageSize(), sort));
+                pageEntries.increment();
+            });
+        }
+        for (ProductSortType sortType : ProductSortType.values()) {
+            tasks.add(() -> {
+                productCatalogReader.getProductsByCursor(sortType, null, warmUpSpec.pageSize());
+                pageEntries.increment();
+            });
+        }
+
+        completedTasks.set(0);
+        totalTasks.set(tasks.size());
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("캐시 예열 작업 실패", e);
+            }
+            completedTasks.incrementAndGet();
+        }
+
+        duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("캐시 예열 완료. products: [{}], tasks: [{}]", topProductIds.size(), tasks.size());
+    }
+
+    private double progress() {
+        int total = totalTasks.get();
+        return total == 0 ? 0 : (double) completedTasks.get() / total;
+    }
+}
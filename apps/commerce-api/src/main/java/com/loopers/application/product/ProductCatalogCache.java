@@ -0,0 +1,63 @@
+package com.loopers.application.product;
+
+import com.loopers.infrastructure.cache.TwoTierCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 카탈로그 캐시(product)를 여러 건 단위로 다룬다.
+ * 단건 조회는 {@link ProductCatalogReader#getProduct(Long)} 의 @Cacheable 을 사용하며, 키 형식을 공유한다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    public static final String CACHE_NAME = "product";
+
+    private final TwoTierCache cache;
+
+    public ProductCatalogCache(CacheManager cacheManager) {
+        this.cache = (TwoTierCache) Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    public static String keyOf(Long productId) {
+        return "product:" + productId;
+    }
+
+    public Map<Long, ProductCatalogInfo> getAll(List<Long> productIds) {
+        return cache.getAll(productIds.stream().map(ProductCatalogCache::keyOf).toList()).values().stream()
+                .map(ProductCatalogInfo.class::cast)
+                .collect(Collectors.toMap(ProductCatalogInfo::id, Function.identity()));
+    }
+
+    public void putAll(List<ProductCatalogInfo> products) {
+        cache.putAll(products.stream().collect(Collectors.toMap(product -> keyOf(product.id()), Function.identity())));
+    }
+
+    /**
+     * 이 노드에서 최근 조회된 상품 중 최대 n 개를 무작위로 골라, L2 에 캐시된 값을 반환한다. 캐시 상태는 바꾸지 않는다.
+     */
+    public Map<Long, ProductCatalogInfo> sampleCached(int n) {
+        return cache.peekRemote(cache.sampleLocalKeys(n)).values().stream()
+                .map(ProductCatalogInfo.class::cast)
+                .collect(Collectors.toMap(ProductCatalogInfo::id, Function.identity()));
+    }
+
+    /**
+     * 캐시에서 찾지 못한 상품을 원본에서 읽는다. Redis 장애 중에는 원본 조회의 동시 실행 수가 제한된다.
+     */
+    public <T> T loadMisses(Supplier<T> loader) {
+        return cache.loadMisses(loader);
+    }
+
+    public void evictAll(Collection<Long> productIds) {
+        cache.evictAll(productIds.stream().map(ProductCatalogCache::keyOf).toList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductView;
+
+import java.math.BigDecimal;
+
+/**
+ * 모든 사용자가 공유하는 상품 카탈로그 정보. 사용자별 정보(좋아요 여부)는 포함하지 않으므로 상품 단위로 한 번만 캐시된다.
+ */
+public record ProductCatalogInfo(
+        Long id,
+        String name,
+        BigDecimal price,
+        int stock,
+        String brandName,
+        long likesCount,
+        Long version
+) {
+    /**
+     * 좋아요 수는 상품의 like_count 를 그대로 쓴다. likes 와 어긋난 값은 {@link LikeCountReconciler} 가 주기적으로 바로잡는다.
+     */
+    public static ProductCatalogInfo of(ProductView product) {
+        if (product == null) {
+            throw new IllegalArgumentException("상품 정보는 null일 수 없습니다.");
+        }
+        return new ProductCatalogInfo(
+                product.id(),
+                product.name(),
+                product.price(),
+                product.stock(),
+                product.brandName(),
+                product.likeCount(),
+                product.version()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductFreshness;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductView;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자와 무관한 상품 카탈로그를 조회하고 캐시한다.
+ * 캐시 키에 사용자 ID가 포함되지 않으므로 하나의 캐시 엔트리를 모든 사용자가 공유한다.
+ * 인기 키가 만료될 때 동시 요청이 한꺼번에 DB 로 몰리지 않도록 sync 모드로 조회하여 키당 하나의 로더만 실행한다.
+ * <p>
+ * 목록은 정렬된 id 목록만 캐시하고({@link ProductIdListReader}), 조회 시점에 상품 캐시의 항목으로 조합한다.
+ * 따라서 상품 하나가 바뀌면 그 상품의 캐시 항목만 지우면 모든 목록에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogReader {
+
+    private final ProductService productService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductIdListReader productIdListReader;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = ProductCatalogCache.CACHE_NAME, key = "T(com.loopers.application.product.ProductCatalogCache).keyOf(#productId)", sync = true)
+    public ProductCatalogInfo getProduct(Long productId) {
+        return ProductCatalogInfo.of(productService.findViewById(productId));
+    }
+
+    /**
+     * 여러 상품을 요청한 순서대로 조회한다. 존재하지 않는 상품은 결과에서 빠진다.
+     * 캐시된 상품은 MGET 한 번으로 가져오고, 미스난 상품만 한 번의 쿼리로 읽어 캐시에 채운다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductCatalogInfo> getProducts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductCatalogInfo> productsById = productCatalogCache.getAll(productIds);
+
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !productsById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            List<ProductCatalogInfo> loaded = productCatalogCache.loadMisses(() -> productService.findViewsByIds(missingIds).stream()
+                    .map(ProductCatalogInfo::of)
+                    .toList());
+            productCatalogCache.putAll(loaded);
+            loaded.forEach(product -> productsById.put(product.id(), product));
+        }
+
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ProductCatalogInfo> getProducts(Pageable pageable) {
+        ProductIdList productIds = getProductIds(pageable);
+        List<ProductCatalogInfo> products = getProducts(productIds.productIds());
+
+        return PageResponse.from(new PageImpl<>(products, pageable, productIds.totalElements()));
+    }
+
+    /**
+     * 정렬된 id 목록만 조회한다. 상품 정보는 {@link #getProducts(List)} 나 {@link #getFreshProducts(List)} 로 따로 조합한다.
+     */
+    public ProductIdList getProductIds(Pageable pageable) {
+        return productIdListReader.getProductIds(pageable);
+    }
+
+    public ProductIdList getProductIdsByCursor(ProductSortType sortType, ProductCursor cursor, int size) {
+        return productIdListReader.getProductIdsByCursor(sortType, cursor, size);
+    }
+
+    /**
+     * 상품의 현재 버전과 좋아요 수를 projection 한 번으로 읽어 요청한 순서대로 반환한다. 존재하지 않는 상품은 결과에서 빠진다.
+     * 상품 정보를 조합하기 전에 응답이 바뀌었는지 판단하는 데 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductFreshness> findFreshness(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductFreshness> freshnessById = productService.findFreshnessByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductFreshness::id, Function.identity()));
+        return productIds.stream()
+                .map(freshnessById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * {@link #findFreshness(List)} 로 읽은 상품을 조합한다. 캐시된 상품이 그보다 오래되었으면 캐시를 지우고 다시 읽어,
+     * 응답 본문이 freshness 로 만든 ETag 보다 오래된 값을 담지 않게 한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductCatalogInfo> getFreshProducts(List<ProductFreshness> freshness) {
+        List<Long> productIds = freshness.stream().map(ProductFreshness::id).toList();
+        List<ProductCatalogInfo> products = getProducts(productIds);
+
+        Map<Long, ProductCatalogInfo> productsById = products.stream()
+                .collect(Collectors.toMap(ProductCatalogInfo::id, Function.identity()));
+        List<Long> staleIds = freshness.stream()
+                .filter(source -> !isSameAs(productsById.get(source.id()), source))
+                .map(ProductFreshness::id)
+                .toList();
+        if (staleIds.isEmpty()) {
+            return products;
+        }
+
+        productCatalogCache.evictAll(staleIds);
+        return getProducts(productIds);
+    }
+
+    /**
+     * 검색 조건 조합이 많아 캐시 적중률이 낮으므로 캐시하지 않고 인덱스를 타는 쿼리로 바로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ProductCatalogInfo> searchProducts(ProductCommand.Search condition, Pageable pageable) {
+        Page<ProductView> products = productService.search(condition, pageable);
+
+        return PageResponse.from(products.map(ProductCatalogInfo::of));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductCatalogInfo> getProductsByCursor(ProductSortType sortType, ProductCursor cursor, int size) {
+        ProductIdList productIds = getProductIdsByCursor(sortType, cursor, size);
+        List<ProductCatalogInfo> products = getProducts(productIds.productIds());
+
+        return CursorPageResponse.of(products, productIds.nextCursor(), size);
+    }
+
+    private static boolean isSameAs(ProductCatalogInfo product, ProductFreshness source) {
+        return product != null
+                && Objects.equals(product.version(), source.version())
+                && product.likesCount() == source.likeCount();
+    }
+}
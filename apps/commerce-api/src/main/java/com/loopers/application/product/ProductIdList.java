@@ -0,0 +1,15 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * 목록 캐시에 저장하는 정렬된 상품 id 목록. 상품 정보는 조회 시점에 상품 캐시에서 가져와 조합한다.
+ *
+ * @param nextCursor 커서 기반 조회의 다음 커서. 페이지 조회에서는 null 이다.
+ */
+public record ProductIdList(
+        List<Long> productIds,
+        long totalElements,
+        String nextCursor
+) {
+}
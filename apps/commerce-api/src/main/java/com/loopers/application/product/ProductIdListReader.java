@@ -0,0 +1,106 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductScroll;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductView;
+import com.loopers.infrastructure.cache.TwoTierCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 상품 목록을 정렬된 id 목록으로 캐시(products)한다.
+ * 목록을 읽으면서 함께 얻은 상품 정보는 상품 캐시에 채워 두고, 목록 키에는 담긴 상품마다 태그를 달아 상품 -> 목록 키 색인을 만든다.
+ * 좋아요 수가 바뀌면 그 상품이 담긴 목록만 지운다. 상품이 원래 없던 목록으로 옮겨가는 경우는 그 목록의 TTL 이 지나야 반영된다.
+ */
+@Component
+public class ProductIdListReader {
+
+    public static final String CACHE_NAME = "products";
+    private static final String ALL_LISTS_TAG = "lists";
+
+    private final ProductService productService;
+    private final ProductCatalogCache productCatalogCache;
+    private final TwoTierCache cache;
+
+    public ProductIdListReader(
+            ProductService productService,
+            ProductCatalogCache productCatalogCache,
+            CacheManager cacheManager
+    ) {
+        this.productService = productService;
+        this.productCatalogCache = productCatalogCache;
+        this.cache = (TwoTierCache) Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    public static String pageKey(Pageable pageable) {
+        return "ids:page:" + pageable.getPageNumber() + ":size:" + pageable.getPageSize() + ":sort:" + pageable.getSort();
+    }
+
+    public static String cursorKey(ProductSortType sortType, ProductCursor cursor, int size) {
+        return "ids:cursor:" + sortType + ":" + (cursor != null ? cursor.encode() : null) + ":size:" + size;
+    }
+
+    public static String productTagOf(Long productId) {
+        return "product:" + productId;
+    }
+
+    public ProductIdList getProductIds(Pageable pageable) {
+        return cache.getTagged(pageKey(pageable), ProductIdListReader::tagsOf, () -> {
+            Page<ProductView> products = productService.findAll(pageable);
+            return new ProductIdList(cacheProducts(products.getContent()), products.getTotalElements(), null);
+        });
+    }
+
+    public ProductIdList getProductIdsByCursor(ProductSortType sortType, ProductCursor cursor, int size) {
+        return cache.getTagged(cursorKey(sortType, cursor, size), ProductIdListReader::tagsOf, () -> {
+            ProductScroll scroll = productService.findAllByCursor(sortType, cursor, size);
+            List<Long> productIds = cacheProducts(scroll.products());
+            return new ProductIdList(productIds, productIds.size(), scroll.hasNext() ? scroll.nextCursor().encode() : null);
+        });
+    }
+
+    /**
+     * 주어진 상품이 담긴 목록만 무효화한다.
+     */
+    public void evictListsContaining(List<Long> productIds) {
+        cache.evictTagged(productIds.stream()
+                .map(ProductIdListReader::productTagOf)
+                .toList());
+    }
+
+    /**
+     * 모든 목록을 무효화한다.
+     */
+    public void evictAllLists() {
+        cache.evictTagged(List.of(ALL_LISTS_TAG));
+    }
+
+    /**
+     * 담긴 상품마다 태그를 달고, 모든 목록을 한 번에 지울 수 있도록 공통 태그도 단다.
+     */
+    private static List<String> tagsOf(ProductIdList productIdList) {
+        return Stream.concat(
+                Stream.of(ALL_LISTS_TAG),
+                productIdList.productIds().stream().map(ProductIdListReader::productTagOf)
+        ).toList();
+    }
+
+    private List<Long> cacheProducts(List<ProductView> products) {
+        List<Long> productIds = products.stream()
+                .map(ProductView::id)
+                .toList();
+
+        productCatalogCache.putAll(products.stream()
+                .map(ProductCatalogInfo::of)
+                .toList());
+        return productIds;
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좋아요 이벤트마다 상품 행을 잠그고 갱신하지 않도록, 상품별 좋아요 수 변화량을 모았다가 주기적으로 한 번에 반영한다.
+ * 같은 상품에 대한 좋아요/취소는 구간 안에서 상쇄되고, 남은 변화량만 상품당 UPDATE 한 문장으로 배치 전송한다.
+ * 반영에 실패한 변화량은 버퍼로 되돌려 다음 주기에 다시 시도하고, 종료 시에는 남은 변화량을 모두 반영한다.
+ * <ul>
+ *     <li>like.count.buffer.events: 버퍼에 들어온 좋아요 이벤트 수</li>
+ *     <li>like.count.buffer.rows: DB 에 반영한 상품 행 수</li>
+ *     <li>like.count.buffer.pending: 반영을 기다리는 상품 수</li>
+ *     <li>like.count.flush.duration: 한 번 반영하는 데 걸린 시간</li>
+ *     <li>like.count.flush.lag: 반영된 변화량 중 가장 오래된 것이 버퍼에서 기다린 시간</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProductLikeCountBuffer {
+
+    private static final long NO_PENDING = -1L;
+
+    private final ProductService productService;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicLong oldestPendingAt = new AtomicLong(NO_PENDING);
+    private final Counter events;
+    private final Counter flushedRows;
+    private final Timer flushDuration;
+    private final Timer flushLag;
+
+    public ProductLikeCountBuffer(ProductService productService, MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.events = Counter.builder("like.count.buffer.events").register(meterRegistry);
+        this.flushedRows = Counter.builder("like.count.buffer.rows").register(meterRegistry);
+        this.flushDuration = Timer.builder("like.count.flush.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("like.count.flush.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("like.count.buffer.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void add(Long productId, long delta) {
+        oldestPendingAt.compareAndSet(NO_PENDING, System.currentTimeMillis());
+        pending.merge(productId, delta, Long::sum);
+        events.increment();
+    }
+
+    /**
+     * 아직 반영하지 않은 변화량이 있는지 확인한다. 반영 중인 변화량은 버퍼에서 꺼낸 뒤이므로 포함하지 않는다.
+     */
+    public boolean hasPending(Long productId) {
+        return pending.containsKey(productId);
+    }
+
+    /**
+     * 모인 변화량을 반영하고, 반영한 상품 수를 반환한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public synchronized int flush() {
+        long since = oldestPendingAt.getAndSet(NO_PENDING);
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            productService.applyLikeCountDeltas(deltas);
+        } catch (RuntimeException e) {
+            // 커넥션 획득이나 커밋 실패처럼 DB 예외로 감싸지지 않는 실패도 있으므로, 어떤 실패든 꺼낸 변화량을 되돌린다.
+            log.warn("좋아요 수 반영 실패. 다음 주기에 다시 시도합니다. size: [{}]", deltas.size(), e);
+            restore(deltas, since);
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        flushDuration.record(Duration.ofMillis(now - startedAt));
+        if (since != NO_PENDING) {
+            flushLag.record(Duration.ofMillis(now - since));
+        }
+        int rows = (int) deltas.values().stream().filter(delta -> delta != 0).count();
+        flushedRows.increment(rows);
+        return rows;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("종료 전에 반영하지 못한 좋아요 수가 있습니다. {}", pending);
+        }
+    }
+
+    /**
+     * 키마다 원자적으로 꺼내므로, 꺼내는 도중 들어온 변화량은 다음 주기로 넘어갈 뿐 사라지지 않는다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long productId : List.copyOf(pending.keySet())) {
+            Long delta = pending.remove(productId);
+            if (delta != null) {
+                deltas.put(productId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(Map<Long, Long> deltas, long since) {
+        deltas.forEach((productId, delta) -> pending.merge(productId, delta, Long::sum));
+        if (since != NO_PENDING) {
+            oldestPendingAt.accumulateAndGet(since, (current, previous) -> current == NO_PENDING ? previous : Math.min(current, previous));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.application.product;
+
+import com.loopers.config.StockReservationProperties;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReconciliationCheckpoint;
+import com.loopers.domain.product.ProductSortKey;
+import com.loopers.domain.product.StockReservation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 예약 저장소의 예약 가능 재고를 DB 기준 값(상품 재고 - 아직 차감하지 않은 주문 수량)과 비교해, 어긋난 값을 바로잡는다.
+ * <p>
+ * 예약 해제가 유실되었거나, 저장소를 사용할 수 없는 동안 DB 로만 처리된 주문이 있으면 두 값이 어긋난다.
+ * 상품을 id 순으로 chunk-size 개씩 읽어 저장소에 적재된 상품만 비교한다. 실행마다 최대 chunks-per-run 개의 청크만 처리하고
+ * 처리한 위치를 저장해 두므로, 다음 실행이나 재기동 후에도 이어서 처리한다. 여러 인스턴스 중 락을 잡은 한 곳에서만 실행한다.
+ * <p>
+ * 예약한 뒤 커밋 중인 주문이 있으면 잠시 어긋나 보이므로, settle-delay 뒤에 다시 읽어 두 값이 모두 그대로인 상품만,
+ * 저장소의 값이 읽었던 그대로일 때 바꾼다.
+ * <ul>
+ *     <li>stock.reservation.reconciliation.drifted: 처음 비교에서 어긋난 상품 수</li>
+ *     <li>stock.reservation.reconciliation.corrected: 바로잡은 상품 수</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class StockReconciler {
+
+    private final ProductService productService;
+    private final StockReservation stockReservation;
+    private final StockReconciliationCheckpoint checkpoint;
+    private final StockReservationProperties properties;
+    private final Counter drifted;
+    private final Counter corrected;
+
+    public StockReconciler(
+            ProductService productService,
+            StockReservation stockReservation,
+            StockReconciliationCheckpoint checkpoint,
+            StockReservationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.stockReservation = stockReservation;
+        this.checkpoint = checkpoint;
+        this.properties = properties;
+        this.drifted = Counter.builder("stock.reservation.reconciliation.drifted").register(meterRegistry);
+        this.corrected = Counter.builder("stock.reservation.reconciliation.corrected").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && properties.reconciliationEnabled();
+    }
+
+    /**
+     * 저장된 위치부터 최대 chunks-per-run 개의 청크를 처리한다. 다른 인스턴스가 실행 중이면 건너뛴다.
+     */
+    public ReconciliationResult reconcile() {
+        if (!checkpoint.tryLock(properties.lockLease())) {
+            log.info("다른 인스턴스에서 예약 가능 재고 정합성 작업을 실행 중이므로 건너뜁니다.");
+            return new ReconciliationResult(0, false);
+        }
+
+        try {
+            long lastId = checkpoint.lastProductId();
+            int correctedCount = 0;
+            for (int i = 0; i < properties.chunksPerRun(); i++) {
+                List<ProductSortKey> chunk = productService.findSortKeysAfter(lastId, properties.chunkSize());
+                if (!chunk.isEmpty()) {
+                    correctedCount += reconcileChunk(chunk.stream().map(ProductSortKey::id).toList());
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+
+                if (chunk.size() < properties.chunkSize()) {
+                    checkpoint.save(0L);
+                    return new ReconciliationResult(correctedCount, true);
+                }
+                checkpoint.save(lastId);
+                if (!sleep(properties.pause())) {
+                    break;
+                }
+            }
+            return new ReconciliationResult(correctedCount, false);
+        } finally {
+            checkpoint.unlock();
+        }
+    }
+
+    private int reconcileChunk(List<Long> productIds) {
+        Map<Long, Long> reservable = stockReservation.findAvailable(productIds);
+        if (reservable.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> expected = productService.findAvailableStocks(List.copyOf(reservable.keySet()));
+        List<Long> driftedIds = reservable.keySet().stream()
+                .filter(expected::containsKey)
+                .filter(id -> !reservable.get(id).equals(expected.get(id)))
+                .toList();
+        if (driftedIds.isEmpty()) {
+            return 0;
+        }
+        drifted.increment(driftedIds.size());
+
+        if (!sleep(properties.settleDelay())) {
+            return 0;
+        }
+        Map<Long, Long> reservableAgain = stockReservation.findAvailable(driftedIds);
+        Map<Long, Long> expectedAgain = productService.findAvailableStocks(driftedIds);
+
+        int correctedCount = 0;
+        for (Long id : driftedIds) {
+            if (!Objects.equals(reservable.get(id), reservableAgain.get(id)) || !Objects.equals(expected.get(id), expectedAgain.get(id))) {
+                continue;
+            }
+            if (stockReservation.correct(id, reservable.get(id), expected.get(id))) {
+                log.info("예약 가능 재고를 바로잡았습니다. productId: [{}], [{}] -> [{}]", id, reservable.get(id), expected.get(id));
+                correctedCount++;
+            }
+        }
+        corrected.increment(correctedCount);
+        return correctedCount;
+    }
+
+    private static boolean sleep(Duration duration) {
+        if (duration.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param completed 이번 실행에서 마지막 상품까지 처리해 다음 실행은 처음부터 시작하는지 여부
+     */
+    public record ReconciliationResult(int corrected, boolean completed) {
+    }
+}
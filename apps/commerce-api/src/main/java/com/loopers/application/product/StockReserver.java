@@ -0,0 +1,80 @@
+package com.loopers.application.product;
+
+import com.loopers.config.StockReservationProperties;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 수량만큼 재고를 예약 저장소에서 먼저 예약한다. 상품 재고는 주문이 커밋된 뒤 비동기로 차감된다.
+ * <p>
+ * 재고가 부족한 주문은 DB 를 조회하지 않고 바로 실패한다. 적재되지 않은 상품은 DB 기준으로 채운 뒤 다시 예약하고,
+ * 저장소를 사용할 수 없으면 예약하지 않고 DB 재고로 확인하도록 알린다.
+ * <ul>
+ *     <li>stock.reservation.requests: 예약 결과(result 태그)별 요청 수</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class StockReserver {
+
+    private final StockReservation stockReservation;
+    private final ProductService productService;
+    private final StockReservationProperties properties;
+    private final Map<StockReservation.Result, Counter> requests = new EnumMap<>(StockReservation.Result.class);
+
+    public StockReserver(
+            StockReservation stockReservation,
+            ProductService productService,
+            StockReservationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockReservation = stockReservation;
+        this.productService = productService;
+        this.properties = properties;
+        for (StockReservation.Result result : StockReservation.Result.values()) {
+            requests.put(result, Counter.builder("stock.reservation.requests")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param quantities 상품 id 별 주문 수량
+     * @return 예약했으면 true, 예약하지 못해 DB 재고로 확인해야 하면 false
+     * @throws IllegalArgumentException 재고가 부족한 경우
+     */
+    public boolean reserve(Map<Long, Integer> quantities) {
+        if (!properties.enabled() || quantities.isEmpty()) {
+            return false;
+        }
+
+        StockReservation.Result result = stockReservation.reserve(quantities);
+        if (result == StockReservation.Result.NOT_LOADED) {
+            stockReservation.load(productService.findAvailableStocks(List.copyOf(quantities.keySet())));
+            result = stockReservation.reserve(quantities);
+        }
+        requests.get(result).increment();
+
+        return switch (result) {
+            case RESERVED -> true;
+            case INSUFFICIENT -> throw new IllegalArgumentException("재고가 부족합니다.");
+            // 여전히 적재되지 않았다면 존재하지 않는 상품이 있으므로, DB 로 확인해 그 상품을 알린다.
+            case NOT_LOADED, UNAVAILABLE -> false;
+        };
+    }
+
+    public void release(Map<Long, Integer> quantities) {
+        if (!properties.enabled() || quantities.isEmpty()) {
+            return;
+        }
+        stockReservation.release(quantities);
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.application.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 청크 사이에 쉬어 가며 오래 도는 정합성/검증 작업을 @Scheduled 스레드 밖에서 실행한다.
+ * 스케줄러 스레드에서 기다리면 그동안 좋아요 버퍼 반영처럼 짧은 주기의 작업이 멈추므로, 스케줄러는 작업을 넘기기만 한다.
+ * 같은 이름의 작업이 아직 실행 중이면 이번 실행은 건너뛴다.
+ */
+@Component
+@Slf4j
+public class BatchJobRunner {
+
+    private static final int BATCH_THREADS = 3;
+
+    // @Async 기본 실행기나 스케줄러와 섞이지 않도록 빈으로 등록하지 않고 직접 소유한다.
+    private final ExecutorService executor = Executors.newFixedThreadPool(BATCH_THREADS, new CustomizableThreadFactory("batch-job-"));
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 작업을 배치 스레드에 넘긴다. 같은 이름의 작업이 실행 중이라 넘기지 않았으면 false 를 반환한다.
+     */
+    public boolean submit(String jobName, Runnable job) {
+        if (!runningJobs.add(jobName)) {
+            log.info("이전 [{}] 작업이 아직 실행 중이므로 건너뜁니다.", jobName);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (Exception e) {
+                    log.warn("[{}] 작업 실패", jobName, e);
+                } finally {
+                    runningJobs.remove(jobName);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(jobName);
+            return false;
+        }
+    }
+
+    public boolean isRunning(String jobName) {
+        return runningJobs.contains(jobName);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 정합성 작업은 처리한 위치를 저장해 두므로, 중단되어도 다음 기동 후 이어서 처리한다.
+        executor.shutdownNow();
+    }
+}
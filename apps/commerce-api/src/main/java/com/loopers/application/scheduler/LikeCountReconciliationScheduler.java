@@ -0,0 +1,27 @@
+package com.loopers.application.scheduler;
+
+import com.loopers.application.product.LikeCountReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciliationScheduler {
+
+    private static final String JOB_NAME = "like-count-reconciliation";
+
+    private final LikeCountReconciler likeCountReconciler;
+    private final BatchJobRunner batchJobRunner;
+
+    // 1분, 한 번 실행할 때 처리량은 like-count.reconciliation 설정으로 제한된다.
+    // settle-delay 동안 좋아요 수 버퍼가 반영되어야 하므로, 버퍼를 반영하는 스케줄러 스레드가 아닌 배치 스레드에서 실행한다.
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reconcileLikeCounts() {
+        if (!likeCountReconciler.isEnabled()) {
+            return;
+        }
+
+        batchJobRunner.submit(JOB_NAME, likeCountReconciler::reconcile);
+    }
+}
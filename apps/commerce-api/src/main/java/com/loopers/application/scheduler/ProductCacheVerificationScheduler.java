@@ -0,0 +1,27 @@
+package com.loopers.application.scheduler;
+
+import com.loopers.application.product.ProductCacheVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCacheVerificationScheduler {
+
+    private static final String JOB_NAME = "product-cache-verification";
+
+    private final ProductCacheVerifier productCacheVerifier;
+    private final BatchJobRunner batchJobRunner;
+
+    // 30초, 검사 한 번의 DB 조회는 id 목록 쿼리 한 번으로 제한된다.
+    // Redis 나 DB 가 느려져도 버퍼 반영 작업이 밀리지 않도록 배치 스레드에서 실행한다.
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void verifyProductCache() {
+        if (!productCacheVerifier.isEnabled()) {
+            return;
+        }
+
+        batchJobRunner.submit(JOB_NAME, productCacheVerifier::verify);
+    }
+}
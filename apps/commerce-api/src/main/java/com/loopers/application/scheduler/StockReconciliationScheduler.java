@@ -0,0 +1,26 @@
+package com.loopers.application.scheduler;
+
+import com.loopers.application.product.StockReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StockReconciliationScheduler {
+
+    private static final String JOB_NAME = "stock-reconciliation";
+
+    private final StockReconciler stockReconciler;
+    private final BatchJobRunner batchJobRunner;
+
+    // 1분, 청크 사이 pause 와 settle-delay 동안 스케줄러 스레드를 붙잡지 않도록 배치 스레드에서 실행한다.
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reconcileStocks() {
+        if (!stockReconciler.isEnabled()) {
+            return;
+        }
+
+        batchJobRunner.submit(JOB_NAME, stockReconciler::reconcile);
+    }
+}
@@ -1,37 +1,103 @@
 package com.loopers.config;
 
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.cache.AdaptiveTtlFunction;
+import com.loopers.infrastructure.cache.CacheAccessStats;
+import com.loopers.infrastructure.cache.CacheInvalidationPublisher;
+import com.loopers.infrastructure.cache.CacheLoadLock;
+import com.loopers.infrastructure.cache.CompactCacheValueSerializer;
+import com.loopers.infrastructure.cache.RedisCacheGuard;
+import com.loopers.infrastructure.cache.ResilientCacheErrorHandler;
+import com.loopers.infrastructure.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
-
 @Configuration
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
+
+    /**
+     * 캐시 오류로 요청이 실패하지 않도록, 캐시 애노테이션에서 발생한 오류는 기록만 하고 원본 메서드를 실행한다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new ResilientCacheErrorHandler();
+    }
+
+    /**
+     * L2 값 직렬화 방식. 다른 포맷을 쓰려면 같은 이름의 빈으로 교체한다.
+     */
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(CacheProperties cacheProperties) {
+        return new CompactCacheValueSerializer((int) cacheProperties.serialization().compressionThreshold().toBytes());
+    }
 
+    /**
+     * L2 는 master 연결로만 읽고 쓴다. 기본 연결은 replica 를 우선 읽으므로, 무효화 직후 다시 읽을 때 복제 지연으로 지워진 값을 읽을 수 있다.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(
+            @Qualifier(RedisConfig.CONNECTION_MASTER) RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> cacheValueSerializer,
+            CacheInvalidationPublisher invalidationPublisher,
+            CacheLoadLock cacheLoadLock,
+            RedisCacheGuard redisCacheGuard,
+            CacheProperties cacheProperties,
+            CacheAccessStats cacheAccessStats,
+            MeterRegistry meterRegistry
+    ) {
+        // 키 prefix 에 값 포맷 버전을 넣어, 롤링 배포 중 서로 다른 포맷을 쓰는 노드가 같은 키를 읽지 않도록 한다.
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .computePrefixWith(cacheName -> cacheName + "::v" + CompactCacheValueSerializer.FORMAT_VERSION + "::")
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer));
 
-        // 상품 상세 정보 캐시: 10분 TTL
+        // 상품 상세 정보 캐시, 상품 목록(id 목록) 캐시: 키별 조회/변경 빈도에 따라 cache.ttl 범위 안에서 TTL 을 정한다.
         RedisCacheConfiguration productCacheConfig = defaultConfig
-                .entryTtl(Duration.ofMinutes(10));
+                .entryTtl(new AdaptiveTtlFunction("product", cacheProperties.ttlSpecOf("product"), cacheAccessStats, meterRegistry));
 
-        // 상품 목록 캐시: 5분 TTL
         RedisCacheConfiguration productsCacheConfig = defaultConfig
-                .entryTtl(Duration.ofMinutes(5));
+                .entryTtl(new AdaptiveTtlFunction("products", cacheProperties.ttlSpecOf("products"), cacheAccessStats, meterRegistry));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 캐시 비우기는 KEYS 대신 SCAN 으로 나누어 지워 Redis 를 오래 막지 않는다.
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("product", productCacheConfig)
                 .withCacheConfiguration("products", productsCacheConfig)
+                .enableStatistics()
                 .build();
+
+        // Redis(L2) 앞에 인스턴스 로컬 캐시(L1)를 둔다.
+        return new TwoTierCacheManager(redisCacheManager, connectionFactory, invalidationPublisher, cacheLoadLock, redisCacheGuard, cacheProperties, cacheAccessStats, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier(RedisConfig.CONNECTION_PUBSUB) RedisConnectionFactory pubSubConnectionFactory,
+            TwoTierCacheManager cacheManager,
+            CacheInvalidationPublisher invalidationPublisher
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(pubSubConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> invalidationPublisher.readForeignMessage(message.getBody())
+                        .ifPresent(cacheManager::handleInvalidation),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL)
+        );
+        return container;
     }
 }
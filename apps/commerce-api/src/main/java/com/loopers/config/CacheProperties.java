@@ -0,0 +1,143 @@
+package com.loopers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "cache")
+public record CacheProperties(
+        Map<String, LocalCacheSpec> local,
+        Map<String, TtlSpec> ttl,
+        LoadingSpec loading,
+        SerializationSpec serialization,
+        HotKeySpec hotKey,
+        WarmUpSpec warmUp,
+        ConsistencySpec consistency
+) {
+    private static final LocalCacheSpec DEFAULT_LOCAL_SPEC = new LocalCacheSpec(1000, Duration.ofSeconds(10));
+    private static final TtlSpec DEFAULT_TTL_SPEC = new TtlSpec(Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofMinutes(15));
+
+    public CacheProperties {
+        local = local == null ? Map.of() : Map.copyOf(local);
+        ttl = ttl == null ? Map.of() : Map.copyOf(ttl);
+        loading = loading == null ? LoadingSpec.DEFAULT : loading;
+        serialization = serialization == null ? SerializationSpec.DEFAULT : serialization;
+        hotKey = hotKey == null ? HotKeySpec.DEFAULT : hotKey;
+        warmUp = warmUp == null ? WarmUpSpec.DEFAULT : warmUp;
+        consistency = consistency == null ? ConsistencySpec.DEFAULT : consistency;
+    }
+
+    public LocalCacheSpec localSpecOf(String cacheName) {
+        return local.getOrDefault(cacheName, DEFAULT_LOCAL_SPEC);
+    }
+
+    public TtlSpec ttlSpecOf(String cacheName) {
+        return ttl.getOrDefault(cacheName, DEFAULT_TTL_SPEC);
+    }
+
+    /**
+     * 인스턴스 내부(L1) 캐시 설정. Redis(L2) 보다 짧게 유지하여 다른 노드의 변경을 놓치더라도 금방 회복되도록 한다.
+     */
+    public record LocalCacheSpec(
+            long maximumSize,
+            Duration expireAfterWrite
+    ) {
+    }
+
+    /**
+     * Redis(L2) TTL 범위. 키별 조회/변경 빈도에 따라 base 를 늘리거나 줄이되 [min, max] 를 벗어나지 않는다.
+     *
+     * @param base 조회가 분당 10회 정도이고 변경이 없는 키의 TTL
+     * @param min  자주 바뀌는 키의 최소 TTL
+     * @param max  자주 조회되고 거의 바뀌지 않는 키의 최대 TTL
+     */
+    public record TtlSpec(
+            Duration base,
+            Duration min,
+            Duration max
+    ) {
+    }
+
+    /**
+     * 캐시 미스 시 원본 조회 방식.
+     *
+     * @param lockLease            원본을 조회하는 노드가 잡는 락의 임대 시간. 조회가 이보다 오래 걸리면 다른 노드도 조회를 시작한다.
+     * @param lockWait             락을 얻지 못한 요청이 다른 노드의 적재를 기다리는 최대 시간. 지나면 직접 조회한다.
+     * @param lockRetryInterval    기다리는 동안 Redis 를 다시 확인하는 간격
+     * @param earlyRefreshBeta     조기 갱신 강도. 클수록 만료 훨씬 전부터 갱신을 시도하며, 0 이면 조기 갱신하지 않는다.
+     * @param defaultRecomputeTime 이 노드에서 아직 적재해 본 적 없는 키의 원본 조회 시간 추정치
+     */
+    public record LoadingSpec(
+            Duration lockLease,
+            Duration lockWait,
+            Duration lockRetryInterval,
+            double earlyRefreshBeta,
+            Duration defaultRecomputeTime
+    ) {
+        static final LoadingSpec DEFAULT = new LoadingSpec(
+                Duration.ofSeconds(3), Duration.ofSeconds(1), Duration.ofMillis(50), 1.0, Duration.ofMillis(100)
+        );
+    }
+
+    /**
+     * Redis(L2) 에 저장하는 값의 직렬화 설정.
+     *
+     * @param compressionThreshold 직렬화한 크기가 이 값 이상이면 LZ4 로 압축한다. 작은 값은 압축 이득보다 CPU 비용이 크다.
+     */
+    public record SerializationSpec(
+            DataSize compressionThreshold
+    ) {
+        static final SerializationSpec DEFAULT = new SerializationSpec(DataSize.ofBytes(512));
+    }
+
+    /**
+     * 인기 키 감지 및 로컬 고정 설정. 윈도우마다 count-min sketch 로 키별 조회 수를 추정하고, 상위 키를 다음 윈도우 동안 인기 키로 본다.
+     *
+     * @param window      조회 수를 집계하는 시간 단위
+     * @param topK        윈도우마다 인기 키로 고를 최대 개수
+     * @param minHits     인기 키가 되기 위한 윈도우 내 최소 조회 수
+     * @param pinTtl      인기 키의 값을 L1 과 별도로 로컬에 고정해 두는 시간. L1 이 만료되어도 이 시간 동안은 고정된 값으로 응답하며 백그라운드에서 다시 적재한다.
+     * @param sketchWidth count-min sketch 의 행당 카운터 수
+     * @param sketchDepth count-min sketch 의 행(해시 함수) 수
+     */
+    public record HotKeySpec(
+            Duration window,
+            int topK,
+            long minHits,
+            Duration pinTtl,
+            int sketchWidth,
+            int sketchDepth
+    ) {
+        static final HotKeySpec DEFAULT = new HotKeySpec(Duration.ofSeconds(10), 20, 100, Duration.ofSeconds(5), 2048, 4);
+    }
+
+    /**
+     * 기동 시 캐시 예열 설정. 예열이 끝나야 readiness 가 UP 이 된다.
+     *
+     * @param enabled     예열 여부
+     * @param topProducts 최근 조회 통계 기준으로 미리 적재할 상품 수
+     * @param pageSize    정렬 기준별로 미리 적재할 첫 페이지의 크기. API 의 기본 페이지 크기와 같아야 적중한다.
+     */
+    public record WarmUpSpec(
+            boolean enabled,
+            int topProducts,
+            int pageSize
+    ) {
+        static final WarmUpSpec DEFAULT = new WarmUpSpec(true, 200, 20);
+    }
+
+    /**
+     * 캐시 정합성 표본 검사 설정. 주기마다 이 노드의 L1 에 있는 상품 키 일부를 골라 L2 값과 DB 를 비교한다.
+     *
+     * @param enabled    검사 여부
+     * @param sampleSize 한 번에 검사할 최대 키 수. 검사마다 id 목록으로 조회하는 쿼리가 한 번 나가므로, 이 값으로 DB 부하 상한을 정한다.
+     */
+    public record ConsistencySpec(
+            boolean enabled,
+            int sampleSize
+    ) {
+        static final ConsistencySpec DEFAULT = new ConsistencySpec(true, 20);
+    }
+}
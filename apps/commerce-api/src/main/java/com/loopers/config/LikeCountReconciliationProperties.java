@@ -0,0 +1,27 @@
+package com.loopers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 좋아요 수(like_count)와 likes 를 비교해 어긋난 값을 바로잡는 작업 설정.
+ *
+ * @param enabled      작업 여부
+ * @param chunkSize    한 번에 비교하는 상품 수
+ * @param chunksPerRun 한 번 실행할 때 처리하는 최대 청크 수. 나머지는 저장해 둔 위치부터 다음 실행에서 이어간다.
+ * @param pause        청크 사이에 쉬는 시간. DB 부하를 이 간격으로 조절한다.
+ * @param settleDelay  어긋난 상품을 다시 확인하기 전에 기다리는 시간. 버퍼 반영 주기보다 길어야 하며, 반영이 실패해 이보다 오래 재시도 중인 변화량은 한 번 더 세어질 수 있다.
+ * @param lockLease    여러 인스턴스 중 한 곳에서만 실행하도록 잡는 락의 임대 시간
+ */
+@ConfigurationProperties(prefix = "like-count.reconciliation")
+public record LikeCountReconciliationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("50") int chunksPerRun,
+        @DefaultValue("200ms") Duration pause,
+        @DefaultValue("3s") Duration settleDelay,
+        @DefaultValue("10m") Duration lockLease
+) {
+}
@@ -0,0 +1,29 @@
+package com.loopers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 시점의 재고 예약과, 예약 저장소를 DB 재고에 맞추는 정합성 작업 설정.
+ *
+ * @param enabled               재고 예약 여부. 끄면 DB 재고로만 확인한다.
+ * @param reconciliationEnabled 정합성 작업 여부
+ * @param chunkSize             정합성 작업에서 한 번에 비교하는 상품 수
+ * @param chunksPerRun          정합성 작업을 한 번 실행할 때 처리하는 최대 청크 수. 나머지는 저장해 둔 위치부터 다음 실행에서 이어간다.
+ * @param pause                 청크 사이에 쉬는 시간
+ * @param settleDelay           어긋난 상품을 다시 확인하기 전에 기다리는 시간. 예약한 뒤 커밋 중인 주문이 이 사이에 반영된다.
+ * @param lockLease             여러 인스턴스 중 한 곳에서만 정합성 작업을 실행하도록 잡는 락의 임대 시간
+ */
+@ConfigurationProperties(prefix = "stock.reservation")
+public record StockReservationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean reconciliationEnabled,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("50") int chunksPerRun,
+        @DefaultValue("100ms") Duration pause,
+        @DefaultValue("2s") Duration settleDelay,
+        @DefaultValue("10m") Duration lockLease
+) {
+}
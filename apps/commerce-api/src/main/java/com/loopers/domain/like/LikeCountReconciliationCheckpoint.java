@@ -0,0 +1,26 @@
+package com.loopers.domain.like;
+
+import java.time.Duration;
+
+/**
+ * 좋아요 수 정합성 작업의 진행 위치와 실행 락. 작업이 중간에 멈추어도 마지막으로 처리한 상품 id 다음부터 이어서 처리한다.
+ */
+public interface LikeCountReconciliationCheckpoint {
+
+    /**
+     * 다른 인스턴스가 실행 중이 아니면 락을 잡고 true 를 반환한다.
+     */
+    boolean tryLock(Duration lease);
+
+    /**
+     * 이 인스턴스가 잡은 락만 푼다. 임대 시간이 지나 다른 인스턴스가 잡은 락은 그대로 둔다.
+     */
+    void unlock();
+
+    /**
+     * 마지막으로 처리한 상품 id. 처음이거나 한 바퀴를 다 돌았으면 0 이다.
+     */
+    long lastProductId();
+
+    void save(long lastProductId);
+}
@@ -0,0 +1,55 @@
+package com.loopers.domain.like;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 좋아요 목록에서 마지막으로 조회한 좋아요의 누른 시각과 id. 최근에 누른 순(누른 시각 역순, 같으면 id 역순)으로 조회하므로,
+ * 다음 페이지는 이 위치보다 먼저 누른 좋아요부터 시작한다.
+ */
+public record LikeCursor(
+        ZonedDateTime likedAt,
+        long likeId
+) {
+    private static final String PREFIX = "LIKE";
+    private static final String DELIMITER = "|";
+
+    public LikeCursor {
+        if (likedAt == null || likeId <= 0) {
+            throw new IllegalArgumentException("커서 정보가 유효하지 않습니다.");
+        }
+    }
+
+    public static LikeCursor of(LikedProduct lastLike) {
+        return new LikeCursor(lastLike.likedAt(), lastLike.likeId());
+    }
+
+    public static LikeCursor decode(String encoded) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + encoded, e);
+        }
+
+        String[] tokens = decoded.split("\\|", -1);
+        if (tokens.length != 3 || !tokens[0].equals(PREFIX)) {
+            throw new IllegalArgumentException("좋아요 목록의 커서가 아닙니다: " + encoded);
+        }
+        try {
+            ZonedDateTime likedAt = ZonedDateTime.ofInstant(Instant.parse(tokens[1]), ZoneOffset.UTC);
+            return new LikeCursor(likedAt, Long.parseLong(tokens[2]));
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + encoded, e);
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + DELIMITER + likedAt.toInstant() + DELIMITER + likeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -17,7 +17,9 @@ import java.util.Objects;
                 columnNames = {"user_id", "product_id"}
         ),
         indexes = {
-                @Index(name = "idx_likes_product_id", columnList = "product_id")
+                @Index(name = "idx_likes_product_id", columnList = "product_id"),
+                // 사용자의 좋아요 목록을 누른 시각(updated_at) 역순으로 커서 조회한다. product_id 까지 포함해 테이블을 읽지 않는다.
+                @Index(name = "idx_likes_user_deleted_updated", columnList = "user_id, deleted_at, updated_at, id, product_id")
         }
 )
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
@@ -14,9 +14,22 @@ public interface LikeRepository extends CustomCrudRepository<LikeEntity> {
 
     Optional<LikeEntity> findByUserIdAndProductId(Long userId, Long productId);
 
-    void deleteByUserIdAndProductId(Long userId, Long productId);
-
     Set<Long> findLikedProductIdsByUserIdAndProductIds(Long userId, List<Long> productIds);
 
-    LikeEntity saveOrFind(LikeEntity likeEntity);
+    List<Long> findLikedProductIdsByUserId(Long userId);
+
+    /**
+     * 사용자의 좋아요를 최근 순으로 limit 개 조회한다. cursor 가 있으면 그 좋아요 다음부터 조회한다.
+     */
+    List<LikedProduct> findLikedProducts(Long userId, LikeCursor cursor, int limit);
+
+    /**
+     * 좋아요를 추가하거나 취소된 좋아요를 복원한다. 상태가 바뀌었으면 true, 이미 좋아요 상태였으면 false 를 반환한다.
+     */
+    boolean upsertLike(Long userId, Long productId);
+
+    /**
+     * 좋아요를 취소한다. 상태가 바뀌었으면 true, 좋아요가 없거나 이미 취소되어 있었으면 false 를 반환한다.
+     */
+    boolean softDeleteLike(Long userId, Long productId);
 }
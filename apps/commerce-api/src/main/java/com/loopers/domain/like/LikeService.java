@@ -1,9 +1,5 @@
 package com.loopers.domain.like;
 
-import com.loopers.domain.product.ProductEntity;
-import com.loopers.domain.product.ProductRepository;
-import com.loopers.domain.user.UserEntity;
-import com.loopers.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -17,62 +13,97 @@ import java.util.stream.Collectors;
 public class LikeService {
 
     private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
-    private final ProductRepository productRepository;
+    private final LikedProductStore likedProductStore;
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 좋아요를 추가하거나 복원한다. 조회 없이 한 문장으로 처리하며, 실제로 상태가 바뀐 경우에만 이벤트를 발행하고 true 를 반환한다.
+     */
     @Transactional
-    public LikeEntity addLike(long userId, long productId) {
-        return likeRepository.findByUserIdAndProductId(userId, productId)
-                // 값이 있는 경우 (이미 좋아요를 누른 적이 있음)
-                .map(like -> {
-                    // 삭제된 상태일 때만 복원하고 이벤트를 발행
-                    if (like.isDeleted()) {
-                        like.restore();
-                        likeRepository.save(like);
-                        eventPublisher.publishEvent(new LikeChangedEvent(productId, userId, true));
-                    }
-                    return like;
-                })
-                // 값이 없는 경우 (처음으로 좋아요를 누름)
-                .orElseGet(() -> {
-                    UserEntity userProxy = userRepository.getReferenceById(userId);
-                    ProductEntity productProxy = productRepository.getReferenceById(productId);
-                    LikeEntity newLike = LikeEntity.create(userProxy, productProxy);
+    public boolean addLike(long userId, long productId) {
+        boolean changed = likeRepository.upsertLike(userId, productId);
+        if (changed) {
+            eventPublisher.publishEvent(new LikeChangedEvent(productId, userId, true));
+        }
+        return changed;
+    }
 
-                    likeRepository.save(newLike);
-                    eventPublisher.publishEvent(new LikeChangedEvent(productId, userId, true));
-                    return newLike;
-                });
+    /**
+     * 주어진 좋아요 상태를 한 트랜잭션에서 DB 에 반영한다. 실제로 상태가 바뀐 경우에만 이벤트가 발행된다.
+     * 하나라도 실패하면 모두 롤백되므로, 호출하는 쪽에서 작은 묶음으로 나누어 넘긴다.
+     */
+    @Transactional
+    public void applyLikeStates(Collection<LikeState> states) {
+        for (LikeState state : states) {
+            if (state.liked()) {
+                addLike(state.userId(), state.productId());
+            } else {
+                removeLike(state.userId(), state.productId());
+            }
+        }
     }
 
+    /**
+     * 좋아요를 취소한다. 실제로 상태가 바뀐 경우에만 이벤트를 발행하고 true 를 반환한다.
+     */
     @Transactional
-    public void removeLike(long userId, long productId) {
-        likeRepository.findByUserIdAndProductId(userId, productId)
-                .ifPresent(like -> {
-                    if (like.isDeleted()) {
-                        return;
-                    }
-                    like.delete();
-                    likeRepository.save(like);
-                    eventPublisher.publishEvent(new LikeChangedEvent(productId, userId, false));
-                });
+    public boolean removeLike(long userId, long productId) {
+        boolean changed = likeRepository.softDeleteLike(userId, productId);
+        if (changed) {
+            eventPublisher.publishEvent(new LikeChangedEvent(productId, userId, false));
+        }
+        return changed;
     }
 
     public boolean isLiked(Long userId, Long productId) {
         if (userId == null || productId == null) {
             throw new IllegalArgumentException("사용자 ID와 상품 ID는 null일 수 없습니다");
         }
-        Optional<LikeEntity> like = likeRepository.findByUserIdAndProductId(userId, productId);
-        return like.isPresent() && !like.get().isDeleted();
+        return findLikedProductIds(userId, List.of(productId)).contains(productId);
     }
 
+    /**
+     * 사용자의 좋아요 목록 저장소에서 조회한다. 목록이 없으면 DB 에서 사용자의 좋아요 전체를 읽어 저장소를 채운다.
+     */
     public Set<Long> findLikedProductIds(Long userId, List<Long> productIds) {
         if (userId == null || productIds == null || productIds.isEmpty()) {
             throw new IllegalArgumentException("사용자 ID와 상품 ID 목록은 null이거나 비어있을 수 없습니다");
         }
 
-        return likeRepository.findLikedProductIdsByUserIdAndProductIds(userId, productIds);
+        return likedProductStore.findLiked(userId, productIds)
+                .orElseGet(() -> {
+                    Set<Long> likedProductIds = new HashSet<>(loadLikedProductIds(userId));
+                    return productIds.stream()
+                            .filter(likedProductIds::contains)
+                            .collect(Collectors.toSet());
+                });
+    }
+
+    /**
+     * DB 에서 사용자의 좋아요 전체를 읽어 저장소에 채우고 반환한다.
+     */
+    public List<Long> loadLikedProductIds(Long userId) {
+        List<Long> likedProductIds = likeRepository.findLikedProductIdsByUserId(userId);
+        likedProductStore.load(userId, likedProductIds);
+        return likedProductIds;
+    }
+
+    /**
+     * 사용자가 좋아요한 상품 id 를 최근 순으로 size 개 조회한다. 한 건 더 읽어 다음 페이지가 있는지 판단한다.
+     */
+    public LikedProductSlice findLikedProducts(Long userId, LikeCursor cursor, int size) {
+        if (userId == null || size <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 null일 수 없고, 조회 개수는 1 이상이어야 합니다");
+        }
+
+        List<LikedProduct> likes = likeRepository.findLikedProducts(userId, cursor, size + 1);
+        boolean hasNext = likes.size() > size;
+        List<LikedProduct> page = hasNext ? likes.subList(0, size) : likes;
+
+        return new LikedProductSlice(
+                page.stream().map(LikedProduct::productId).toList(),
+                hasNext ? LikeCursor.of(page.get(page.size() - 1)) : null
+        );
     }
 
     public long getLikesCount(long productId) {
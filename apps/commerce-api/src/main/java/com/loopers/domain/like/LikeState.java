@@ -0,0 +1,8 @@
+package com.loopers.domain.like;
+
+public record LikeState(
+        Long userId,
+        Long productId,
+        boolean liked
+) {
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자의 좋아요 목록 한 건. 인덱스(user_id, deleted_at, updated_at, id, product_id)만으로 조회할 수 있는 컬럼만 담는다.
+ * 좋아요를 누르거나 취소한 좋아요를 복원할 때 updated_at 이 바뀌므로, 좋아요 상태인 행의 updated_at 이 마지막으로 누른 시각이다.
+ */
+public record LikedProduct(
+        Long likeId,
+        Long productId,
+        ZonedDateTime likedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.like;
+
+import java.util.List;
+
+/**
+ * 좋아요 목록의 한 페이지. 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+public record LikedProductSlice(
+        List<Long> productIds,
+        LikeCursor nextCursor
+) {
+}
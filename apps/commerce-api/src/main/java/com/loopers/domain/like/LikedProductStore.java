@@ -0,0 +1,33 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별로 좋아요한 상품 id 목록을 보관하는 저장소. 좋아요 여부 조회와 토글을 DB 를 거치지 않고 처리한다.
+ * 사용자의 목록은 처음 필요할 때 DB 에서 채우며({@link #load}), 채워지지 않았거나 사용할 수 없으면 비어 있는 값을 반환하므로
+ * 호출하는 쪽은 DB 로 대신 처리해야 한다.
+ */
+public interface LikedProductStore {
+
+    /**
+     * productIds 중 사용자가 좋아요한 상품 id 를 반환한다. 사용자의 목록이 없으면 비어 있다.
+     */
+    Optional<Set<Long>> findLiked(Long userId, Collection<Long> productIds);
+
+    /**
+     * 사용자의 목록이 없을 때만 DB 에서 읽은 목록으로 채운다. 이미 있는 목록에는 그 사이의 토글이 반영되어 있으므로 덮어쓰지 않는다.
+     */
+    void load(Long userId, Collection<Long> likedProductIds);
+
+    /**
+     * 좋아요 상태를 원자적으로 바꾼다. 상태가 바뀌었으면 true, 이미 그 상태였으면 false 이고, 사용자의 목록이 없으면 비어 있다.
+     */
+    Optional<Boolean> toggle(Long userId, Long productId, boolean liked);
+
+    /**
+     * 사용자의 목록을 지운다. 다음에 필요할 때 DB 에서 다시 채운다.
+     */
+    void evict(Long userId);
+}
@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = @Index(name = "idx_orders_status_stock_deducted", columnList = "status, stock_deducted")
+)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @Getter
 public class OrderEntity extends BaseEntity {
@@ -45,6 +48,9 @@ public class OrderEntity extends BaseEntity {
     @Column(name = "stock_deducted", nullable = false)
     private boolean stockDeducted = false;
 
+    @Column(name = "stock_reserved", nullable = false)
+    private boolean stockReserved = false;
+
     private OrderEntity(UserEntity user) {
         this.user = user;
     }
@@ -129,4 +135,8 @@ public class OrderEntity extends BaseEntity {
             this.stockDeducted = false;
         }
     }
+
+    public void markStockAsReserved() {
+        this.stockReserved = true;
+    }
 }
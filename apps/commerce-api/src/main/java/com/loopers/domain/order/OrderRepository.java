@@ -3,10 +3,17 @@ package com.loopers.domain.order;
 import com.loopers.domain.CustomCrudRepository;
 import com.loopers.domain.user.UserEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends CustomCrudRepository<OrderEntity> {
     long countByUser(UserEntity user);
 
     Optional<OrderEntity> findByIdWithPessimisticLock(Long orderId);
+
+    /**
+     * PENDING 주문 중 아직 재고를 차감하지 않은 주문의 수량을 상품별로 합산한다.
+     */
+    List<ReservedQuantity> findReservedQuantities(Collection<Long> productIds);
 }
@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import com.loopers.domain.order.event.OrderAbortedEvent;
 import com.loopers.domain.order.event.OrderFailedEvent;
 import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.product.ProductService;
@@ -9,6 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -42,14 +46,28 @@ public class OrderService {
                 if (order.isStockDeducted()) {
                     eventPublisher.publishEvent(new OrderFailedEvent(orderId));
                 }
+                publishAbortedIfReserved(order);
             }
             case CANCELED -> {
                 order.cancel();
                 if (order.isStockDeducted()) {
                     eventPublisher.publishEvent(new OrderFailedEvent(orderId));
                 }
+                publishAbortedIfReserved(order);
             }
         }
         save(order);
     }
+
+    private void publishAbortedIfReserved(OrderEntity order) {
+        // 재고 예약에 성공한 주문만 예약을 돌려준다. 예약 없이 생성된 주문은 재고 보정 스케줄러가 맞춘다.
+        if (order.isStockReserved()) {
+            eventPublisher.publishEvent(new OrderAbortedEvent(order.getId(), quantitiesOf(order)));
+        }
+    }
+
+    private static Map<Long, Integer> quantitiesOf(OrderEntity order) {
+        return order.getItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    }
 }
@@ -0,0 +1,10 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문은 들어왔지만 아직 상품 재고에서 차감하지 않은 수량.
+ */
+public record ReservedQuantity(
+        Long productId,
+        long quantity
+) {
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.order.event;
+
+import java.util.Map;
+
+/**
+ * 재고를 예약한 주문이 실패하거나 취소되어 예약을 돌려줘야 함을 알린다. 재고 차감 여부와 관계없이 한 번 발행되며,
+ * 예약 없이 생성된 주문에는 발행되지 않는다.
+ *
+ * @param quantities 상품 id 별 주문 수량
+ */
+public record OrderAbortedEvent(
+        Long orderId,
+        Map<Long, Integer> quantities
+) {
+}
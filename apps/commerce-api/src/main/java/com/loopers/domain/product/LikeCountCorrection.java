@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+/**
+ * likes 와 어긋난 상품의 좋아요 수를 바로잡는 값.
+ *
+ * @param expected 확인할 때 읽은 like_count. 그 사이 다른 갱신이 반영되었으면 바로잡지 않는다.
+ * @param actual   likes 에서 센 좋아요 수
+ */
+public record LikeCountCorrection(
+        Long productId,
+        long expected,
+        long actual
+) {
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 조회 통계. 기동 시 캐시를 미리 채울 상품을 고르는 데 사용한다.
+ */
+public interface ProductAccessStats {
+
+    void record(Long productId);
+
+    void recordAll(List<Long> productIds);
+
+    /**
+     * 최근 가장 많이 조회된 상품 id 를 조회 수가 많은 순서로 최대 limit 개 반환한다.
+     */
+    List<Long> findTopProductIds(int limit);
+}
@@ -0,0 +1,27 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품이 생성/삭제되었거나 재고나 좋아요 수가 바뀌었음을 알린다.
+ *
+ * @param sortKeyChanged 목록 정렬에 쓰이는 값(좋아요 수)이 바뀌었는지 여부. 바뀌었으면 상품이 포함된 목록의 순서도 달라진다.
+ * @param listingChanged 상품이 생성되거나 삭제되어 목록에 들어가는 상품 자체가 바뀌었는지 여부
+ */
+public record ProductChangedEvent(
+        List<Long> productIds,
+        boolean sortKeyChanged,
+        boolean listingChanged
+) {
+    public static ProductChangedEvent stockChanged(List<Long> productIds) {
+        return new ProductChangedEvent(productIds, false, false);
+    }
+
+    public static ProductChangedEvent likeCountChanged(List<Long> productIds) {
+        return new ProductChangedEvent(productIds, true, false);
+    }
+
+    public static ProductChangedEvent listingChanged(List<Long> productIds) {
+        return new ProductChangedEvent(productIds, true, true);
+    }
+}
@@ -1,7 +1,28 @@
 package com.loopers.domain.product;
 
+import java.math.BigDecimal;
+
 public class ProductCommand {
 
+    /**
+     * 상품 검색 조건. null 인 조건은 적용하지 않으며, 정렬 기준이 없으면 최신순으로 조회한다.
+     */
+    public record Search(
+            Long brandId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            ProductSortType sortType
+    ) {
+        public Search {
+            if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+                throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+            }
+            if (sortType == null) {
+                sortType = ProductSortType.LATEST;
+            }
+        }
+    }
+
     public record StockDecrease(
             long productId,
             int quantity
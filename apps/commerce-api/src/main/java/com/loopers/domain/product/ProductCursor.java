@@ -0,0 +1,80 @@
+package com.loopers.domain.product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 마지막으로 조회한 상품의 정렬 키와 id. 다음 페이지는 이 위치 이후부터 인덱스 범위 스캔으로 조회한다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String sortKey,
+        long id
+) {
+    private static final String DELIMITER = "|";
+
+    public ProductCursor {
+        if (sortType == null || sortKey == null || id <= 0) {
+            throw new IllegalArgumentException("커서 정보가 유효하지 않습니다.");
+        }
+    }
+
+    public static ProductCursor of(ProductSortType sortType, ProductView lastProduct) {
+        String sortKey = switch (sortType) {
+            case LATEST -> "";
+            case PRICE_ASC -> lastProduct.price().toPlainString();
+            case LIKES_DESC -> String.valueOf(lastProduct.likeCount());
+        };
+        return new ProductCursor(sortType, sortKey, lastProduct.id());
+    }
+
+    public static ProductCursor decode(String encoded, ProductSortType expectedSortType) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + encoded, e);
+        }
+
+        String[] tokens = decoded.split("\\|", -1);
+        if (tokens.length != 3 || !tokens[0].equals(expectedSortType.name())) {
+            throw new IllegalArgumentException("요청한 정렬 기준과 일치하지 않는 커서입니다: " + encoded);
+        }
+
+        ProductCursor cursor;
+        try {
+            cursor = new ProductCursor(expectedSortType, tokens[1], Long.parseLong(tokens[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + encoded, e);
+        }
+        cursor.validateSortKey();
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BigDecimal priceKey() {
+        return new BigDecimal(sortKey);
+    }
+
+    public long likeCountKey() {
+        return Long.parseLong(sortKey);
+    }
+
+    private void validateSortKey() {
+        try {
+            switch (sortType) {
+                case PRICE_ASC -> priceKey();
+                case LIKES_DESC -> likeCountKey();
+                case LATEST -> {
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서의 정렬 키가 올바르지 않습니다: " + sortKey, e);
+        }
+    }
+}
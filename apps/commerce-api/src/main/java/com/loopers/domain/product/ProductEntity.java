@@ -12,7 +12,12 @@ import java.math.BigDecimal;
 @Table(
         name = "products",
         indexes = {
-                @Index(name = "idx_products_like_count", columnList = "like_count")
+                @Index(name = "idx_products_like_count", columnList = "like_count"),
+                @Index(name = "idx_products_price", columnList = "price"),
+                // 브랜드 필터 + 정렬 조합. InnoDB 보조 인덱스 끝에 PK(id) 가 붙으므로 id 보조 정렬까지 인덱스로 처리된다.
+                @Index(name = "idx_products_brand_id", columnList = "brand_id"),
+                @Index(name = "idx_products_brand_id_price", columnList = "brand_id, price"),
+                @Index(name = "idx_products_brand_id_like_count", columnList = "brand_id, like_count")
         }
 )
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
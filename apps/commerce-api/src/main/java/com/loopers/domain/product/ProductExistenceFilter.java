@@ -0,0 +1,33 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 존재하지 않는 상품 id 로 들어온 요청이 DB 까지 내려가지 않도록 막는 필터.
+ * 존재하는 상품 id 의 Bloom filter 와, 필터를 통과했지만 DB 에 없던 id 의 짧은 negative cache 로 이루어진다.
+ */
+public interface ProductExistenceFilter {
+
+    /**
+     * false 면 상품이 확실히 존재하지 않는다. true 여도 존재하지 않을 수 있다.
+     * 필터가 아직 준비되지 않았거나 사용할 수 없으면 true 를 반환한다.
+     */
+    boolean mightExist(Long productId);
+
+    /**
+     * 새로 생긴 상품 id 를 필터에 추가하고, 남아 있는 negative cache 를 지운다.
+     */
+    void add(Collection<Long> productIds);
+
+    /**
+     * DB 에서 찾지 못한 id 를 잠시 기억하여, 같은 id 의 반복 요청이 DB 로 가지 않게 한다.
+     */
+    void markMissing(Long productId);
+
+    /**
+     * id 순으로 청크를 읽어 필터를 다시 채운다. chunkLoader 는 마지막 id 를 받아 그 이후의 id 를 반환한다.
+     */
+    void rebuild(Function<Long, List<Long>> chunkLoader);
+}
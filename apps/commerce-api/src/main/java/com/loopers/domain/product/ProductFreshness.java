@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 캐시된 상품이 최신인지 확인하는 데 필요한 컬럼만 담은 projection. 상품이 바뀌면 version 과 updatedAt 이 함께 바뀐다.
+ * 좋아요 수는 엔티티를 거치지 않고 갱신되므로 version 과 별도로 비교한다.
+ */
+public record ProductFreshness(
+        Long id,
+        Long version,
+        long likeCount,
+        ZonedDateTime updatedAt
+) {
+    public static ProductFreshness from(ProductEntity product) {
+        return new ProductFreshness(product.getId(), product.getVersion(), product.getLikeCount(), product.getUpdatedAt());
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+public record ProductIdPage(
+        List<Long> ids,
+        long totalElements
+) {
+}
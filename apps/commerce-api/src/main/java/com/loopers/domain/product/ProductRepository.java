@@ -4,11 +4,63 @@ import com.loopers.domain.CustomCrudRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository extends CustomCrudRepository<ProductEntity> {
 
-    Page<ProductEntity> findAll(Pageable pageable);
+    /*
+     * 아래 조회는 화면에 필요한 컬럼만 브랜드와 함께 한 번에 projection 으로 조회한다. (엔티티 미적재)
+     */
 
-    Optional<ProductEntity> findByIdWithPessimisticLock(Long id);
+    Optional<ProductView> findViewById(Long id);
+
+    /**
+     * 주어진 id 의 상품을 조회한다. 결과 순서는 보장하지 않는다.
+     */
+    List<ProductView> findViewsByIds(List<Long> ids);
+
+    Page<ProductView> findViews(Pageable pageable);
+
+    /**
+     * cursor 이후의 상품을 정렬 순서대로 최대 limit 건 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<ProductView> findViewsByCursor(ProductSortType sortType, ProductCursor cursor, int limit);
+
+    /**
+     * 브랜드, 가격 범위 조건으로 상품을 검색한다. 정렬은 pageable 이 아닌 검색 조건의 정렬 기준을 따른다.
+     */
+    Page<ProductView> search(ProductCommand.Search condition, Pageable pageable);
+
+    /**
+     * lastId 이후의 삭제되지 않은 상품 정렬 키를 id 오름차순으로 조회한다.
+     */
+    List<ProductSortKey> findSortKeysAfter(Long lastId, int limit);
+
+    /**
+     * 상품별 좋아요 수 변화량을 더한다. 행을 읽지 않고 상품당 UPDATE 한 문장으로 반영하며, 여러 상품을 한 번의 배치로 보낸다.
+     */
+    void addLikeCounts(Map<Long, Long> deltas);
+
+    /**
+     * 좋아요 수를 likes 에서 센 값으로 바꾼다. like_count 가 읽었던 값 그대로인 상품만 바꾸고, 바꾼 상품 수를 반환한다.
+     */
+    int correctLikeCounts(List<LikeCountCorrection> corrections);
+
+    /**
+     * 여러 상품의 재고를 한 문장으로 차감한다. 모든 상품의 재고가 충분할 때만 의미가 있으므로, 모든 상품에 적용되었는지를 반환한다.
+     * false 를 반환하면 일부 상품만 차감되었을 수 있으니 호출한 트랜잭션을 롤백해야 한다.
+     */
+    boolean decreaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 여러 상품의 재고를 한 문장으로 늘린다. 모든 상품에 적용되었는지를 반환한다.
+     */
+    boolean increaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 주어진 id 의 상품 버전과 수정 시각을 조회한다. 결과 순서는 보장하지 않는다.
+     */
+    List<ProductFreshness> findFreshnessByIds(List<Long> ids);
 }
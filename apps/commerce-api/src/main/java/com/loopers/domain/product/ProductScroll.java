@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 커서 기반 조회 결과. 전체 건수를 세지 않고, 한 건을 더 조회해 다음 페이지 존재 여부만 판단한다.
+ */
+public record ProductScroll(
+        List<ProductView> products,
+        ProductCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
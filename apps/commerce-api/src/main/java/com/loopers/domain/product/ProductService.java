@@ -1,24 +1,57 @@
 package com.loopers.domain.product;
 
 import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.ReservedQuantity;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService {
 
+    private static final int SORT_INDEX_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final ProductSortIndex productSortIndex;
+    private final ProductExistenceFilter productExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 상품을 저장한다. 새로 생성되거나 삭제된 상품이면 목록 구성이 바뀌었음을 알린다.
+     */
+    @Transactional
+    public ProductEntity save(ProductEntity product) {
+        boolean listingChanged = product.getId() == null || product.getId() == 0L || product.isDeleted();
+        ProductEntity saved = productRepository.save(product);
+        if (listingChanged) {
+            eventPublisher.publishEvent(ProductChangedEvent.listingChanged(List.of(saved.getId())));
+        }
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        ProductEntity product = findById(id);
+        product.delete();
+        save(product);
+    }
 
     public ProductEntity findById(Long id) {
         if (id == null) {
@@ -28,8 +61,97 @@ public class ProductService {
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + id));
     }
 
-    public Page<ProductEntity> findAll(Pageable pageable) {
-        return productRepository.findAll(pageable);
+    public ProductView findViewById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("상품 ID는 null일 수 없습니다");
+        }
+        // 존재하지 않는 id 를 순회하는 요청이 캐시 미스마다 DB 로 내려가지 않도록 먼저 걸러낸다.
+        if (!productExistenceFilter.mightExist(id)) {
+            throw new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + id);
+        }
+        return productRepository.findViewById(id)
+                .orElseThrow(() -> {
+                    productExistenceFilter.markMissing(id);
+                    return new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + id);
+                });
+    }
+
+    public Page<ProductView> findAll(Pageable pageable) {
+        // 지원하는 정렬이면 정렬 인덱스에서 id 를 가져오고, 사용할 수 없으면 DB 에서 조회한다.
+        return ProductSortType.from(pageable.getSort())
+                .flatMap(sortType -> productSortIndex.findIds(sortType, pageable.getOffset(), pageable.getPageSize()))
+                .map(idPage -> findAllByIdPage(idPage, pageable))
+                .orElseGet(() -> productRepository.findViews(pageable));
+    }
+
+    public void rebuildSortIndex() {
+        productSortIndex.rebuild(lastId -> productRepository.findSortKeysAfter(lastId, SORT_INDEX_CHUNK_SIZE));
+    }
+
+    public void rebuildExistenceFilter() {
+        productExistenceFilter.rebuild(lastId -> productRepository.findSortKeysAfter(lastId, SORT_INDEX_CHUNK_SIZE).stream()
+                .map(ProductSortKey::id)
+                .toList());
+    }
+
+    private Page<ProductView> findAllByIdPage(ProductIdPage idPage, Pageable pageable) {
+        if (idPage.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.totalElements());
+        }
+
+        Map<Long, ProductView> productsById = productRepository.findViewsByIds(idPage.ids()).stream()
+                .collect(Collectors.toMap(ProductView::id, Function.identity()));
+
+        // 인덱스에는 있지만 DB 에서 사라진 상품은 인덱스에서도 제거한다.
+        List<Long> missingIds = idPage.ids().stream()
+                .filter(id -> !productsById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            productSortIndex.remove(missingIds);
+        }
+
+        List<ProductView> products = idPage.ids().stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(products, pageable, idPage.totalElements() - missingIds.size());
+    }
+
+    public Page<ProductView> search(ProductCommand.Search condition, Pageable pageable) {
+        return productRepository.search(condition, pageable);
+    }
+
+    public ProductScroll findAllByCursor(ProductSortType sortType, ProductCursor cursor, int size) {
+        if (sortType == null || size <= 0) {
+            throw new IllegalArgumentException("정렬 기준과 페이지 크기는 유효해야 합니다.");
+        }
+
+        // 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다. (COUNT 쿼리 없음)
+        List<ProductView> products = productRepository.findViewsByCursor(sortType, cursor, size + 1);
+        if (products.size() <= size) {
+            return new ProductScroll(products, null);
+        }
+
+        List<ProductView> content = products.subList(0, size);
+        return new ProductScroll(content, ProductCursor.of(sortType, content.get(size - 1)));
+    }
+
+    /**
+     * 주어진 id 의 상품을 한 번의 쿼리로 조회한다. 존재하지 않는 id 는 결과에서 빠진다.
+     */
+    public List<ProductView> findViewsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("상품 ID 목록은 비어있을 수 없습니다");
+        }
+        return productRepository.findViewsByIds(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductFreshness> findFreshnessByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("상품 ID 목록은 비어있을 수 없습니다");
+        }
+        return productRepository.findFreshnessByIds(ids);
     }
 
     public List<ProductEntity> findAllById(List<Long> ids) {
@@ -39,16 +161,56 @@ public class ProductService {
         return productRepository.findAllById(ids);
     }
 
+    /**
+     * 상품별로 모인 좋아요 수 변화량을 한 트랜잭션에서 반영한다. 변화량이 0 인 상품은 건너뛴다.
+     */
+    @Transactional
+    public void applyLikeCountDeltas(Map<Long, Long> deltas) {
+        Map<Long, Long> changed = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        productRepository.addLikeCounts(changed);
+        eventPublisher.publishEvent(ProductChangedEvent.likeCountChanged(List.copyOf(changed.keySet())));
+    }
+
+    public List<ProductSortKey> findSortKeysAfter(Long lastId, int limit) {
+        return productRepository.findSortKeysAfter(lastId, limit);
+    }
+
+    /**
+     * likes 와 어긋난 좋아요 수를 바로잡고, 바뀐 상품의 캐시를 무효화한다. 바꾼 상품 수를 반환한다.
+     */
     @Transactional
-    public void updateLikeCount(Long productId, boolean liked) {
-        ProductEntity product = productRepository.findByIdWithPessimisticLock(productId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + productId));
-        if (liked) {
-            product.increaseLikeCount();
-        } else {
-            product.decreaseLikeCount();
+    public int correctLikeCounts(List<LikeCountCorrection> corrections) {
+        if (corrections.isEmpty()) {
+            return 0;
         }
-        productRepository.save(product);
+
+        int corrected = productRepository.correctLikeCounts(corrections);
+        eventPublisher.publishEvent(ProductChangedEvent.likeCountChanged(
+                corrections.stream().map(LikeCountCorrection::productId).toList()
+        ));
+        return corrected;
+    }
+
+    /**
+     * 상품 재고에서 아직 차감하지 않은 주문 수량을 뺀, 지금 예약할 수 있는 재고를 계산한다. 존재하지 않는 상품은 결과에서 빠진다.
+     * 한 트랜잭션의 스냅샷에서 두 값을 읽으므로, 그 사이에 재고 차감이 끝난 주문이 두 번 빠지거나 빠지지 않는 일이 없다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findAvailableStocks(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("상품 ID 목록은 비어있을 수 없습니다");
+        }
+
+        Map<Long, Long> reserved = orderRepository.findReservedQuantities(ids).stream()
+                .collect(Collectors.toMap(ReservedQuantity::productId, ReservedQuantity::quantity));
+        return productRepository.findViewsByIds(ids).stream()
+                .collect(Collectors.toMap(ProductView::id, product -> product.stock() - reserved.getOrDefault(product.id(), 0L)));
     }
 
     @Transactional
@@ -66,17 +228,21 @@ public class ProductService {
             return;
         }
 
-        for (ProductCommand.StockDecrease command : commands) {
-            ProductEntity product = productRepository.findByIdWithPessimisticLock(command.productId())
-                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + command.productId()));
-
-            product.decreaseStock(command.quantity());
+        // 하나라도 차감하지 못하면 예외로 트랜잭션을 롤백해, 일부 상품만 차감된 채로 남지 않게 한다.
+        Map<Long, Integer> quantities = commands.stream()
+                .collect(Collectors.toMap(ProductCommand.StockDecrease::productId, ProductCommand.StockDecrease::quantity, Integer::sum));
+        if (!productRepository.decreaseStocks(quantities)) {
+            throw new IllegalArgumentException("재고가 부족하거나 존재하지 않는 상품이 있습니다. orderId: " + orderId);
         }
 
         order.markStockAsDeducted();
         orderRepository.save(order);
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(
+                commands.stream().map(ProductCommand.StockDecrease::productId).distinct().toList()
+        ));
     }
 
+    @Transactional
     public void restoreStocks(Long orderId) {
         log.info("재고 복원 시작: orderId={}", orderId);
 
@@ -88,14 +254,17 @@ public class ProductService {
             return;
         }
 
-        order.getItems().forEach(item -> {
-            ProductEntity product = productRepository.findByIdWithPessimisticLock(item.getProductId())
-                    .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상품을 찾을 수 없습니다: " + item.getProductId()));
-            product.increaseStock(item.getQuantity());
-        });
+        Map<Long, Integer> quantities = order.getItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+        if (!productRepository.increaseStocks(quantities)) {
+            throw new EntityNotFoundException("재고를 복원할 상품을 찾을 수 없습니다. orderId: " + orderId);
+        }
 
         order.markStockAsRestored();
         orderRepository.save(order);
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(
+                order.getProductIds().stream().distinct().toList()
+        ));
         log.info("재고 복원 완료: orderId={}", orderId);
     }
 }
@@ -0,0 +1,23 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 정렬 기준별로 상품 id 순서를 미리 유지하는 인덱스.
+ * 인덱스를 사용할 수 없는 경우(구축 전, 장애 등) 조회 결과가 비어 있으므로 호출자는 DB 로 대체 조회해야 한다.
+ */
+public interface ProductSortIndex {
+
+    Optional<ProductIdPage> findIds(ProductSortType sortType, long offset, int size);
+
+    void upsert(List<ProductSortKey> sortKeys);
+
+    void remove(List<Long> productIds);
+
+    /**
+     * chunkLoader 에 마지막으로 읽은 id 를 전달하며 전체 상품을 순차적으로 읽어 인덱스를 다시 구축한다.
+     */
+    void rebuild(Function<Long, List<ProductSortKey>> chunkLoader);
+}
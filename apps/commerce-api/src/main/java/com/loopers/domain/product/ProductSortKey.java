@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+import java.math.BigDecimal;
+
+/**
+ * 정렬 인덱스에 필요한 상품의 정렬 키만 담은 projection.
+ */
+public record ProductSortKey(
+        Long id,
+        BigDecimal price,
+        long likeCount
+) {
+    public static ProductSortKey from(ProductEntity product) {
+        return new ProductSortKey(product.getId(), product.getPrice(), product.getLikeCount());
+    }
+}
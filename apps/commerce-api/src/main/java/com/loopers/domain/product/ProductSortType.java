@@ -0,0 +1,31 @@
+package com.loopers.domain.product;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+
+/**
+ * 커서 기반 목록 조회에서 지원하는 정렬 기준. 모든 정렬은 id 를 보조 키로 사용해 순서를 확정한다.
+ */
+public enum ProductSortType {
+    LATEST,     // id DESC (PK)
+    PRICE_ASC,  // price ASC, id ASC (idx_products_price)
+    LIKES_DESC; // like_count DESC, id DESC (idx_products_like_count)
+
+    /**
+     * 페이지 요청의 정렬 조건이 지원하는 정렬 기준과 일치하면 해당 기준을 반환한다.
+     */
+    public static Optional<ProductSortType> from(Sort sort) {
+        if (sort == null || sort.isUnsorted() || sort.stream().count() != 1) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = sort.iterator().next();
+        return switch (order.getProperty()) {
+            case "id", "createdAt" -> order.isDescending() ? Optional.of(LATEST) : Optional.empty();
+            case "price" -> order.isAscending() ? Optional.of(PRICE_ASC) : Optional.empty();
+            case "likeCount" -> order.isDescending() ? Optional.of(LIKES_DESC) : Optional.empty();
+            default -> Optional.empty();
+        };
+    }
+}
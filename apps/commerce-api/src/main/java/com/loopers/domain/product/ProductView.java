@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 조회 화면에 필요한 컬럼만 담은 읽기 전용 projection.
+ * 브랜드명까지 한 번의 쿼리로 가져오므로 엔티티와 브랜드를 영속성 컨텍스트에 올리지 않는다.
+ */
+public record ProductView(
+        Long id,
+        String name,
+        BigDecimal price,
+        int stock,
+        String brandName,
+        long likeCount,
+        Long version
+) {
+}
@@ -0,0 +1,42 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 주문 시점에 재고를 먼저 예약하는 저장소. 상품마다 예약할 수 있는 재고(상품 재고에서 아직 차감하지 않은 주문 수량을 뺀 값)를 가진다.
+ * 여러 상품의 예약은 모두 성공하거나 모두 실패한다.
+ */
+public interface StockReservation {
+
+    Result reserve(Map<Long, Integer> quantities);
+
+    /**
+     * 예약했던 수량을 돌려준다. 적재되지 않은 상품은 다음 적재 때 DB 기준으로 채워지므로 건너뛴다.
+     */
+    void release(Map<Long, Integer> quantities);
+
+    /**
+     * 아직 적재되지 않은 상품만 예약할 수 있는 재고를 채운다.
+     */
+    void load(Map<Long, Long> availableStocks);
+
+    /**
+     * 적재된 상품의 예약할 수 있는 재고를 조회한다. 적재되지 않은 상품은 결과에서 빠진다.
+     */
+    Map<Long, Long> findAvailable(Collection<Long> productIds);
+
+    /**
+     * 예약할 수 있는 재고가 아직 actual 이면 expected 로 바꾼다.
+     */
+    boolean correct(Long productId, long actual, long expected);
+
+    enum Result {
+        RESERVED,
+        INSUFFICIENT,
+        // 적재되지 않은 상품이 있음
+        NOT_LOADED,
+        // 저장소를 사용할 수 없음
+        UNAVAILABLE
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 정합성 작업의 진행 위치와 실행 락을 Redis 에 보관한다.
+ * <p>
+ * 락에는 잡을 때마다 새로 만든 토큰을 담고, 풀 때는 토큰이 같을 때만 지운다. 실행이 임대 시간보다 길어져 다른 인스턴스가
+ * 락을 잡았다면, 늦게 끝난 실행이 그 락을 지우지 않는다.
+ */
+public abstract class RedisReconciliationCheckpoint {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+    private final String cursorKey;
+    private final String lockKey;
+    private volatile String lockToken;
+
+    protected RedisReconciliationCheckpoint(RedisTemplate<String, Object> masterRedisTemplate, String keyPrefix) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.cursorKey = keyPrefix + ":cursor";
+        this.lockKey = keyPrefix + ":lock";
+    }
+
+    public boolean tryLock(Duration lease) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(masterRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lease))) {
+            return false;
+        }
+        lockToken = token;
+        return true;
+    }
+
+    public void unlock() {
+        String token = lockToken;
+        if (token == null) {
+            return;
+        }
+        lockToken = null;
+        masterRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+    }
+
+    public long lastProductId() {
+        Object cursor = masterRedisTemplate.opsForValue().get(cursorKey);
+        return cursor == null ? 0L : Long.parseLong(cursor.toString());
+    }
+
+    public void save(long lastProductId) {
+        masterRedisTemplate.opsForValue().set(cursorKey, String.valueOf(lastProductId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 키별 조회/변경 빈도로 Redis(L2) TTL 을 정한다.
+ * <pre>
+ * ttl = base x max(1, log10(분당 조회 수)) / (1 + 분당 변경 수), [min, max] 로 제한
+ * </pre>
+ * 자주 조회되고 거의 바뀌지 않는 키는 오래 두어 원본 조회를 줄이고, 자주 바뀌는 키는 짧게 두어 변경이 빨리 반영되게 한다.
+ * 선택한 TTL 은 cache.ttl.chosen (초, cache 태그) 분포로 내보낸다.
+ */
+public class AdaptiveTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final String cacheName;
+    private final CacheProperties.TtlSpec spec;
+    private final CacheAccessStats accessStats;
+    private final DistributionSummary chosenTtl;
+
+    public AdaptiveTtlFunction(String cacheName, CacheProperties.TtlSpec spec, CacheAccessStats accessStats, MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+        this.spec = spec;
+        this.accessStats = accessStats;
+        this.chosenTtl = DistributionSummary.builder("cache.ttl.chosen")
+                .baseUnit("seconds")
+                .tag("cache", cacheName)
+                .publishPercentileHistogram()
+                .minimumExpectedValue((double) spec.min().toSeconds())
+                .maximumExpectedValue((double) spec.max().toSeconds())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        CacheAccessStats.Rates rates = accessStats.ratesOf(cacheName, key);
+        double readWeight = Math.max(1.0, Math.log10(rates.readsPerMinute()));
+        double writeWeight = 1.0 + rates.writesPerMinute();
+
+        long millis = Math.round(spec.base().toMillis() * readWeight / writeWeight);
+        Duration ttl = Duration.ofMillis(Math.clamp(millis, spec.min().toMillis(), spec.max().toMillis()));
+        chosenTtl.record(ttl.toSeconds());
+        return ttl;
+    }
+
+    /**
+     * 이 캐시의 키가 가질 수 있는 가장 긴 TTL. 여러 키가 공유하는 태그처럼 어떤 키보다 먼저 사라지면 안 되는 데이터에 사용한다.
+     */
+    public Duration maxTtl() {
+        return spec.max();
+    }
+}
@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐시 키별 조회/변경 빈도. 1분 시간 상수로 지수 감쇠하는 카운터를 두어, 값이 대략 최근 1분간의 건수가 되도록 한다.
+ * 이 인스턴스에서 관찰한 값이며, 변경은 다른 노드에서 전파된 무효화도 포함한다.
+ */
+@Component
+public class CacheAccessStats {
+
+    private static final long MAXIMUM_KEYS = 100_000;
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+    private static final double TIME_CONSTANT_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, KeyStats> stats = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_KEYS)
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+
+    public void recordRead(String cacheName, Object key) {
+        statsOf(cacheName, key).record(System.nanoTime(), 1, 0);
+    }
+
+    public void recordWrite(String cacheName, Object key) {
+        statsOf(cacheName, key).record(System.nanoTime(), 0, 1);
+    }
+
+    public Rates ratesOf(String cacheName, Object key) {
+        KeyStats keyStats = stats.getIfPresent(cacheName + "::" + key);
+        return keyStats == null ? new Rates(0, 0) : keyStats.rates(System.nanoTime());
+    }
+
+    private KeyStats statsOf(String cacheName, Object key) {
+        return stats.get(cacheName + "::" + key, ignored -> new KeyStats(System.nanoTime()));
+    }
+
+    public record Rates(double readsPerMinute, double writesPerMinute) {
+    }
+
+    private static final class KeyStats {
+
+        private long updatedAt;
+        private double reads;
+        private double writes;
+
+        private KeyStats(long now) {
+            this.updatedAt = now;
+        }
+
+        private synchronized void record(long now, int read, int write) {
+            decay(now);
+            reads += read;
+            writes += write;
+        }
+
+        private synchronized Rates rates(long now) {
+            decay(now);
+            return new Rates(reads, writes);
+        }
+
+        private void decay(long now) {
+            double factor = Math.exp(-(now - updatedAt) / TIME_CONSTANT_NANOS);
+            reads *= factor;
+            writes *= factor;
+            updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지. key 가 null 이면 캐시 전체를 비운다.
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+    public static CacheInvalidationMessage evict(String origin, String cacheName, Object key) {
+        return new CacheInvalidationMessage(origin, cacheName, String.valueOf(key));
+    }
+
+    public static CacheInvalidationMessage clear(String origin, String cacheName) {
+        return new CacheInvalidationMessage(origin, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
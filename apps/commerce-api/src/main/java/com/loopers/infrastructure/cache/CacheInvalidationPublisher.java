@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationPublisher(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(CacheInvalidationMessage.evict(instanceId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CacheInvalidationMessage.clear(instanceId, cacheName));
+    }
+
+    /**
+     * 다른 노드에서 발행된 메시지만 반환한다. 자신이 발행한 메시지는 이미 로컬에 반영되어 있으므로 무시한다.
+     */
+    public Optional<CacheInvalidationMessage> readForeignMessage(byte[] body) {
+        try {
+            CacheInvalidationMessage message = objectMapper.readValue(body, CacheInvalidationMessage.class);
+            return instanceId.equals(message.origin()) ? Optional.empty() : Optional.of(message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지를 해석할 수 없습니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 무효화 전파 실패 시 다른 노드의 L1 은 짧은 TTL 이 지나면 자연히 만료된다.
+            log.warn("캐시 무효화 메시지 발행 실패 cache: [{}], key: [{}]", message.cacheName(), message.key(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 캐시 키 단위로 클러스터 전체에서 하나의 로더만 원본을 조회하도록 하는 짧은 Redis 임대(lease) 락.
+ * 락은 TTL 로 자동 만료되므로 로더가 비정상 종료되어도 다른 노드가 곧 다시 시도할 수 있다.
+ */
+@Component
+@Slf4j
+public class CacheLoadLock {
+
+    private static final String LOCK_PREFIX = "lock:";
+
+    // 자신이 획득한 락일 때만 삭제한다. 임대 시간이 지나 다른 노드가 다시 획득한 락을 지우지 않기 위함이다.
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public CacheLoadLock(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 락 획득에 성공하면 해제 시 사용할 토큰을 반환한다. Redis 장애 시에는 획득하지 못한 것으로 본다.
+     */
+    public Optional<String> tryAcquire(String redisKey, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + redisKey, token, lease);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("캐시 로드 락 획득 실패 key: [{}]", redisKey, e);
+            return Optional.empty();
+        }
+    }
+
+    public void release(String redisKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + redisKey), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못한 락은 임대 시간이 지나면 만료된다.
+            log.warn("캐시 로드 락 해제 실패 key: [{}]", redisKey, e);
+        }
+    }
+}
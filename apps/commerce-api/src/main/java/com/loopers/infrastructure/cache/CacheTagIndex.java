@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그 -> 캐시 키 색인. 태그별로 키 목록을 Redis SET 에 저장하고, 태그마다 마지막으로 무효화된 시각(Redis 서버 시각)을 남긴다.
+ * 색인과 무효화 시각은 캐시의 L2 키 공간 아래 "tag:", "tag-version:" 으로 저장된다.
+ */
+class CacheTagIndex {
+
+    private static final String TAG_PREFIX = "tag:";
+    private static final String TAG_VERSION_PREFIX = "tag-version:";
+
+    private final RedisCacheTier redisTier;
+
+    CacheTagIndex(RedisCacheTier redisTier) {
+        this.redisTier = redisTier;
+    }
+
+    /**
+     * 캐시 키가 아닌 색인용 키인지 여부
+     */
+    boolean isIndexKey(String key) {
+        return key.startsWith(TAG_PREFIX) || key.startsWith(TAG_VERSION_PREFIX);
+    }
+
+    /**
+     * 키에 태그를 단다. SET 은 이 캐시의 가장 긴 TTL 만큼 유지되어 키보다 먼저 사라지지 않는다.
+     * 태그를 저장하지 못하면 태그로 무효화되지 않고 TTL 까지 남을 뿐이다.
+     */
+    void tag(Object key, Collection<String> tags) {
+        byte[] rawKey = String.valueOf(key).getBytes(StandardCharsets.UTF_8);
+        Duration ttl = redisTier.maxTtl();
+        redisTier.run(connection -> {
+            connection.openPipeline();
+            for (String tag : tags) {
+                byte[] tagKey = tagKeyOf(tag);
+                connection.setCommands().sAdd(tagKey, rawKey);
+                if (!ttl.isZero() && !ttl.isNegative()) {
+                    connection.keyCommands().pExpire(tagKey, ttl.toMillis());
+                }
+            }
+            connection.closePipeline();
+        });
+    }
+
+    /**
+     * 태그의 무효화 시각을 남기고, 태그가 달린 키를 꺼내면서 태그를 지운다. Redis 를 쓸 수 없으면 비어 있다.
+     */
+    Optional<List<Object>> invalidate(Collection<String> tags) {
+        Duration ttl = redisTier.maxTtl();
+        return redisTier.execute(connection -> {
+            // 노드마다 시계가 다를 수 있으므로 Redis 서버 시각을 무효화 시각으로 쓴다.
+            byte[] invalidatedAt = String.valueOf(connection.serverCommands().time(TimeUnit.MILLISECONDS)).getBytes(StandardCharsets.UTF_8);
+            List<Object> keys = new ArrayList<>();
+            for (String tag : tags) {
+                // 무효화 시각을 먼저 남겨, 지금 적재 중인 값이 저장된 뒤 스스로 지우도록 한다.
+                connection.stringCommands().set(tagVersionKeyOf(tag), invalidatedAt, RedisCacheTier.expirationOf(ttl), RedisStringCommands.SetOption.upsert());
+
+                byte[] tagKey = tagKeyOf(tag);
+                Set<byte[]> members = connection.setCommands().sMembers(tagKey);
+                if (members != null) {
+                    members.forEach(member -> keys.add(new String(member, StandardCharsets.UTF_8)));
+                }
+                connection.keyCommands().del(tagKey);
+            }
+            return Optional.of(keys);
+        }, Optional::empty);
+    }
+
+    /**
+     * Redis 서버의 현재 시각(ms). Redis 를 쓸 수 없으면 비어 있다.
+     */
+    Optional<Long> now() {
+        return redisTier.execute(connection -> Optional.ofNullable(connection.serverCommands().time(TimeUnit.MILLISECONDS)), Optional::empty);
+    }
+
+    /**
+     * 태그들이 마지막으로 무효화된 시각(ms). 무효화된 적이 없으면 0 이고, Redis 를 쓸 수 없으면 비어 있다.
+     */
+    Optional<Long> lastInvalidatedAt(Collection<String> tags) {
+        return redisTier.execute(connection -> {
+            List<byte[]> versions = connection.stringCommands().mGet(tags.stream()
+                    .map(this::tagVersionKeyOf)
+                    .toArray(byte[][]::new));
+            return Optional.of(versions == null ? 0L : versions.stream()
+                    .filter(Objects::nonNull)
+                    .mapToLong(version -> Long.parseLong(new String(version, StandardCharsets.UTF_8)))
+                    .max()
+                    .orElse(0L));
+        }, Optional::empty);
+    }
+
+    private byte[] tagKeyOf(String tag) {
+        return redisTier.rawKeyOf(TAG_PREFIX + tag);
+    }
+
+    private byte[] tagVersionKeyOf(String tag) {
+        return redisTier.rawKeyOf(TAG_VERSION_PREFIX + tag);
+    }
+}
@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * L2 미스 시 {@link CacheLoadLock} 의 임대 락을 얻은 노드만 원본을 조회하게 한다.
+ * 락을 얻지 못한 노드는 다른 노드가 L2 에 적재할 때까지 잠시 기다리고, 늦어지면 직접 조회한다.
+ */
+class ClusterSingleFlight {
+
+    private final RedisCacheTier redisTier;
+    private final CacheLoadLock loadLock;
+    private final CacheProperties.LoadingSpec loadingSpec;
+
+    ClusterSingleFlight(RedisCacheTier redisTier, CacheLoadLock loadLock, CacheProperties.LoadingSpec loadingSpec) {
+        this.redisTier = redisTier;
+        this.loadLock = loadLock;
+        this.loadingSpec = loadingSpec;
+    }
+
+    /**
+     * @param valueLoader  Redis 를 쓸 수 없을 때 L2 에 저장하지 않고 원본을 조회하는 로더
+     * @param loadAndStore 원본을 조회해 L2 에 저장하는 로더
+     */
+    @SuppressWarnings("unchecked")
+    <T> T load(Object key, Callable<T> valueLoader, Callable<T> loadAndStore) throws Exception {
+        String redisKey = redisTier.redisKeyOf(key);
+        Optional<String> token = tryAcquire(redisKey);
+        if (token.isEmpty()) {
+            ValueWrapper loaded = awaitLoadedValue(key);
+            if (loaded == RedisCacheTier.UNAVAILABLE) {
+                return redisTier.getGuard().loadWithoutCache(valueLoader);
+            }
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+            // 다른 노드의 적재가 늦어지면 응답 지연이 커지지 않도록 직접 조회한다.
+            return loadAndStore.call();
+        }
+
+        try {
+            // 락을 기다리는 사이 다른 노드가 이미 적재했을 수 있다.
+            ValueWrapper cached = redisTier.get(key);
+            if (cached != null && cached != RedisCacheTier.UNAVAILABLE) {
+                return (T) cached.get();
+            }
+            return loadAndStore.call();
+        } finally {
+            release(redisKey, token.get());
+        }
+    }
+
+    /**
+     * 락을 얻은 경우에만 작업을 실행하고, 실행했는지 반환한다. 다른 노드가 이미 같은 키를 적재 중이면 실행하지 않는다.
+     */
+    boolean runExclusively(Object key, Callable<?> task) throws Exception {
+        String redisKey = redisTier.redisKeyOf(key);
+        Optional<String> token = tryAcquire(redisKey);
+        if (token.isEmpty()) {
+            return false;
+        }
+
+        try {
+            task.call();
+            return true;
+        } finally {
+            release(redisKey, token.get());
+        }
+    }
+
+    private Optional<String> tryAcquire(String redisKey) {
+        return redisTier.getGuard().execute(() -> loadLock.tryAcquire(redisKey, loadingSpec.lockLease()), Optional::empty);
+    }
+
+    private void release(String redisKey, String token) {
+        redisTier.getGuard().run(() -> loadLock.release(redisKey, token));
+    }
+
+    private ValueWrapper awaitLoadedValue(Object key) {
+        long deadline = System.nanoTime() + loadingSpec.lockWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(loadingSpec.lockRetryInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ValueWrapper cached = redisTier.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+}
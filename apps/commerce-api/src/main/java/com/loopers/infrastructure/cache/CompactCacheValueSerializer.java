@@ -0,0 +1,117 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 캐시 값을 Smile(바이너리 JSON) 로 직렬화하고, 일정 크기 이상이면 LZ4 로 압축한다.
+ * <pre>
+ * [version:1][flags:1][payload]                       - 압축하지 않은 경우
+ * [version:1][flags:1][originalLength:4][lz4 payload] - 압축한 경우 (flags & FLAG_LZ4)
+ * </pre>
+ * 읽을 수 없는 버전의 값은 캐시 미스로 취급하므로, 포맷이 바뀌어도 롤링 배포 중 오류 없이 다시 적재된다.
+ */
+@Slf4j
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 2;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    public CompactCacheValueSerializer(int compressionThreshold) {
+        this.objectMapper = createObjectMapper();
+        this.compressionThreshold = compressionThreshold;
+
+        LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.safeDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writerFor(Object.class).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다: " + value.getClass().getName(), e);
+        }
+
+        if (payload.length < compressionThreshold) {
+            return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                    .put(FORMAT_VERSION)
+                    .put((byte) 0)
+                    .put(payload)
+                    .array();
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+        int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0, compressed.length);
+        return ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressedLength)
+                .put(FORMAT_VERSION)
+                .put(FLAG_LZ4)
+                .putInt(payload.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            log.debug("지원하지 않는 캐시 값 포맷이므로 캐시 미스로 처리합니다. version: [{}]", bytes[0]);
+            return null;
+        }
+
+        try {
+            if ((bytes[1] & FLAG_LZ4) == 0) {
+                return objectMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+            byte[] payload = new byte[originalLength];
+            int offset = HEADER_SIZE + LENGTH_SIZE;
+            decompressor.decompress(bytes, offset, bytes.length - offset, payload, 0);
+            return objectMapper.readValue(payload, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("캐시 값을 역직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        // 역직렬화 대상 타입을 애플리케이션과 JDK 타입으로 제한한다.
+        BasicPolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.loopers.")
+                .allowIfSubType("java.")
+                .build();
+
+        return SmileMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY)
+                .build();
+    }
+}
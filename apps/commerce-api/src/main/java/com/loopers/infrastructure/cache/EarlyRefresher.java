@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.CacheProperties;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 만료 전에 값을 다시 적재하는 백그라운드 갱신을 맡는다.
+ * 키별 최근 원본 조회 시간을 기억해 두고, XFetch 로 조기 갱신 여부를 정하며, 같은 키의 갱신은 한 번에 하나만 실행한다.
+ */
+class EarlyRefresher {
+
+    private final CacheProperties.LoadingSpec loadingSpec;
+    private final Duration localTtl;
+    private final Executor refreshExecutor;
+    // 키별 최근 원본 조회 시간. 조기 갱신을 얼마나 앞당길지 판단하는 데 사용한다.
+    private final Cache<Object, Duration> recomputeTimes;
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    EarlyRefresher(CacheProperties.LoadingSpec loadingSpec, CacheProperties.LocalCacheSpec localCacheSpec, Executor refreshExecutor) {
+        this.loadingSpec = loadingSpec;
+        this.localTtl = localCacheSpec.expireAfterWrite();
+        this.refreshExecutor = refreshExecutor;
+        this.recomputeTimes = Caffeine.newBuilder()
+                .maximumSize(localCacheSpec.maximumSize())
+                .build();
+    }
+
+    /**
+     * 원본을 조회하고 걸린 시간을 기록한다.
+     */
+    <T> T timed(Object key, Callable<T> valueLoader) throws Exception {
+        long startedAt = System.nanoTime();
+        T value = valueLoader.call();
+        recomputeTimes.put(key, Duration.ofNanos(System.nanoTime() - startedAt));
+        return value;
+    }
+
+    /**
+     * 조기 갱신을 검토할지 여부. 꺼져 있거나 이미 갱신 중이면 남은 TTL 을 조회할 필요가 없다.
+     */
+    boolean mayRefresh(Object key) {
+        return loadingSpec.earlyRefreshBeta() > 0 && !refreshingKeys.contains(key);
+    }
+
+    /**
+     * XFetch: 원본 조회 시간 x beta x (-ln(rand)) 가 남은 TTL 이상이면 만료 전에 다시 적재한다.
+     * 이 노드는 L1 이 만료될 때까지 L2 를 다시 보지 않으므로, 남은 TTL 에서 L1 TTL 을 뺀 시간을 기준으로 판단한다.
+     */
+    boolean shouldRefresh(Object key, Duration remainingTtl) {
+        long remainingMillis = remainingTtl.minus(localTtl).toMillis();
+        Duration recomputeTime = Optional.ofNullable(recomputeTimes.getIfPresent(key))
+                .orElse(loadingSpec.defaultRecomputeTime());
+        double gapMillis = recomputeTime.toMillis() * loadingSpec.earlyRefreshBeta()
+                * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return gapMillis >= remainingMillis;
+    }
+
+    /**
+     * 백그라운드에서 갱신한다. 같은 키를 이미 갱신 중이면 건너뛰고, 작업이 밀려 있으면 이번 기회는 포기한다.
+     */
+    void submit(Object key, Runnable refresh) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh.run();
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+}
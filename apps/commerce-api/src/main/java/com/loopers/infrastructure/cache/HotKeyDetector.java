@@ -0,0 +1,138 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 키별 조회 수를 count-min sketch 로 추정하여 윈도우마다 상위 K 개의 인기 키를 고른다.
+ * 모든 키의 조회 수를 정확히 세지 않으므로 메모리는 sketch 크기와 후보 수에 비례한다.
+ * 한 윈도우에서 고른 인기 키는 다음 윈도우 동안 유지되며, 그 사이 새 윈도우의 조회 수를 다시 집계한다.
+ */
+public class HotKeyDetector {
+
+    private final CacheProperties.HotKeySpec spec;
+    private final Clock clock;
+    private final AtomicLong windowStartedAt;
+
+    private volatile Window current;
+    private volatile List<HotKey> hotKeys = List.of();
+    private volatile Set<Object> hotKeySet = Set.of();
+
+    public HotKeyDetector(CacheProperties.HotKeySpec spec) {
+        this(spec, Clock.systemUTC());
+    }
+
+    HotKeyDetector(CacheProperties.HotKeySpec spec, Clock clock) {
+        this.spec = spec;
+        this.clock = clock;
+        this.windowStartedAt = new AtomicLong(clock.millis());
+        this.current = new Window(spec);
+    }
+
+    /**
+     * 조회 한 건을 기록한다.
+     */
+    public void record(Object key) {
+        rotateIfExpired();
+        current.record(key, spec);
+    }
+
+    public boolean isHot(Object key) {
+        rotateIfExpired();
+        return hotKeySet.contains(key);
+    }
+
+    /**
+     * 직전 윈도우에서 고른 인기 키를 조회 수 추정치가 큰 순서로 반환한다.
+     */
+    public List<HotKey> hotKeys() {
+        rotateIfExpired();
+        return hotKeys;
+    }
+
+    private void rotateIfExpired() {
+        long startedAt = windowStartedAt.get();
+        long now = clock.millis();
+        if (now - startedAt < spec.window().toMillis() || !windowStartedAt.compareAndSet(startedAt, now)) {
+            return;
+        }
+
+        Window finished = current;
+        current = new Window(spec);
+        List<HotKey> selected = finished.candidates.entrySet().stream()
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(HotKey::estimate).reversed())
+                .limit(spec.topK())
+                .toList();
+        hotKeys = selected;
+        hotKeySet = selected.stream().map(HotKey::key).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public record HotKey(Object key, long estimate) {
+    }
+
+    /**
+     * 윈도우 하나의 집계 상태. sketch 로 조회 수를 추정하고, 최소 조회 수를 넘긴 키만 후보로 남긴다.
+     */
+    private static final class Window {
+
+        private final AtomicLongArray counters;
+        private final int width;
+        private final int depth;
+        private final Map<Object, Long> candidates = new ConcurrentHashMap<>();
+
+        private Window(CacheProperties.HotKeySpec spec) {
+            this.width = spec.sketchWidth();
+            this.depth = spec.sketchDepth();
+            this.counters = new AtomicLongArray(width * depth);
+        }
+
+        private void record(Object key, CacheProperties.HotKeySpec spec) {
+            long hash1 = mix(key.hashCode());
+            long hash2 = mix(hash1) | 1L;
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                int column = (int) Math.floorMod(hash1 + row * hash2, (long) width);
+                estimate = Math.min(estimate, counters.incrementAndGet(row * width + column));
+            }
+
+            if (estimate < spec.minHits()) {
+                return;
+            }
+            candidates.put(key, estimate);
+            // 후보가 너무 많아지면 추정치가 작은 절반을 버린다.
+            if (candidates.size() > spec.topK() * 4) {
+                prune(spec.topK() * 2);
+            }
+        }
+
+        private synchronized void prune(int retain) {
+            if (candidates.size() <= retain) {
+                return;
+            }
+            candidates.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(candidates.size() - retain)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(candidates::remove);
+        }
+
+        // SplitMix64 finalizer
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시별로 현재 로컬에 고정 중인 인기 키를 보여준다. (GET /actuator/hotkeys)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeyEndpoint {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @ReadOperation
+    public Map<String, List<HotKeyResponse>> hotKeys() {
+        Map<String, List<HotKeyResponse>> result = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(cacheName) instanceof TwoTierCache cache) {
+                result.put(cacheName, cache.getHotKeys().stream()
+                        .map(hotKey -> new HotKeyResponse(String.valueOf(hotKey.key()), hotKey.estimate()))
+                        .toList());
+            }
+        }
+        return result;
+    }
+
+    public record HotKeyResponse(String key, long estimate) {
+    }
+}
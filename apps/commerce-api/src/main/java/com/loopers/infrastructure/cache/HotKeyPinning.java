@@ -0,0 +1,71 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.CacheProperties;
+
+import java.util.List;
+
+/**
+ * {@link HotKeyDetector} 로 고른 인기 키의 값을 L1 과 별도로 잠시 고정해 둔다.
+ * L1 이 만료되어도 고정된 값으로 응답할 수 있어, 인기 키의 만료 시점에 모든 요청이 같은 Redis 키로 몰리지 않는다.
+ */
+class HotKeyPinning {
+
+    private final HotKeyDetector hotKeyDetector;
+    private final Cache<Object, Object> pinnedValues;
+
+    HotKeyPinning(CacheProperties.HotKeySpec hotKeySpec) {
+        this.hotKeyDetector = new HotKeyDetector(hotKeySpec);
+        this.pinnedValues = Caffeine.newBuilder()
+                .maximumSize(hotKeySpec.topK() * 2L)
+                .expireAfterWrite(hotKeySpec.pinTtl())
+                .build();
+    }
+
+    /**
+     * 조회 한 건을 기록하고, 그 키가 인기 키인지 반환한다.
+     */
+    boolean recordAndCheck(Object key) {
+        hotKeyDetector.record(key);
+        return hotKeyDetector.isHot(key);
+    }
+
+    List<HotKeyDetector.HotKey> hotKeys() {
+        return hotKeyDetector.hotKeys();
+    }
+
+    /**
+     * 고정된 값. 없으면 null 이다.
+     */
+    Object pinned(Object key) {
+        return pinnedValues.getIfPresent(key);
+    }
+
+    boolean isPinned(Object key) {
+        return pinnedValues.getIfPresent(key) != null;
+    }
+
+    void pin(Object key, Object value) {
+        if (value != null) {
+            pinnedValues.put(key, value);
+        }
+    }
+
+    /**
+     * 이미 고정된 값이 있으면 그대로 둔다. 고정된 값은 L1 에서 읽은 값과 같거나 더 최근에 고정된 값이다.
+     */
+    void pinIfAbsent(Object key, Object value) {
+        if (value != null) {
+            pinnedValues.asMap().putIfAbsent(key, value);
+        }
+    }
+
+    void unpin(Object key) {
+        pinnedValues.invalidate(key);
+    }
+
+    void unpinAll() {
+        pinnedValues.invalidateAll();
+    }
+}
@@ -0,0 +1,119 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * near cache 의 L1 계층. 인스턴스 내부 Caffeine 캐시와, L1 미스 후 이 노드에서 진행 중인 적재를 함께 관리한다.
+ */
+class LocalCacheTier {
+
+    private final CaffeineCache localCache;
+    // L1 미스 후 이 노드에서 진행 중인 적재. 무효화되면 빠지므로, 적재를 마친 스레드는 여기 남아 있을 때만 L1 에 채운다.
+    private final Map<Object, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    LocalCacheTier(CaffeineCache localCache) {
+        this.localCache = localCache;
+    }
+
+    CaffeineCache getLocalCache() {
+        return localCache;
+    }
+
+    ValueWrapper get(Object key) {
+        return localCache.get(key);
+    }
+
+    /**
+     * 값을 채운다. 진행 중인 적재가 끝나면서 이 값을 이전 값으로 덮어쓰지 않도록 적재도 함께 무효화한다.
+     */
+    void put(Object key, Object value) {
+        inFlightLoads.remove(key);
+        localCache.put(key, value);
+    }
+
+    /**
+     * 캐시 미스를 채운다. 진행 중인 적재는 건드리지 않는다.
+     */
+    void fill(Object key, Object value) {
+        localCache.put(key, value);
+    }
+
+    void evict(Object key) {
+        inFlightLoads.remove(key);
+        localCache.evict(key);
+    }
+
+    void clear() {
+        inFlightLoads.clear();
+        localCache.clear();
+    }
+
+    /**
+     * L1 에 없으면 키마다 한 스레드만 loader 로 적재해 L1 에 채우고, 같은 키를 조회한 다른 스레드는 그 결과를 기다린다.
+     * L2 락 대기는 수백 ms 까지 걸릴 수 있어, Caffeine 의 compute 안에서 기다리면 같은 버킷의 다른 키 쓰기까지 막히므로 compute 밖에서 적재한다.
+     * 예외는 {@link CaffeineCache#get(Object, Callable)} 와 같이 {@link ValueRetrievalException} 으로 감싸 던진다.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getOrLoad(Object key, Callable<T> loader) {
+        ValueWrapper localValue = localCache.get(key);
+        if (localValue != null) {
+            return (T) localValue.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            try {
+                return (T) inFlight.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, loader, e.getCause());
+            }
+        }
+
+        try {
+            T value = loader.call();
+            // 적재하는 사이 무효화되었으면 그 전에 읽은 값일 수 있으므로 L1 에 남기지 않는다.
+            if (inFlightLoads.remove(key, loading)) {
+                localCache.put(key, value);
+            }
+            loading.complete(value);
+            return value;
+        } catch (Exception e) {
+            loading.completeExceptionally(e);
+            throw new ValueRetrievalException(key, loader, e);
+        } finally {
+            inFlightLoads.remove(key, loading);
+        }
+    }
+
+    /**
+     * L1 에 있는 키 중 최대 n 개를 무작위로 고른다(reservoir sampling). L1 에는 최근 조회된 키가 남으므로 트래픽이 몰리는 키가 뽑힐 가능성이 높다.
+     */
+    List<Object> sampleKeys(int n) {
+        List<Object> sample = new ArrayList<>(n);
+        int seen = 0;
+        for (Object key : localCache.getNativeCache().asMap().keySet()) {
+            seen++;
+            if (sample.size() < n) {
+                sample.add(key);
+            } else {
+                int index = ThreadLocalRandom.current().nextInt(seen);
+                if (index < n) {
+                    sample.set(index, key);
+                }
+            }
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 장애 중 L2 에 반영하지 못한 무효화를 모아 두었다가, Redis 가 회복되면 반영한다.
+ */
+@Slf4j
+class PendingInvalidations {
+
+    // 무효화를 미뤄 둘 최대 키 수. 넘어서면 키 대신 캐시 전체를 비우도록 기록한다.
+    private static final int MAX_PENDING_EVICTIONS = 10_000;
+
+    private final RedisCacheTier redisTier;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    PendingInvalidations(RedisCacheTier redisTier) {
+        this.redisTier = redisTier;
+    }
+
+    void defer(Collection<?> keys) {
+        if (pendingClear) {
+            return;
+        }
+        if (pendingEvictions.size() + keys.size() > MAX_PENDING_EVICTIONS) {
+            deferClear();
+            return;
+        }
+        pendingEvictions.addAll(keys);
+    }
+
+    void deferClear() {
+        pendingClear = true;
+        pendingEvictions.clear();
+    }
+
+    /**
+     * 미뤄 둔 무효화를 반영한다. 다시 실패하면 다음 회복 때 재시도한다.
+     */
+    void replay() {
+        if (pendingClear) {
+            if (redisTier.clear()) {
+                pendingClear = false;
+                pendingEvictions.clear();
+                log.info("장애 중 밀린 무효화 반영: 캐시 전체 삭제 cache: [{}]", redisTier.getName());
+            }
+            return;
+        }
+
+        List<Object> keys = new ArrayList<>(pendingEvictions);
+        if (!keys.isEmpty() && redisTier.deleteAll(keys)) {
+            keys.forEach(pendingEvictions::remove);
+            log.info("장애 중 밀린 무효화 반영 cache: [{}], keys: {}", redisTier.getName(), keys.size());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 캐시의 Redis(L2) 호출을 서킷 브레이커로 감싼다.
+ * Redis 가 응답하지 않거나 느려지면 서킷이 열려, 이후 호출은 명령 타임아웃을 기다리지 않고 곧바로 대체 동작으로 넘어간다.
+ * 열린 상태가 지나면 반열림 상태에서 일부 호출로 회복 여부를 확인하고, 성공하면 자동으로 닫힌다.
+ * <p>
+ * Redis 를 쓸 수 없는 동안 원본(DB)을 직접 조회하는 로더는 벌크헤드로 동시 실행 수를 제한해, Redis 장애가 DB 과부하로 번지지 않게 한다.
+ * 서킷과 벌크헤드는 resilience4j 레지스트리에서 가져오므로 다른 서킷 브레이커와 같은 메트릭(resilience4j_*)으로 노출된다.
+ */
+@Component
+@Slf4j
+public class RedisCacheGuard {
+
+    public static final String CIRCUIT_BREAKER_NAME = "redis-cache";
+    public static final String BULKHEAD_NAME = "cache-fallback";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead fallbackBulkhead;
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public RedisCacheGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this(circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME), bulkheadRegistry.bulkhead(BULKHEAD_NAME));
+    }
+
+    RedisCacheGuard(CircuitBreaker circuitBreaker, Bulkhead fallbackBulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.fallbackBulkhead = fallbackBulkhead;
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                log.info("Redis 캐시 서킷이 닫혔습니다. 장애 중 밀린 무효화를 반영합니다. ({})", event.getStateTransition());
+                recoveryListeners.forEach(Runnable::run);
+            } else {
+                log.warn("Redis 캐시 서킷 상태 변경: {}", event.getStateTransition());
+            }
+        });
+    }
+
+    /**
+     * Redis 호출 결과를 반환한다. 서킷이 열려 있거나 호출이 실패하면 대체 값을 반환한다.
+     */
+    public <T> T execute(Supplier<T> redisCall, Supplier<T> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(redisCall);
+        } catch (CallNotPermittedException e) {
+            return fallback.get();
+        } catch (DataAccessException e) {
+            log.warn("Redis 캐시 호출 실패: {}", e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Redis 호출이 반영되었으면 true, 서킷이 열려 있거나 실패해 반영되지 않았으면 false 를 반환한다.
+     */
+    public boolean run(Runnable redisCall) {
+        return execute(() -> {
+            redisCall.run();
+            return true;
+        }, () -> false);
+    }
+
+    /**
+     * Redis 없이 원본을 직접 조회한다. 동시에 조회 중인 요청이 한도를 넘으면 잠시 기다린 뒤 {@link io.github.resilience4j.bulkhead.BulkheadFullException} 으로 거절한다.
+     */
+    public <T> T loadWithoutCache(Callable<T> valueLoader) throws Exception {
+        return fallbackBulkhead.executeCallable(valueLoader);
+    }
+
+    /**
+     * {@link #loadWithoutCache(Callable)} 와 같되, 검사 예외를 던지지 않는 로더에 사용한다.
+     */
+    public <T> T supplyWithoutCache(Supplier<T> valueLoader) {
+        return fallbackBulkhead.executeSupplier(valueLoader);
+    }
+
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 서킷이 닫혀 Redis 가 회복되었을 때 실행할 작업을 등록한다. 상태를 바꾼 호출 스레드에서 실행되므로 짧게 끝나야 한다.
+     */
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+}
@@ -0,0 +1,278 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * near cache 의 L2 계층. 캐시 하나의 Redis 키 공간을 다루며, 모든 호출은 {@link RedisCacheGuard} 를 거친다.
+ * 무효화 직후 다시 읽는 경로가 복제 지연으로 이전 값을 읽지 않도록, 연결은 master 로만 향하는 팩토리를 사용한다.
+ */
+class RedisCacheTier {
+
+    // Redis 를 쓸 수 없어 조회를 건너뛰었음을 미스(null)와 구분하기 위한 표식
+    static final ValueWrapper UNAVAILABLE = new SimpleValueWrapper(null);
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final RedisCache redisCache;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheGuard redisGuard;
+
+    RedisCacheTier(RedisCache redisCache, RedisConnectionFactory connectionFactory, RedisCacheGuard redisGuard) {
+        this.redisCache = redisCache;
+        this.connectionFactory = connectionFactory;
+        this.redisGuard = redisGuard;
+    }
+
+    String getName() {
+        return redisCache.getName();
+    }
+
+    RedisCache getRedisCache() {
+        return redisCache;
+    }
+
+    RedisCacheGuard getGuard() {
+        return redisGuard;
+    }
+
+    /**
+     * 값이 없으면 null, Redis 를 쓸 수 없으면 {@link #UNAVAILABLE} 을 반환한다.
+     */
+    ValueWrapper get(Object key) {
+        return redisGuard.execute(() -> redisCache.get(key), () -> UNAVAILABLE);
+    }
+
+    boolean put(Object key, Object value) {
+        return redisGuard.run(() -> redisCache.put(key, value));
+    }
+
+    ValueWrapper putIfAbsent(Object key, Object value) {
+        return redisGuard.execute(() -> redisCache.putIfAbsent(key, value), () -> null);
+    }
+
+    boolean evict(Object key) {
+        return redisGuard.run(() -> redisCache.evict(key));
+    }
+
+    boolean clear() {
+        return redisGuard.run(redisCache::clear);
+    }
+
+    /**
+     * 여러 키를 DEL 한 번으로 지운다.
+     */
+    boolean deleteAll(Collection<?> keys) {
+        return run(connection -> connection.keyCommands().del(keys.stream()
+                .map(this::rawKeyOf)
+                .toArray(byte[][]::new)));
+    }
+
+    /**
+     * 여러 키를 MGET 한 번으로 읽는다. 결과에는 찾은 키만 담기며, Redis 를 쓸 수 없으면 비어 있다.
+     */
+    Map<Object, Object> getAll(List<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+
+        byte[][] rawKeys = keys.stream().map(this::rawKeyOf).toArray(byte[][]::new);
+        List<byte[]> rawValues = execute(connection -> connection.stringCommands().mGet(rawKeys), () -> null);
+        if (rawValues == null) {
+            return found;
+        }
+
+        RedisCacheConfiguration configuration = redisCache.getCacheConfiguration();
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = deserialize(configuration, rawValues.get(i));
+            if (value != null) {
+                found.put(keys.get(i), value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 여러 값을 한 번의 파이프라인으로 저장한다. 키마다 TTL 함수가 정한 TTL 을 따른다.
+     */
+    boolean putAll(Map<?, ?> entries) {
+        RedisCacheConfiguration configuration = redisCache.getCacheConfiguration();
+        return run(connection -> {
+            connection.openPipeline();
+            entries.forEach((key, value) -> connection.stringCommands().set(
+                    rawKeyOf(key),
+                    ByteUtils.getBytes(configuration.getValueSerializationPair().write(value)),
+                    expirationOf(configuration.getTtlFunction().getTimeToLive(key, value)),
+                    RedisStringCommands.SetOption.upsert()
+            ));
+            connection.closePipeline();
+        });
+    }
+
+    /**
+     * 키의 남은 TTL. 키가 없거나 만료 시간이 없거나 Redis 를 쓸 수 없으면 비어 있다.
+     */
+    Optional<Duration> remainingTtl(Object key) {
+        return execute(connection -> {
+            Long millis = connection.keyCommands().pTtl(rawKeyOf(key));
+            return millis == null || millis < 0 ? Optional.<Duration>empty() : Optional.of(Duration.ofMillis(millis));
+        }, Optional::empty);
+    }
+
+    /**
+     * 이 캐시에서 가장 긴 TTL. 적응형 TTL 이면 키마다 TTL 이 다르므로 상한을 따른다.
+     */
+    Duration maxTtl() {
+        return redisCache.getCacheConfiguration().getTtlFunction() instanceof AdaptiveTtlFunction adaptiveTtl
+                ? adaptiveTtl.maxTtl()
+                : redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(null, null);
+    }
+
+    /**
+     * 이 캐시의 prefix 아래에서 패턴에 맞는 키를 SCAN 하며 일정 개수씩 넘긴다. 넘기는 키는 prefix 를 뗀 캐시 키이며,
+     * excluded 에 해당하는 키는 건너뛴다. 처리기가 false 를 반환하면 멈춘다.
+     */
+    void scan(String pattern, Predicate<String> excluded, Predicate<List<String>> batchHandler) {
+        String prefix = redisKeyOf("");
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(prefix + pattern)
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            List<String> batch = new ArrayList<>();
+            while (cursor.hasNext()) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8).substring(prefix.length());
+                if (excluded.test(key)) {
+                    continue;
+                }
+                batch.add(key);
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    if (!batchHandler.test(batch)) {
+                        return;
+                    }
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchHandler.test(batch);
+            }
+        }
+    }
+
+    /**
+     * 키 하나의 남은 TTL 과 직렬화된 크기를 확인한다.
+     */
+    KeyState inspect(String key) {
+        byte[] rawKey = rawKeyOf(key);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Long ttlMillis = connection.keyCommands().pTtl(rawKey);
+            Long serializedBytes = connection.stringCommands().strLen(rawKey);
+            // PTTL 은 키가 없으면 -2, 만료 시간이 없으면 -1 을 반환한다.
+            boolean exists = ttlMillis != null && ttlMillis != -2;
+            return new KeyState(
+                    redisKeyOf(key),
+                    exists,
+                    exists && ttlMillis >= 0 ? ttlMillis : null,
+                    serializedBytes != null ? serializedBytes : 0
+            );
+        }
+    }
+
+    /**
+     * 주어진 키들이 차지하는 크기(키 + 직렬화된 값)의 합. 파이프라인으로 한 번에 STRLEN 한다.
+     */
+    long bytesOf(Collection<String> keys) {
+        long keyBytes = keys.stream().mapToLong(key -> rawKeyOf(key).length).sum();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            keys.forEach(key -> connection.stringCommands().strLen(rawKeyOf(key)));
+            return keyBytes + connection.closePipeline().stream()
+                    .filter(Long.class::isInstance)
+                    .mapToLong(Long.class::cast)
+                    .sum();
+        }
+    }
+
+    /**
+     * 연결을 직접 다루는 호출을 실행한다. Redis 를 쓸 수 없으면 대체 값을 반환한다.
+     */
+    <T> T execute(Function<RedisConnection, T> command, Supplier<T> fallback) {
+        return redisGuard.execute(() -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                return command.apply(connection);
+            }
+        }, fallback);
+    }
+
+    /**
+     * 연결을 직접 다루는 호출을 실행하고, 반영되었는지 반환한다.
+     */
+    boolean run(Consumer<RedisConnection> command) {
+        return redisGuard.run(() -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                command.accept(connection);
+            }
+        });
+    }
+
+    String redisKeyOf(Object key) {
+        return redisCache.getCacheConfiguration().getKeyPrefixFor(getName()) + key;
+    }
+
+    byte[] rawKeyOf(Object key) {
+        return redisKeyOf(key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Expiration expirationOf(Duration ttl) {
+        return ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+
+    private Object deserialize(RedisCacheConfiguration configuration, byte[] rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        try {
+            return configuration.getValueSerializationPair().read(ByteBuffer.wrap(rawValue));
+        } catch (SerializationException e) {
+            // 읽을 수 없는 값은 미스로 보고 원본에서 다시 채운다.
+            return null;
+        }
+    }
+
+    /**
+     * @param ttlMillis 남은 TTL. 키가 없거나 만료 시간이 없으면 null
+     */
+    record KeyState(
+            String redisKey,
+            boolean exists,
+            Long ttlMillis,
+            long serializedBytes
+    ) {
+    }
+}
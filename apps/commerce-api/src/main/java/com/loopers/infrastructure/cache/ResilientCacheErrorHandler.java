@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+
+/**
+ * 캐시 애노테이션(@Cacheable 등)을 처리하다 발생한 캐시 오류를 기록하고, 캐시가 없는 것처럼 원본 메서드를 실행한다.
+ * Redis 오류는 {@link TwoTierCache} 가 먼저 처리하므로 여기에 도달하는 것은 직렬화 오류처럼 예상하지 못한 오류다.
+ * 단, Redis 장애 중 원본 조회 한도를 넘어 거절된 요청은 그대로 전파해 한도를 우회한 원본 조회로 이어지지 않게 한다.
+ */
+@Slf4j
+public class ResilientCacheErrorHandler implements CacheErrorHandler {
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        if (exception instanceof BulkheadFullException) {
+            throw exception;
+        }
+        log.warn("캐시 조회 실패 cache: [{}], key: [{}]", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        log.warn("캐시 저장 실패 cache: [{}], key: [{}]", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("캐시 삭제 실패 cache: [{}], key: [{}]", cache.getName(), key, exception);
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        log.warn("캐시 비우기 실패 cache: [{}]", cache.getName(), exception);
+    }
+}
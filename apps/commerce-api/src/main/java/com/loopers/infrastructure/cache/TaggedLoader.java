@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * 원본을 읽기 직전의 Redis 시각을 기억해 두었다가, 값을 저장한 뒤 값에 맞는 태그를 달고
+ * 그 태그가 읽기 시작한 뒤에 무효화되었는지 알려주는 로더.
+ * 태그를 단 뒤에 시각을 확인하므로, 그 사이의 무효화는 시각으로, 이후의 무효화는 태그로 반드시 잡힌다.
+ */
+class TaggedLoader<T> implements Callable<T> {
+
+    private final CacheTagIndex tagIndex;
+    private final Function<? super T, ? extends Collection<String>> tagsOf;
+    private final Callable<T> delegate;
+    private volatile Optional<Long> startedAt = Optional.empty();
+    private volatile T loaded;
+    private volatile boolean invalidatedWhileLoading;
+
+    TaggedLoader(CacheTagIndex tagIndex, Function<? super T, ? extends Collection<String>> tagsOf, Callable<T> delegate) {
+        this.tagIndex = tagIndex;
+        this.tagsOf = tagsOf;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T call() throws Exception {
+        startedAt = tagIndex.now();
+        loaded = delegate.call();
+        return loaded;
+    }
+
+    /**
+     * 저장한 값에 태그를 달고, 적재하는 동안 태그가 무효화되었으면 true 를 반환한다. 호출자는 저장한 값을 지워야 한다.
+     */
+    boolean afterStore(Object key) {
+        if (loaded == null) {
+            return false;
+        }
+        Collection<String> tags = tagsOf.apply(loaded);
+        if (tags.isEmpty()) {
+            return false;
+        }
+
+        tagIndex.tag(key, tags);
+        Optional<Long> invalidatedAt = tagIndex.lastInvalidatedAt(tags);
+        if (startedAt.isPresent() && invalidatedAt.isPresent() && invalidatedAt.get() >= startedAt.get()) {
+            invalidatedWhileLoading = true;
+        }
+        return invalidatedWhileLoading;
+    }
+
+    boolean invalidatedWhileLoading() {
+        return invalidatedWhileLoading;
+    }
+}
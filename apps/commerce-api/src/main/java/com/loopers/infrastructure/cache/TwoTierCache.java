@@ -0,0 +1,493 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 내부 Caffeine(L1) 을 Redis(L2) 앞에 두는 near cache.
+ * 조회는 L1 -> L2 순으로 시도하고, 쓰기/삭제는 두 계층에 모두 반영한 뒤 다른 노드의 L1 을 Pub/Sub 으로 무효화한다.
+ * 이 클래스는 조회/무효화 흐름만 조율하고, 각 관심사는 협력 객체가 맡는다.
+ * <ul>
+ *     <li>{@link LocalCacheTier}, {@link RedisCacheTier}: L1/L2 계층. 노드 내부에서는 키 단위로 한 스레드만 L2/원본을 조회한다.</li>
+ *     <li>{@link CacheInvalidationPublisher}: 다른 노드의 L1 무효화 전파</li>
+ *     <li>{@link ClusterSingleFlight}: L2 미스 시 임대 락을 얻은 노드만 원본을 조회한다.</li>
+ *     <li>{@link EarlyRefresher}: L2 적중 시 남은 TTL 과 원본 조회 시간으로 확률적으로(XFetch) 만료 전에 백그라운드에서 다시 적재한다.</li>
+ *     <li>{@link HotKeyPinning}: 인기 키는 L1 과 별도로 잠시 고정해 두고, L1 이 만료되면 고정된 값으로 응답하면서 다시 적재한다.</li>
+ *     <li>{@link CacheTagIndex}: 태그 단위 무효화. {@link #getTagged(Object, Function, Callable)} 는 적재 중에 일어난 태그 무효화를 놓치지 않는다.</li>
+ *     <li>{@link RedisCacheGuard}, {@link PendingInvalidations}: Redis 호출의 서킷 브레이커와, 장애 중 반영하지 못한 무효화의 재반영</li>
+ * </ul>
+ * L2 의 TTL 은 캐시 설정의 TTL 함수({@link AdaptiveTtlFunction})가 정한다.
+ * 여러 키를 한 번에 다룰 때는 {@link #getAll(Collection)} 으로 L2 를 MGET 한 번에 읽고, {@link #putAll(Map)} 으로 파이프라인에 담아 채운다.
+ * <p>
+ * Redis 를 쓸 수 없으면 L1 만으로 응답하고, L1 에도 없으면 동시 실행 수를 제한해 원본을 직접 조회한다.
+ * 그동안 L2 에 반영하지 못한 무효화는 Redis 가 회복되면 {@link #replayPendingInvalidations()} 로 반영한다.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final LocalCacheTier localTier;
+    private final RedisCacheTier redisTier;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final ClusterSingleFlight singleFlight;
+    private final EarlyRefresher earlyRefresher;
+    private final HotKeyPinning hotKeys;
+    private final CacheTagIndex tagIndex;
+    private final PendingInvalidations pendingInvalidations;
+    private final CacheAccessStats accessStats;
+
+    TwoTierCache(
+            LocalCacheTier localTier,
+            RedisCacheTier redisTier,
+            CacheInvalidationPublisher invalidationPublisher,
+            ClusterSingleFlight singleFlight,
+            EarlyRefresher earlyRefresher,
+            HotKeyPinning hotKeys,
+            CacheAccessStats accessStats
+    ) {
+        this.localTier = localTier;
+        this.redisTier = redisTier;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = singleFlight;
+        this.earlyRefresher = earlyRefresher;
+        this.hotKeys = hotKeys;
+        this.tagIndex = new CacheTagIndex(redisTier);
+        this.pendingInvalidations = new PendingInvalidations(redisTier);
+        this.accessStats = accessStats;
+    }
+
+    @Override
+    public String getName() {
+        return redisTier.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    public CaffeineCache getLocalCache() {
+        return localTier.getLocalCache();
+    }
+
+    public RedisCache getRedisCache() {
+        return redisTier.getRedisCache();
+    }
+
+    public List<HotKeyDetector.HotKey> getHotKeys() {
+        return hotKeys.hotKeys();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper localValue = localTier.get(key);
+        if (localValue != null) {
+            return localValue;
+        }
+
+        ValueWrapper remoteValue = redisTier.get(key);
+        if (remoteValue == RedisCacheTier.UNAVAILABLE) {
+            return null;
+        }
+        if (remoteValue != null) {
+            localTier.fill(key, remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. 요구 타입: " + type.getName() + ", 실제 값: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean hot = hotKeys.recordAndCheck(key);
+        accessStats.recordRead(getName(), key);
+        if (hot) {
+            return getHot(key, valueLoader);
+        }
+        return localTier.getOrLoad(key, () -> getFromRedis(key, valueLoader));
+    }
+
+    /**
+     * {@link #get(Object, Callable)} 와 같이 조회하고, 로더로 적재한 값에는 태그를 단다.
+     * 태그는 값을 저장한 뒤에 달고, 원본을 읽기 시작한 뒤 태그가 무효화되었으면 그보다 먼저 읽은 값이 남지 않도록 지운다.
+     * 로더가 던진 런타임 예외는 {@code @Cacheable} 과 같이 감싸지 않고 그대로 던진다.
+     */
+    public <T> T getTagged(Object key, Collection<String> tags, Callable<T> valueLoader) {
+        return getTagged(key, value -> tags, valueLoader);
+    }
+
+    /**
+     * 적재한 값에 따라 태그가 정해질 때 사용한다. 태그는 값을 읽은 뒤에야 알 수 있으므로, 무효화 시각으로 적재 중의 무효화를 알아챈다.
+     */
+    public <T> T getTagged(Object key, Function<? super T, ? extends Collection<String>> tagsOf, Callable<T> valueLoader) {
+        TaggedLoader<T> taggedLoader = new TaggedLoader<>(tagIndex, tagsOf, valueLoader);
+        T value;
+        try {
+            value = get(key, taggedLoader);
+        } catch (ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (taggedLoader.invalidatedWhileLoading()) {
+            // L2 는 저장 직후에 지웠고, L1 은 로더가 끝난 뒤에 채워지므로 여기서 지운다.
+            invalidateLocal(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!redisTier.put(key, value)) {
+            // L2 에 남은 이전 값이 회복 후 다시 읽히지 않도록 지운다.
+            pendingInvalidations.defer(List.of(key));
+        }
+        localTier.put(key, value);
+        hotKeys.unpin(key);
+        publishEvict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisTier.putIfAbsent(key, value);
+        localTier.fill(key, existing != null ? existing.get() : value);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        accessStats.recordWrite(getName(), key);
+        if (!redisTier.evict(key)) {
+            pendingInvalidations.defer(List.of(key));
+        }
+        invalidateLocal(key);
+        publishEvict(key);
+    }
+
+    @Override
+    public void clear() {
+        if (!redisTier.clear()) {
+            pendingInvalidations.deferClear();
+        }
+        invalidateAllLocal();
+        redisTier.getGuard().run(() -> invalidationPublisher.publishClear(getName()));
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다. L1 에 없는 키만 MGET 한 번으로 L2 에서 읽고, 찾은 값은 L1 에 채운다.
+     * 결과에는 찾은 키만 담기며, L2 조회가 실패하면 L1 에서 찾은 값만 돌려주어 호출자가 원본에서 읽도록 한다.
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> misses = new ArrayList<>();
+        for (Object key : keys) {
+            accessStats.recordRead(getName(), key);
+            ValueWrapper localValue = localTier.get(key);
+            if (localValue != null) {
+                found.put(key, localValue.get());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        Map<Object, Object> remoteValues = redisTier.getAll(misses);
+        remoteValues.forEach(localTier::fill);
+        found.putAll(remoteValues);
+        return found;
+    }
+
+    /**
+     * L2 에 있는 값만 MGET 한 번으로 읽는다. L1 을 거치거나 채우지 않으므로 캐시 상태를 바꾸지 않는다.
+     * L2 조회가 실패하면 빈 결과를 반환한다.
+     */
+    public Map<Object, Object> peekRemote(List<?> keys) {
+        return redisTier.getAll(keys);
+    }
+
+    /**
+     * 이 노드의 L1 에 있는 키 중 최대 n 개를 무작위로 고른다. L1 에는 최근 조회된 키가 남으므로 트래픽이 몰리는 키가 뽑힐 가능성이 높다.
+     */
+    public List<Object> sampleLocalKeys(int n) {
+        return localTier.sampleKeys(n);
+    }
+
+    /**
+     * 원본에서 새로 읽은 값들을 한 번의 파이프라인으로 L2 에 채우고 L1 에도 넣는다.
+     * 캐시 미스를 채우는 용도이므로 다른 노드에 무효화를 전파하지 않는다.
+     */
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // L2 에 채우지 못해도 L1 에는 채운다. 캐시 미스를 채우는 용도라 무효화를 미룰 필요는 없다.
+        redisTier.putAll(entries);
+        entries.forEach(localTier::fill);
+    }
+
+    /**
+     * {@link #getAll(Collection)} 에서 찾지 못한 값을 원본에서 읽을 때 사용한다.
+     * Redis 를 쓸 수 없는 동안에는 모든 조회가 원본으로 향하므로 동시 실행 수를 제한한다.
+     */
+    public <T> T loadMisses(Supplier<T> loader) {
+        RedisCacheGuard redisGuard = redisTier.getGuard();
+        return redisGuard.isAvailable() ? loader.get() : redisGuard.supplyWithoutCache(loader);
+    }
+
+    /**
+     * 키에 태그를 단다. 태그별로 키 목록을 Redis SET 에 저장하며, SET 은 이 캐시의 TTL 만큼 유지되어 키보다 먼저 사라지지 않는다.
+     */
+    public void tag(Object key, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        tagIndex.tag(key, tags);
+    }
+
+    /**
+     * 태그가 달린 키를 모두 무효화하고 태그를 지운다.
+     */
+    public void evictTagged(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        Optional<List<Object>> keys = tagIndex.invalidate(tags);
+        if (keys.isEmpty()) {
+            // 태그에 달린 키를 알 수 없으므로 회복 후 캐시 전체를 비운다. L1 은 짧은 TTL 로 곧 만료된다.
+            pendingInvalidations.deferClear();
+            return;
+        }
+        evictAll(keys.get());
+    }
+
+    /**
+     * 여러 키를 DEL 한 번으로 L2 에서 지우고, L1 과 다른 노드의 L1 에서도 지운다.
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (!redisTier.deleteAll(keys)) {
+            pendingInvalidations.defer(keys);
+        }
+
+        keys.forEach(key -> {
+            accessStats.recordWrite(getName(), key);
+            invalidateLocal(key);
+            publishEvict(key);
+        });
+    }
+
+    /**
+     * Redis 장애 중 L2 에 반영하지 못한 무효화를 반영한다. 다시 실패하면 다음 회복 때 재시도한다.
+     */
+    public void replayPendingInvalidations() {
+        pendingInvalidations.replay();
+    }
+
+    /**
+     * 패턴(glob)에 맞는 L2 키를 SCAN 으로 찾아 최대 limit 개 반환한다. 반환하는 키는 prefix 를 뗀 캐시 키이며, 태그 키는 제외한다.
+     */
+    public List<String> scanKeys(String pattern, int limit) {
+        List<String> keys = new ArrayList<>();
+        redisTier.scan(pattern, tagIndex::isIndexKey, batch -> {
+            keys.addAll(batch);
+            return keys.size() < limit;
+        });
+        return keys.size() > limit ? new ArrayList<>(keys.subList(0, limit)) : keys;
+    }
+
+    /**
+     * 패턴(glob)에 맞는 키를 SCAN 으로 나누어 찾으면서 모두 무효화하고, 무효화한 키 수를 반환한다.
+     * KEYS 와 달리 한 번에 일부만 훑으므로 키가 많아도 Redis 를 오래 막지 않는다.
+     */
+    public long evictMatching(String pattern) {
+        long[] evicted = {0};
+        redisTier.scan(pattern, tagIndex::isIndexKey, batch -> {
+            evictAll(batch);
+            evicted[0] += batch.size();
+            return true;
+        });
+        return evicted[0];
+    }
+
+    /**
+     * 키 하나의 상태(L1/고정 여부, L2 의 남은 TTL 과 직렬화된 크기)를 확인한다.
+     */
+    public KeyInspection inspect(String key) {
+        RedisCacheTier.KeyState state = redisTier.inspect(key);
+        return new KeyInspection(
+                key,
+                state.redisKey(),
+                localTier.get(key) != null,
+                hotKeys.isPinned(key),
+                state.exists(),
+                state.ttlMillis(),
+                state.serializedBytes()
+        );
+    }
+
+    /**
+     * 주어진 키들이 L2 에서 차지하는 크기(키 + 직렬화된 값)의 합. 파이프라인으로 한 번에 STRLEN 한다.
+     */
+    public long redisBytesOf(Collection<String> keys) {
+        return keys.isEmpty() ? 0 : redisTier.bytesOf(keys);
+    }
+
+    /**
+     * 다른 노드의 변경을 전달받았을 때 L1 만 비운다. L2 는 이미 변경을 발행한 노드가 반영했다.
+     */
+    public void evictLocal(Object key) {
+        accessStats.recordWrite(getName(), key);
+        invalidateLocal(key);
+    }
+
+    public void clearLocal() {
+        invalidateAllLocal();
+    }
+
+    private void invalidateLocal(Object key) {
+        localTier.evict(key);
+        hotKeys.unpin(key);
+    }
+
+    private void invalidateAllLocal() {
+        localTier.clear();
+        hotKeys.unpinAll();
+    }
+
+    private void publishEvict(Object key) {
+        redisTier.getGuard().run(() -> invalidationPublisher.publishEvict(getName(), key));
+    }
+
+    /**
+     * 인기 키는 L1 에 있으면 그 값을 고정해 두고, L1 이 만료되었으면 고정된 값으로 바로 응답한 뒤 백그라운드에서 다시 적재한다.
+     * 고정된 값도 없으면 일반 키와 같이 적재한다. 변경/무효화 시에는 고정된 값도 함께 지우므로 L1 보다 오래된 값을 주지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getHot(Object key, Callable<T> valueLoader) {
+        ValueWrapper localValue = localTier.get(key);
+        if (localValue != null) {
+            hotKeys.pinIfAbsent(key, localValue.get());
+            return (T) localValue.get();
+        }
+
+        Object pinned = hotKeys.pinned(key);
+        if (pinned != null) {
+            earlyRefresher.submit(key, () -> reload(key, valueLoader));
+            return (T) pinned;
+        }
+
+        T value = localTier.getOrLoad(key, () -> getFromRedis(key, valueLoader));
+        hotKeys.pin(key, value);
+        return value;
+    }
+
+    private void reload(Object key, Callable<?> valueLoader) {
+        try {
+            Object value = getFromRedis(key, valueLoader);
+            if (valueLoader instanceof TaggedLoader<?> taggedLoader && taggedLoader.invalidatedWhileLoading()) {
+                return;
+            }
+            localTier.fill(key, value);
+            hotKeys.pin(key, value);
+        } catch (Exception e) {
+            log.warn("인기 키 재적재 실패 cache: [{}], key: [{}]", getName(), key, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getFromRedis(Object key, Callable<T> valueLoader) throws Exception {
+        ValueWrapper cached = redisTier.get(key);
+        if (cached == RedisCacheTier.UNAVAILABLE) {
+            return redisTier.getGuard().loadWithoutCache(valueLoader);
+        }
+        if (cached != null) {
+            refreshAheadIfNeeded(key, valueLoader);
+            return (T) cached.get();
+        }
+        return singleFlight.load(key, valueLoader, () -> loadAndStore(key, valueLoader));
+    }
+
+    private <T> T loadAndStore(Object key, Callable<T> valueLoader) throws Exception {
+        T value = earlyRefresher.timed(key, valueLoader);
+        redisTier.put(key, value);
+        afterStore(key, valueLoader);
+        return value;
+    }
+
+    /**
+     * 태그를 달아 적재한 값이면 태그를 달고, 적재하는 동안 태그가 무효화되었으면 저장한 값을 지운다.
+     */
+    private void afterStore(Object key, Callable<?> valueLoader) {
+        if (valueLoader instanceof TaggedLoader<?> taggedLoader && taggedLoader.afterStore(key)) {
+            evict(key);
+        }
+    }
+
+    private void refreshAheadIfNeeded(Object key, Callable<?> valueLoader) {
+        if (!earlyRefresher.mayRefresh(key)) {
+            return;
+        }
+
+        Optional<Duration> remainingTtl = redisTier.remainingTtl(key);
+        if (remainingTtl.isPresent() && earlyRefresher.shouldRefresh(key, remainingTtl.get())) {
+            // 갱신 작업이 밀려 있으면 이번 기회는 건너뛰고, 만료되면 단일 로더가 적재한다.
+            earlyRefresher.submit(key, () -> refresh(key, valueLoader));
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        try {
+            // 다른 노드가 이미 갱신 중이면 건너뛴다.
+            singleFlight.runExclusively(key, () -> {
+                put(key, earlyRefresher.timed(key, valueLoader));
+                afterStore(key, valueLoader);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("캐시 조기 갱신 실패 cache: [{}], key: [{}]", getName(), key, e);
+        }
+    }
+
+    /**
+     * @param ttlMillis L2 의 남은 TTL. 키가 없거나 만료 시간이 없으면 null
+     */
+    public record KeyInspection(
+            String key,
+            String redisKey,
+            boolean inLocal,
+            boolean pinned,
+            boolean inRedis,
+            Long ttlMillis,
+            long serializedBytes
+    ) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class TwoTierCacheManager extends AbstractCacheManager implements DisposableBean {
+
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 100;
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadLock loadLock;
+    private final RedisCacheGuard redisGuard;
+    private final CacheProperties cacheProperties;
+    private final CacheAccessStats accessStats;
+    private final MeterRegistry meterRegistry;
+
+    // @Async 기본 실행기와 섞이지 않도록 빈으로 등록하지 않고 캐시 매니저가 직접 소유한다.
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            new CustomizableThreadFactory("cache-refresh-")
+    );
+
+    public TwoTierCacheManager(
+            RedisCacheManager redisCacheManager,
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher invalidationPublisher,
+            CacheLoadLock loadLock,
+            RedisCacheGuard redisGuard,
+            CacheProperties cacheProperties,
+            CacheAccessStats accessStats,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.connectionFactory = connectionFactory;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLock = loadLock;
+        this.redisGuard = redisGuard;
+        this.cacheProperties = cacheProperties;
+        this.accessStats = accessStats;
+        this.meterRegistry = meterRegistry;
+        redisGuard.onRecovery(this::replayPendingInvalidations);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+        return redisCacheManager.getCacheNames().stream()
+                .map(redisCacheManager::getCache)
+                .map(cache -> createTwoTierCache((RedisCache) cache))
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        return redisCache instanceof RedisCache cache ? createTwoTierCache(cache) : null;
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지를 L1 에 반영한다. 이 노드에서 아직 사용되지 않은 캐시는 무시한다.
+     */
+    public void handleInvalidation(CacheInvalidationMessage message) {
+        if (!(lookupCache(message.cacheName()) instanceof TwoTierCache cache)) {
+            return;
+        }
+
+        if (message.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+
+    /**
+     * Redis 가 회복되면 장애 중 L2 에 반영하지 못한 무효화를 캐시별로 반영한다. 서킷 상태를 바꾼 요청 스레드를 붙잡지 않도록 갱신 실행기에서 처리한다.
+     */
+    private void replayPendingInvalidations() {
+        Runnable replay = () -> getCacheNames().stream()
+                .map(this::lookupCache)
+                .filter(TwoTierCache.class::isInstance)
+                .map(TwoTierCache.class::cast)
+                .forEach(TwoTierCache::replayPendingInvalidations);
+        try {
+            refreshExecutor.execute(replay);
+        } catch (RejectedExecutionException e) {
+            replay.run();
+        }
+    }
+
+    private TwoTierCache createTwoTierCache(RedisCache redisCache) {
+        String name = redisCache.getName();
+        CacheProperties.LocalCacheSpec spec = cacheProperties.localSpecOf(name);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, caffeine, name, Tags.of("tier", "local"));
+        new RedisCacheMetrics(redisCache, Tags.of("tier", "redis")).bindTo(meterRegistry);
+
+        RedisCacheTier redisTier = new RedisCacheTier(redisCache, connectionFactory, redisGuard);
+        return new TwoTierCache(
+                new LocalCacheTier(new CaffeineCache(name, caffeine)),
+                redisTier,
+                invalidationPublisher,
+                new ClusterSingleFlight(redisTier, loadLock, cacheProperties.loading()),
+                new EarlyRefresher(cacheProperties.loading(), spec, refreshExecutor),
+                new HotKeyPinning(cacheProperties.hotKey()),
+                accessStats
+        );
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -2,10 +2,13 @@ package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeCountDto;
 import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikedProduct;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -28,4 +31,30 @@ public interface LikeJpaRepository extends JpaRepository<LikeEntity, Long> {
             "AND l.product.id IN :productIds " +
             "AND l.deletedAt IS NULL")
     Set<Long> findLikedProductIdsByUserIdAndProductIds(@Param("userId") Long userId, @Param("productIds") List<Long> productIds);
+
+    @Query("SELECT l.product.id " +
+            "FROM LikeEntity l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.deletedAt IS NULL")
+    List<Long> findLikedProductIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.loopers.domain.like.LikedProduct(l.id, l.product.id, l.updatedAt) " +
+            "FROM LikeEntity l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.deletedAt IS NULL " +
+            "ORDER BY l.updatedAt DESC, l.id DESC")
+    List<LikedProduct> findLikedProducts(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.loopers.domain.like.LikedProduct(l.id, l.product.id, l.updatedAt) " +
+            "FROM LikeEntity l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.deletedAt IS NULL " +
+            "AND (l.updatedAt < :likedAt OR (l.updatedAt = :likedAt AND l.id < :lastLikeId)) " +
+            "ORDER BY l.updatedAt DESC, l.id DESC")
+    List<LikedProduct> findLikedProductsBefore(
+            @Param("userId") Long userId,
+            @Param("likedAt") ZonedDateTime likedAt,
+            @Param("lastLikeId") Long lastLikeId,
+            Pageable pageable
+    );
 }
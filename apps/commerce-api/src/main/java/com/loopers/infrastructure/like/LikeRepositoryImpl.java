@@ -1,20 +1,48 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeCountDto;
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeEntity;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
 import com.loopers.infrastructure.AbstractRepositoryImpl;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Component
 public class LikeRepositoryImpl extends AbstractRepositoryImpl<LikeEntity, LikeJpaRepository> implements LikeRepository {
-    public LikeRepositoryImpl(LikeJpaRepository jpaRepository) {
+
+    /*
+     * uk_likes_user_product 로 추가와 복원을 한 문장에서 처리한다.
+     * 이미 있는 행이면 LAST_INSERT_ID(expr) 로 복원했는지(id) 원래 좋아요 상태였는지(0)를 남기고, 새로 추가했으면 새 id 가 남는다.
+     * 따라서 문장이 남긴 id 가 있으면 상태가 바뀐 것이다. 값은 왼쪽부터 갱신되므로 deleted_at 을 비우기 전에 판단한다.
+     */
+    private static final String UPSERT_LIKE_SQL = """
+            INSERT INTO likes (user_id, product_id, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, NULL)
+            ON DUPLICATE KEY UPDATE
+                updated_at = IF(LAST_INSERT_ID(IF(deleted_at IS NULL, 0, id)) = 0, updated_at, ?),
+                deleted_at = NULL
+            """;
+    private static final String SOFT_DELETE_LIKE_SQL =
+            "UPDATE likes SET deleted_at = ?, updated_at = ? WHERE user_id = ? AND product_id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LikeRepositoryImpl(LikeJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         super(jpaRepository);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -33,24 +61,56 @@ public class LikeRepositoryImpl extends AbstractRepositoryImpl<LikeEntity, LikeJ
     }
 
     @Override
-    public void deleteByUserIdAndProductId(Long userId, Long productId) {
-        findByUserIdAndProductId(userId, productId)
-                .ifPresent(LikeEntity::delete);
+    public Set<Long> findLikedProductIdsByUserIdAndProductIds(Long userId, List<Long> productIds) {
+        return jpaRepository.findLikedProductIdsByUserIdAndProductIds(userId, productIds);
     }
 
     @Override
-    public Set<Long> findLikedProductIdsByUserIdAndProductIds(Long userId, List<Long> productIds) {
-        return jpaRepository.findLikedProductIdsByUserIdAndProductIds(userId, productIds);
+    public List<Long> findLikedProductIdsByUserId(Long userId) {
+        return jpaRepository.findLikedProductIdsByUserId(userId);
+    }
+
+    @Override
+    public List<LikedProduct> findLikedProducts(Long userId, LikeCursor cursor, int limit) {
+        // 첫 페이지와 다음 페이지를 나누어, 두 쿼리 모두 인덱스 범위 스캔만 하도록 한다.
+        PageRequest pageRequest = PageRequest.ofSize(limit);
+        return cursor == null
+                ? jpaRepository.findLikedProducts(userId, pageRequest)
+                : jpaRepository.findLikedProductsBefore(userId, cursor.likedAt(), cursor.likeId(), pageRequest);
+    }
+
+    @Override
+    public boolean upsertLike(Long userId, Long productId) {
+        LocalDateTime now = utcNow();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_LIKE_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setLong(1, userId);
+            statement.setLong(2, productId);
+            statement.setObject(3, now);
+            statement.setObject(4, now);
+            statement.setObject(5, now);
+            return statement;
+        }, keyHolder);
+
+        // 복원된 행은 영향받은 행 수가 2 라서 드라이버가 키를 두 개 돌려줄 수 있으므로 첫 번째만 본다.
+        return keyHolder.getKeyList().stream()
+                .flatMap(keys -> keys.values().stream())
+                .findFirst()
+                .map(key -> ((Number) key).longValue() > 0)
+                .orElse(false);
     }
 
     @Override
-    public LikeEntity saveOrFind(LikeEntity likeEntity) {
-        try {
-            return jpaRepository.save(likeEntity);
-        } catch (DataIntegrityViolationException e) {
-            return jpaRepository
-                    .findByUserIdAndProductId(likeEntity.getUser().getId(), likeEntity.getProduct().getId())
-                    .orElseThrow(() -> new IllegalStateException("데이터 중복 예외 후 조회에 실패했습니다."));
-        }
+    public boolean softDeleteLike(Long userId, Long productId) {
+        LocalDateTime now = utcNow();
+        return jdbcTemplate.update(SOFT_DELETE_LIKE_SQL, now, now, userId, productId) > 0;
+    }
+
+    /**
+     * 엔티티를 거치지 않고 쓰는 시각도 Hibernate 설정(jdbc.time_zone)과 같이 UTC 로 저장한다.
+     */
+    private static LocalDateTime utcNow() {
+        return LocalDateTime.now(ZoneOffset.UTC);
     }
 }
@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeCountReconciliationCheckpoint;
+import com.loopers.infrastructure.RedisReconciliationCheckpoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisLikeCountReconciliationCheckpoint extends RedisReconciliationCheckpoint implements LikeCountReconciliationCheckpoint {
+
+    private static final String KEY_PREFIX = "like-count:reconcile";
+
+    public RedisLikeCountReconciliationCheckpoint(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate) {
+        super(masterRedisTemplate, KEY_PREFIX);
+    }
+}
@@ -0,0 +1,137 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자마다 좋아요한 상품 id 를 Redis SET 하나에 담는다.
+ * <p>
+ * 좋아요가 하나도 없는 사용자와 아직 목록을 채우지 않은 사용자를 구분하기 위해, 채운 목록에는 상품 id 가 될 수 없는 표시 원소를 함께 넣는다.
+ * 목록 확인과 변경은 Lua 스크립트 한 번으로 처리하므로, 목록이 만료되는 순간과 겹쳐도 빈 목록에 토글이 기록되는 일이 없다.
+ * 토글 직후의 조회가 복제 지연으로 이전 상태를 보지 않도록 조회도 master 에서 한다. 접근할 때마다 TTL 을 연장한다.
+ */
+@Component
+@Slf4j
+public class RedisLikedProductStore implements LikedProductStore {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String LOADED_MARKER = "-";
+    private static final Duration KEY_TTL = Duration.ofDays(3);
+
+    private static final RedisScript<List> FIND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return false end
+            local liked = {}
+            for i = 2, #ARGV do
+                if redis.call('sismember', KEYS[1], ARGV[i]) == 1 then liked[#liked + 1] = ARGV[i] end
+            end
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return liked
+            """, List.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 1 then return 0 end
+            for i = 2, #ARGV do redis.call('sadd', KEYS[1], ARGV[i]) end
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 목록이 없으면 -1, 상태가 바뀌었으면 1, 이미 그 상태였으면 0
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            local changed
+            if ARGV[3] == '1' then
+                changed = redis.call('sadd', KEYS[1], ARGV[2])
+            else
+                changed = redis.call('srem', KEYS[1], ARGV[2])
+            end
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return changed
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+
+    public RedisLikedProductStore(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Set<Long>> findLiked(Long userId, Collection<Long> productIds) {
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(ttlMillis());
+        productIds.forEach(productId -> args.add(productId.toString()));
+        try {
+            List<Object> liked = masterRedisTemplate.execute(FIND_SCRIPT, List.of(keyOf(userId)), args.toArray());
+            if (liked == null) {
+                return Optional.empty();
+            }
+            return Optional.of(liked.stream()
+                    .map(productId -> Long.valueOf(productId.toString()))
+                    .collect(Collectors.toSet()));
+        } catch (DataAccessException e) {
+            log.warn("좋아요 목록 조회 실패, DB 로 확인합니다. userId: [{}]", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void load(Long userId, Collection<Long> likedProductIds) {
+        List<Object> args = new ArrayList<>(likedProductIds.size() + 2);
+        args.add(ttlMillis());
+        args.add(LOADED_MARKER);
+        likedProductIds.forEach(productId -> args.add(productId.toString()));
+        try {
+            masterRedisTemplate.execute(LOAD_SCRIPT, List.of(keyOf(userId)), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("좋아요 목록 적재 실패. userId: [{}]", userId, e);
+        }
+    }
+
+    @Override
+    public Optional<Boolean> toggle(Long userId, Long productId, boolean liked) {
+        try {
+            Long result = masterRedisTemplate.execute(
+                    TOGGLE_SCRIPT, List.of(keyOf(userId)), ttlMillis(), productId.toString(), liked ? "1" : "0"
+            );
+            if (result == null || result < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(result == 1L);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 토글 실패, DB 로 처리합니다. userId: [{}], productId: [{}]", userId, productId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        try {
+            masterRedisTemplate.delete(keyOf(userId));
+        } catch (DataAccessException e) {
+            log.warn("좋아요 목록 삭제 실패. userId: [{}]", userId, e);
+        }
+    }
+
+    private static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String ttlMillis() {
+        return String.valueOf(KEY_TTL.toMillis());
+    }
+}
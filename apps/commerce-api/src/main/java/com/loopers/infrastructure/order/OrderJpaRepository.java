@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.ReservedQuantity;
 import com.loopers.domain.user.UserEntity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
@@ -16,4 +19,12 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select o from OrderEntity o where o.id = :orderId")
     Optional<OrderEntity> findByIdWithPessimisticLock(@Param("orderId") Long orderId);
+
+    @Query("SELECT new com.loopers.domain.order.ReservedQuantity(i.productId, SUM(i.quantity)) " +
+            "FROM OrderItem i JOIN i.order o " +
+            "WHERE o.status = com.loopers.domain.order.OrderStatus.PENDING " +
+            "AND o.stockDeducted = false " +
+            "AND i.productId IN :productIds " +
+            "GROUP BY i.productId")
+    List<ReservedQuantity> findReservedQuantities(@Param("productIds") Collection<Long> productIds);
 }
@@ -2,10 +2,13 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderEntity;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.ReservedQuantity;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.infrastructure.AbstractRepositoryImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -23,4 +26,9 @@ public class OrderRepositoryImpl extends AbstractRepositoryImpl<OrderEntity, Ord
     public Optional<OrderEntity> findByIdWithPessimisticLock(Long orderId) {
         return jpaRepository.findByIdWithPessimisticLock(orderId);
     }
+
+    @Override
+    public List<ReservedQuantity> findReservedQuantities(Collection<Long> productIds) {
+        return jpaRepository.findReservedQuantities(productIds);
+    }
 }
@@ -1,17 +1,26 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductEntity;
-import jakarta.persistence.LockModeType;
+import com.loopers.domain.product.ProductFreshness;
+import com.loopers.domain.product.ProductSortKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select p from ProductEntity p where p.id = :productId")
-    Optional<ProductEntity> findByIdWithPessimisticLock(@Param("productId") Long productId);
+    @Query("select new com.loopers.domain.product.ProductSortKey(p.id, p.price, p.likeCount) " +
+            "from ProductEntity p where p.id > :lastId and p.deletedAt is null order by p.id asc")
+    List<ProductSortKey> findSortKeysAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select new com.loopers.domain.product.ProductSortKey(p.id, p.price, p.likeCount) " +
+            "from ProductEntity p where p.id in :ids and p.deletedAt is null")
+    List<ProductSortKey> findSortKeysByIds(@Param("ids") List<Long> ids);
+
+    @Query("select new com.loopers.domain.product.ProductFreshness(p.id, p.version, p.likeCount, p.updatedAt) " +
+            "from ProductEntity p where p.id in :ids")
+    List<ProductFreshness> findFreshnessByIds(@Param("ids") List<Long> ids);
 }
@@ -1,27 +1,370 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.product.LikeCountCorrection;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductExistenceFilter;
+import com.loopers.domain.product.ProductFreshness;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortIndex;
+import com.loopers.domain.product.ProductSortKey;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductView;
 import com.loopers.infrastructure.AbstractRepositoryImpl;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static com.loopers.domain.brand.QBrandEntity.brandEntity;
+import static com.loopers.domain.product.QProductEntity.productEntity;
 
 @Component
 public class ProductRepositoryImpl extends AbstractRepositoryImpl<ProductEntity, ProductJpaRepository> implements ProductRepository {
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository) {
+
+    private static final int LIKE_COUNT_BATCH_SIZE = 500;
+    // 행 잠금 순서를 id 순으로 맞추어, 여러 노드가 동시에 반영해도 교착 상태가 생기지 않게 한다. 음수가 되지 않도록 0 에서 멈춘다.
+    private static final String ADD_LIKE_COUNT_SQL = "UPDATE products SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String CORRECT_LIKE_COUNT_SQL = "UPDATE products SET like_count = ? WHERE id = ? AND like_count = ?";
+    // 상품마다 수량이 다르므로 CASE 로 한 문장에 담는다. 캐시 검증과 ETag 가 바뀐 재고를 알아보도록 version 과 updated_at 도 함께 올린다.
+    private static final String DECREASE_STOCKS_SQL = "UPDATE products SET stock = stock - (%1$s), version = version + 1, updated_at = ? " +
+            "WHERE id IN (%2$s) AND stock >= (%1$s)";
+    private static final String INCREASE_STOCKS_SQL = "UPDATE products SET stock = stock + (%1$s), version = version + 1, updated_at = ? " +
+            "WHERE id IN (%2$s)";
+
+    private final ProductSortIndex productSortIndex;
+    private final ProductExistenceFilter productExistenceFilter;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductRepositoryImpl(
+            ProductJpaRepository jpaRepository,
+            ProductSortIndex productSortIndex,
+            ProductExistenceFilter productExistenceFilter,
+            JPAQueryFactory queryFactory,
+            JdbcTemplate jdbcTemplate
+    ) {
         super(jpaRepository);
+        this.productSortIndex = productSortIndex;
+        this.productExistenceFilter = productExistenceFilter;
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ProductEntity save(ProductEntity entity) {
+        boolean created = isNew(entity);
+        ProductEntity saved = super.save(entity);
+        syncIndexes(List.of(saved), created ? List.of(saved.getId()) : List.of());
+        return saved;
+    }
+
+    @Override
+    public List<ProductEntity> saveAll(List<ProductEntity> entities) {
+        List<Boolean> created = entities.stream().map(ProductRepositoryImpl::isNew).toList();
+        List<ProductEntity> saved = super.saveAll(entities);
+        List<Long> createdIds = IntStream.range(0, saved.size())
+                .filter(created::get)
+                .mapToObj(i -> saved.get(i).getId())
+                .toList();
+        syncIndexes(saved, createdIds);
+        return saved;
+    }
+
+    @Override
+    public Optional<ProductView> findViewById(Long id) {
+        return Optional.ofNullable(
+                selectViews()
+                        .where(productEntity.id.eq(id))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<ProductView> findViewsByIds(List<Long> ids) {
+        return selectViews()
+                .where(productEntity.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public Page<ProductView> findViews(Pageable pageable) {
+        List<ProductView> content = selectViews()
+                .orderBy(orderOf(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(productEntity.count())
+                .from(productEntity);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<ProductView> findViewsByCursor(ProductSortType sortType, ProductCursor cursor, int limit) {
+        return selectViews()
+                .where(cursor == null ? null : after(cursor))
+                .orderBy(orderOf(sortType))
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public Page<ProductEntity> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable);
+    public Page<ProductView> search(ProductCommand.Search condition, Pageable pageable) {
+        BooleanExpression[] predicates = {
+                brandIdEq(condition.brandId()),
+                priceGoe(condition.minPrice()),
+                priceLoe(condition.maxPrice())
+        };
+
+        List<ProductView> content = selectViews()
+                .where(predicates)
+                .orderBy(orderOf(condition.sortType()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(productEntity.count())
+                .from(productEntity)
+                .where(predicates);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
     @Override
-    public Optional<ProductEntity> findByIdWithPessimisticLock(Long id) {
-        return jpaRepository.findByIdWithPessimisticLock(id);
+    public List<ProductSortKey> findSortKeysAfter(Long lastId, int limit) {
+        return jpaRepository.findSortKeysAfter(lastId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new TreeMap<>(deltas).entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, entries, LIKE_COUNT_BATCH_SIZE, (statement, entry) -> {
+            statement.setLong(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+
+        refreshSortKeys(entries.stream().map(Map.Entry::getKey).toList());
+    }
+
+    @Override
+    public int correctLikeCounts(List<LikeCountCorrection> corrections) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+
+        List<LikeCountCorrection> sorted = corrections.stream()
+                .sorted(Comparator.comparing(LikeCountCorrection::productId))
+                .toList();
+        int[][] results = jdbcTemplate.batchUpdate(CORRECT_LIKE_COUNT_SQL, sorted, LIKE_COUNT_BATCH_SIZE, (statement, correction) -> {
+            statement.setLong(1, correction.actual());
+            statement.setLong(2, correction.productId());
+            statement.setLong(3, correction.expected());
+        });
+
+        refreshSortKeys(sorted.stream().map(LikeCountCorrection::productId).toList());
+        // 배치를 한 문장으로 다시 쓰는 드라이버는 행 수 대신 SUCCESS_NO_INFO 를 돌려주므로, 그 경우는 바뀐 것으로 센다.
+        return (int) Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0 || count == Statement.SUCCESS_NO_INFO)
+                .count();
+    }
+
+    @Override
+    public boolean decreaseStocks(Map<Long, Integer> quantities) {
+        return updateStocks(DECREASE_STOCKS_SQL, quantities, true);
+    }
+
+    @Override
+    public boolean increaseStocks(Map<Long, Integer> quantities) {
+        return updateStocks(INCREASE_STOCKS_SQL, quantities, false);
+    }
+
+    /**
+     * 상품 id 순으로 정렬해 한 문장으로 보낸다. 행 잠금을 항상 같은 순서로 잡으므로 상품이 겹치는 주문끼리 교착 상태가 생기지 않고,
+     * 상품 수와 관계없이 한 번의 왕복으로 처리한다.
+     */
+    private boolean updateStocks(String sqlTemplate, Map<Long, Integer> quantities, boolean guarded) {
+        if (quantities.isEmpty()) {
+            return true;
+        }
+
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        String caseClause = "CASE id " + String.join(" ", Collections.nCopies(sorted.size(), "WHEN ? THEN ?")) + " END";
+        String inClause = String.join(", ", Collections.nCopies(sorted.size(), "?"));
+        String sql = String.format(sqlTemplate, caseClause, inClause);
+
+        List<Object> args = new ArrayList<>();
+        sorted.forEach((id, quantity) -> {
+            args.add(id);
+            args.add(quantity);
+        });
+        args.add(LocalDateTime.now(ZoneOffset.UTC));
+        args.addAll(sorted.keySet());
+        if (guarded) {
+            sorted.forEach((id, quantity) -> {
+                args.add(id);
+                args.add(quantity);
+            });
+        }
+
+        return jdbcTemplate.update(sql, args.toArray()) == sorted.size();
+    }
+
+    /**
+     * 엔티티를 거치지 않고 바꾼 상품의 정렬 키를 다시 읽어, 커밋된 이후 정렬 인덱스에 반영한다.
+     */
+    private void refreshSortKeys(List<Long> productIds) {
+        List<ProductSortKey> sortKeys = jpaRepository.findSortKeysByIds(productIds);
+        runAfterCommit(() -> productSortIndex.upsert(sortKeys));
+    }
+
+    @Override
+    public List<ProductFreshness> findFreshnessByIds(List<Long> ids) {
+        return jpaRepository.findFreshnessByIds(ids);
+    }
+
+    /**
+     * 상품과 브랜드를 조인해 화면에 필요한 컬럼만 DTO 로 바로 조회한다.
+     */
+    private JPAQuery<ProductView> selectViews() {
+        return queryFactory
+                .select(Projections.constructor(ProductView.class,
+                        productEntity.id,
+                        productEntity.name,
+                        productEntity.price,
+                        productEntity.stock,
+                        brandEntity.brandName,
+                        productEntity.likeCount,
+                        productEntity.version
+                ))
+                .from(productEntity)
+                .join(productEntity.brand, brandEntity);
+    }
+
+    /**
+     * 커서 위치 이후의 범위 조건. (정렬 키, id) 순서로 비교해 인덱스 범위 스캔으로 이어서 읽는다.
+     */
+    private BooleanExpression after(ProductCursor cursor) {
+        return switch (cursor.sortType()) {
+            case LATEST -> productEntity.id.lt(cursor.id());
+            case PRICE_ASC -> productEntity.price.gt(cursor.priceKey())
+                    .or(productEntity.price.eq(cursor.priceKey()).and(productEntity.id.gt(cursor.id())));
+            case LIKES_DESC -> productEntity.likeCount.lt(cursor.likeCountKey())
+                    .or(productEntity.likeCount.eq(cursor.likeCountKey()).and(productEntity.id.lt(cursor.id())));
+        };
+    }
+
+    private BooleanExpression brandIdEq(Long brandId) {
+        return brandId == null ? null : productEntity.brand.id.eq(brandId);
+    }
+
+    private BooleanExpression priceGoe(BigDecimal minPrice) {
+        return minPrice == null ? null : productEntity.price.goe(minPrice);
+    }
+
+    private BooleanExpression priceLoe(BigDecimal maxPrice) {
+        return maxPrice == null ? null : productEntity.price.loe(maxPrice);
+    }
+
+    /**
+     * 모든 정렬은 id 를 보조 키로 사용한다. 보조 인덱스는 PK 를 포함하므로 (brand_id, 정렬 키, id) 순서로 인덱스를 그대로 읽는다.
+     */
+    private OrderSpecifier<?>[] orderOf(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> new OrderSpecifier<?>[]{productEntity.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{productEntity.price.asc(), productEntity.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{productEntity.likeCount.desc(), productEntity.id.desc()};
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderOf(Sort sort) {
+        PathBuilder<ProductEntity> path = new PathBuilder<>(ProductEntity.class, productEntity.getMetadata());
+        return sort.stream()
+                .map(order -> new OrderSpecifier(
+                        order.isAscending() ? Order.ASC : Order.DESC,
+                        path.getComparable(order.getProperty(), Comparable.class)
+                ))
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 정렬 키가 바뀌었을 수 있으므로 정렬 인덱스를 갱신한다. 트랜잭션 중이라면 커밋된 이후에 반영한다.
+     */
+    private void syncIndexes(List<ProductEntity> products, List<Long> createdIds) {
+        List<ProductSortKey> sortKeys = products.stream()
+                .filter(product -> !product.isDeleted())
+                .map(ProductSortKey::from)
+                .toList();
+        List<Long> deletedIds = products.stream()
+                .filter(ProductEntity::isDeleted)
+                .map(ProductEntity::getId)
+                .toList();
+
+        runAfterCommit(() -> {
+            productExistenceFilter.add(createdIds);
+            productSortIndex.upsert(sortKeys);
+            if (!deletedIds.isEmpty()) {
+                productSortIndex.remove(deletedIds);
+            }
+        });
+    }
+
+    /**
+     * BaseEntity 의 id 는 0 으로 초기화되므로, 아직 저장되지 않은 엔티티는 null 또는 0 이다.
+     */
+    private static boolean isNew(ProductEntity entity) {
+        return entity.getId() == null || entity.getId() == 0L;
+    }
+
+    private void runAfterCommit(Runnable sync) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sync.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sync.run();
+            }
+        });
     }
 }
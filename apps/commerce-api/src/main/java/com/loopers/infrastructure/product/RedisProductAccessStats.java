@@ -0,0 +1,116 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductAccessStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일자별 ZSET 에 상품 조회 수를 누적한다. 요청마다 Redis 에 쓰지 않도록 로컬에서 모았다가 주기적으로 한 번에 반영한다.
+ */
+@Component
+@Slf4j
+public class RedisProductAccessStats implements ProductAccessStats {
+
+    private static final String KEY_PREFIX = "product:access:";
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public RedisProductAccessStats(
+            RedisTemplate<String, Object> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void record(Long productId) {
+        pending.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordAll(List<Long> productIds) {
+        productIds.forEach(this::record);
+    }
+
+    @Override
+    public List<Long> findTopProductIds(int limit) {
+        // 오늘 집계가 부족한 자정 직후에도 충분한 후보가 나오도록 전날 집계로 채운다.
+        LocalDate today = LocalDate.now();
+        Set<Long> productIds = new LinkedHashSet<>();
+        try {
+            for (LocalDate day : List.of(today, today.minusDays(1))) {
+                if (productIds.size() >= limit) {
+                    break;
+                }
+                Set<Object> members = redisTemplate.opsForZSet().reverseRange(keyOf(day), 0, limit - 1);
+                if (members != null) {
+                    members.stream()
+                            .map(member -> Long.valueOf(member.toString()))
+                            .forEach(productIds::add);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("상품 조회 통계 조회 실패", e);
+        }
+        return new ArrayList<>(productIds).subList(0, Math.min(limit, productIds.size()));
+    }
+
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        Map<Long, LongAdder> counts = pending;
+        if (counts.isEmpty()) {
+            return;
+        }
+        pending = new ConcurrentHashMap<>();
+
+        String key = keyOf(LocalDate.now());
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    counts.forEach((productId, count) -> ops.opsForZSet().incrementScore(key, productId.toString(), count.sum()));
+                    ops.expire(key, KEY_TTL);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 통계는 근사치로 충분하므로 실패한 구간은 버린다.
+            log.warn("상품 조회 통계 반영 실패. size: [{}]", counts.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static String keyOf(LocalDate day) {
+        return KEY_PREFIX + day.format(DAY_FORMAT);
+    }
+}
@@ -0,0 +1,169 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductExistenceFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Redis 비트맵으로 구현한 Bloom filter 와 negative cache.
+ * <p>
+ * 비트 위치는 id 를 두 번 섞은 64비트 해시로 double hashing 하여 구한다.
+ * 방금 생성된 상품을 없는 상품으로 판단하지 않도록 조회도 복제 지연이 없는 master 에서 한다.
+ * Bloom filter 는 원소를 지울 수 없으므로 삭제된 상품은 계속 통과하며, 이런 id 는 negative cache 가 막는다.
+ */
+@Component
+@Slf4j
+public class RedisProductExistenceFilter implements ProductExistenceFilter {
+
+    private static final String KEY_PREFIX = "product:bloom";
+    private static final String READY_KEY = KEY_PREFIX + ":ready";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + ":rebuild-lock";
+    private static final String MISSING_KEY_PREFIX = "product:missing:";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    private static final Duration MISSING_TTL = Duration.ofSeconds(30);
+
+    // 상품 100만 개 기준 오탐률 약 0.1% (2MB)
+    private static final long BIT_SIZE = 1L << 24;
+    private static final int HASH_COUNT = 7;
+
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+
+    public RedisProductExistenceFilter(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public boolean mightExist(Long productId) {
+        long[] offsets = offsetsOf(productId);
+        try {
+            List<Object> results = masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.hasKey(MISSING_KEY_PREFIX + productId);
+                    ops.hasKey(READY_KEY);
+                    for (long offset : offsets) {
+                        ops.opsForValue().getBit(KEY_PREFIX, offset);
+                    }
+                    return null;
+                }
+            });
+
+            if (Boolean.TRUE.equals(results.get(0))) {
+                return false;
+            }
+            if (!Boolean.TRUE.equals(results.get(1))) {
+                return true;
+            }
+            return results.subList(2, results.size()).stream().allMatch(Boolean.TRUE::equals);
+        } catch (DataAccessException e) {
+            log.warn("상품 존재 필터 조회 실패, DB 로 확인합니다. productId: [{}]", productId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void add(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            setBits(productIds);
+            masterRedisTemplate.delete(productIds.stream().map(id -> MISSING_KEY_PREFIX + id).toList());
+        } catch (DataAccessException e) {
+            log.warn("상품 존재 필터 갱신 실패. 다음 재구축 전까지 필터를 사용하지 않습니다. size: [{}]", productIds.size(), e);
+            // 새 상품이 없는 상품으로 판단되지 않도록, 재구축될 때까지 필터를 끈다.
+            disableQuietly();
+        }
+    }
+
+    @Override
+    public void markMissing(Long productId) {
+        try {
+            masterRedisTemplate.opsForValue().set(MISSING_KEY_PREFIX + productId, "1", MISSING_TTL);
+        } catch (DataAccessException e) {
+            log.warn("상품 negative cache 저장 실패. productId: [{}]", productId, e);
+        }
+    }
+
+    @Override
+    public void rebuild(Function<Long, List<Long>> chunkLoader) {
+        // 여러 인스턴스가 동시에 기동하더라도 한 곳에서만 재구축한다.
+        Boolean locked = masterRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 인스턴스에서 상품 존재 필터를 재구축 중이므로 건너뜁니다.");
+            return;
+        }
+
+        try {
+            // 재구축 중 생성된 상품이 사라지지 않도록 기존 비트맵을 지우지 않고 그 위에 채운다.
+            long lastId = 0L;
+            long count = 0L;
+            List<Long> chunk = chunkLoader.apply(lastId);
+            while (!chunk.isEmpty()) {
+                setBits(chunk);
+                count += chunk.size();
+                lastId = chunk.get(chunk.size() - 1);
+                chunk = chunkLoader.apply(lastId);
+            }
+            masterRedisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("상품 존재 필터 재구축 완료. count: [{}]", count);
+        } finally {
+            masterRedisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    private void setBits(Collection<Long> productIds) {
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Long productId : productIds) {
+                    for (long offset : offsetsOf(productId)) {
+                        ops.opsForValue().setBit(KEY_PREFIX, offset, true);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private void disableQuietly() {
+        try {
+            masterRedisTemplate.delete(READY_KEY);
+        } catch (DataAccessException ignored) {
+            // Redis 를 사용할 수 없으면 조회도 실패하여 어차피 DB 로 확인한다.
+        }
+    }
+
+    private static long[] offsetsOf(Long productId) {
+        long hash1 = mix(productId);
+        long hash2 = mix(hash1) | 1L;
+        long[] offsets = new long[HASH_COUNT];
+        for (int i = 0; i < HASH_COUNT; i++) {
+            offsets[i] = Math.floorMod(hash1 + i * hash2, BIT_SIZE);
+        }
+        return offsets;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
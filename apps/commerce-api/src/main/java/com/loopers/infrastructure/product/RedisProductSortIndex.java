@@ -0,0 +1,191 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductIdPage;
+import com.loopers.domain.product.ProductSortIndex;
+import com.loopers.domain.product.ProductSortKey;
+import com.loopers.domain.product.ProductSortType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 정렬 기준별 ZSET 인덱스. member 는 0으로 채운 고정 길이 id 문자열이므로,
+ * 점수가 같을 때의 사전순 정렬이 id 순서와 일치해 DB 의 (정렬 키, id) 정렬과 같은 결과를 낸다.
+ */
+@Component
+@Slf4j
+public class RedisProductSortIndex implements ProductSortIndex {
+
+    private static final String KEY_PREFIX = "product:sort:";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+    private static final String REBUILDING_KEY = KEY_PREFIX + "rebuilding";
+    private static final String REBUILD_SUFFIX = ":rebuilding";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+
+    public RedisProductSortIndex(
+            RedisTemplate<String, Object> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Optional<ProductIdPage> findIds(ProductSortType sortType, long offset, int size) {
+        String key = keyOf(sortType);
+        long end = offset + size - 1;
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.hasKey(READY_KEY);
+                    if (sortType == ProductSortType.PRICE_ASC) {
+                        ops.opsForZSet().range(key, offset, end);
+                    } else {
+                        ops.opsForZSet().reverseRange(key, offset, end);
+                    }
+                    ops.opsForZSet().zCard(key);
+                    return null;
+                }
+            });
+
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return Optional.empty();
+            }
+
+            List<Long> ids = ((Collection<?>) results.get(1)).stream()
+                    .map(member -> Long.valueOf(member.toString()))
+                    .toList();
+            long total = results.get(2) instanceof Long count ? count : 0L;
+            return Optional.of(new ProductIdPage(ids, total));
+        } catch (DataAccessException e) {
+            log.warn("상품 정렬 인덱스 조회 실패, DB 로 대체 조회합니다. sortType: [{}]", sortType, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void upsert(List<ProductSortKey> sortKeys) {
+        if (sortKeys.isEmpty()) {
+            return;
+        }
+        try {
+            addAll(sortKeys, "");
+            if (Boolean.TRUE.equals(masterRedisTemplate.hasKey(REBUILDING_KEY))) {
+                // 어느 인스턴스에서 재구축 중이든, 그 사이 발생한 변경이 교체 시점에 사라지지 않도록 임시 인덱스에도 기록한다.
+                addAll(sortKeys, REBUILD_SUFFIX);
+            }
+        } catch (DataAccessException e) {
+            log.warn("상품 정렬 인덱스 갱신 실패. 다음 재구축 시 반영됩니다. size: [{}]", sortKeys.size(), e);
+        }
+    }
+
+    @Override
+    public void remove(List<Long> productIds) {
+        Object[] members = productIds.stream().map(RedisProductSortIndex::memberOf).toArray();
+        try {
+            removeAll(members, "");
+            if (Boolean.TRUE.equals(masterRedisTemplate.hasKey(REBUILDING_KEY))) {
+                // 재구축이 이미 읽어 간 상품이 교체 시점에 되살아나지 않도록 임시 인덱스에서도 지운다.
+                removeAll(members, REBUILD_SUFFIX);
+            }
+        } catch (DataAccessException e) {
+            log.warn("상품 정렬 인덱스에서 삭제 실패. productIds: {}", productIds, e);
+        }
+    }
+
+    @Override
+    public void rebuild(Function<Long, List<ProductSortKey>> chunkLoader) {
+        // 여러 인스턴스가 동시에 기동하더라도 한 곳에서만 재구축한다.
+        Boolean locked = masterRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 인스턴스에서 상품 정렬 인덱스를 재구축 중이므로 건너뜁니다.");
+            return;
+        }
+
+        try {
+            masterRedisTemplate.delete(Arrays.stream(ProductSortType.values()).map(type -> keyOf(type) + REBUILD_SUFFIX).toList());
+            // 임시 인덱스를 비운 뒤에 표식을 남겨야 다른 인스턴스의 변경이 지워지지 않는다.
+            masterRedisTemplate.opsForValue().set(REBUILDING_KEY, "1", REBUILD_LOCK_TTL);
+
+            long lastId = 0L;
+            long count = 0L;
+            List<ProductSortKey> chunk = chunkLoader.apply(lastId);
+            while (!chunk.isEmpty()) {
+                addAll(chunk, REBUILD_SUFFIX);
+                count += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+                chunk = chunkLoader.apply(lastId);
+            }
+
+            for (ProductSortType sortType : ProductSortType.values()) {
+                String key = keyOf(sortType);
+                if (Boolean.TRUE.equals(masterRedisTemplate.hasKey(key + REBUILD_SUFFIX))) {
+                    masterRedisTemplate.rename(key + REBUILD_SUFFIX, key);
+                } else {
+                    masterRedisTemplate.delete(key);
+                }
+            }
+            masterRedisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("상품 정렬 인덱스 재구축 완료. count: [{}]", count);
+        } finally {
+            masterRedisTemplate.delete(List.of(REBUILDING_KEY, REBUILD_LOCK_KEY));
+        }
+    }
+
+    private void addAll(List<ProductSortKey> sortKeys, String keySuffix) {
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (ProductSortKey sortKey : sortKeys) {
+                    String member = memberOf(sortKey.id());
+                    ops.opsForZSet().add(keyOf(ProductSortType.LATEST) + keySuffix, member, sortKey.id());
+                    ops.opsForZSet().add(keyOf(ProductSortType.PRICE_ASC) + keySuffix, member, sortKey.price().doubleValue());
+                    ops.opsForZSet().add(keyOf(ProductSortType.LIKES_DESC) + keySuffix, member, sortKey.likeCount());
+                }
+                return null;
+            }
+        });
+    }
+
+    private void removeAll(Object[] members, String keySuffix) {
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                Arrays.stream(ProductSortType.values())
+                        .forEach(sortType -> ops.opsForZSet().remove(keyOf(sortType) + keySuffix, members));
+                return null;
+            }
+        });
+    }
+
+    private static String keyOf(ProductSortType sortType) {
+        return KEY_PREFIX + sortType.name().toLowerCase();
+    }
+
+    private static String memberOf(Long productId) {
+        return String.format("%019d", productId);
+    }
+}
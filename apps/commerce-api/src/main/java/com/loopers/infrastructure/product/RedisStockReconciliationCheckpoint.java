@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.StockReconciliationCheckpoint;
+import com.loopers.infrastructure.RedisReconciliationCheckpoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisStockReconciliationCheckpoint extends RedisReconciliationCheckpoint implements StockReconciliationCheckpoint {
+
+    private static final String KEY_PREFIX = "stock:reconcile";
+
+    public RedisStockReconciliationCheckpoint(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate) {
+        super(masterRedisTemplate, KEY_PREFIX);
+    }
+}
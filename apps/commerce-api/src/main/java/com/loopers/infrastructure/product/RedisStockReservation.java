@@ -0,0 +1,143 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.StockReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품마다 예약할 수 있는 재고를 Redis 문자열 키 하나에 담는다.
+ * <p>
+ * 여러 상품의 예약은 Lua 스크립트 한 번으로 모든 상품의 재고를 확인한 뒤 차감하므로, 일부 상품만 차감되는 일이 없다.
+ * 키에는 TTL 을 두지 않는다. 예약 중인 수량이 있는 동안 키가 사라지면 DB 기준으로 다시 채울 때 그 수량을 알 수 없기 때문이다.
+ */
+@Component
+@Slf4j
+public class RedisStockReservation implements StockReservation {
+
+    private static final String KEY_PREFIX = "stock:product:";
+
+    // 적재되지 않은 상품이 있으면 -1, 재고가 부족하면 0, 예약했으면 1
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local available = redis.call('get', KEYS[i])
+                if not available then return -1 end
+                if tonumber(available) < tonumber(ARGV[i]) then return 0 end
+            end
+            for i = 1, #KEYS do redis.call('decrby', KEYS[i], ARGV[i]) end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('exists', KEYS[i]) == 1 then redis.call('incrby', KEYS[i], ARGV[i]) end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do redis.call('set', KEYS[i], ARGV[i], 'NX') end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> CORRECT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('set', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> masterRedisTemplate;
+
+    public RedisStockReservation(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, Object> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Result reserve(Map<Long, Integer> quantities) {
+        try {
+            Long result = execute(RESERVE_SCRIPT, quantities);
+            if (result == null) {
+                return Result.UNAVAILABLE;
+            }
+            if (result < 0) {
+                return Result.NOT_LOADED;
+            }
+            return result == 1L ? Result.RESERVED : Result.INSUFFICIENT;
+        } catch (DataAccessException e) {
+            log.warn("재고 예약 실패, DB 로 확인합니다. quantities: {}", quantities, e);
+            return Result.UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        try {
+            execute(RELEASE_SCRIPT, quantities);
+        } catch (DataAccessException e) {
+            log.warn("재고 예약 해제 실패, 정합성 작업에서 바로잡습니다. quantities: {}", quantities, e);
+        }
+    }
+
+    @Override
+    public void load(Map<Long, Long> availableStocks) {
+        if (availableStocks.isEmpty()) {
+            return;
+        }
+        try {
+            execute(LOAD_SCRIPT, availableStocks);
+        } catch (DataAccessException e) {
+            log.warn("예약 가능 재고 적재 실패. productIds: {}", availableStocks.keySet(), e);
+        }
+    }
+
+    @Override
+    public Map<Long, Long> findAvailable(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        List<Object> values = masterRedisTemplate.opsForValue().multiGet(ids.stream().map(RedisStockReservation::keyOf).toList());
+
+        Map<Long, Long> available = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) {
+                available.put(ids.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public boolean correct(Long productId, long actual, long expected) {
+        Long result = masterRedisTemplate.execute(
+                CORRECT_SCRIPT, List.of(keyOf(productId)), String.valueOf(actual), String.valueOf(expected)
+        );
+        return result != null && result == 1L;
+    }
+
+    private <V extends Number> Long execute(RedisScript<Long> script, Map<Long, V> values) {
+        // 상품 id 순으로 넘겨 스크립트가 항상 같은 순서로 키를 다루도록 한다.
+        Map<Long, V> sorted = new TreeMap<>(values);
+        List<String> keys = new ArrayList<>(sorted.size());
+        List<Object> args = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, value) -> {
+            keys.add(keyOf(productId));
+            args.add(value.toString());
+        });
+        return masterRedisTemplate.execute(script, keys, args.toArray());
+    }
+
+    private static String keyOf(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
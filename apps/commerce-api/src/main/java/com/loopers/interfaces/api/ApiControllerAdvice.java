@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -145,6 +146,12 @@ public class ApiControllerAdvice {
         return failureResponse(ErrorType.NOT_FOUND, null);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ApiResponse<?>> handleServiceUnavailable(BulkheadFullException e) {
+        log.warn("BulkheadFullException : {}", e.getMessage());
+        return failureResponse(ErrorType.SERVICE_UNAVAILABLE, null);
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handle(Throwable e) {
         log.error("Exception : {}", e.getMessage(), e);
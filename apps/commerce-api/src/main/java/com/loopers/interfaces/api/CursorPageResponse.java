@@ -0,0 +1,22 @@
+package com.loopers.interfaces.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답. 전체 건수(totalElements)는 제공하지 않으며, nextCursor 로 다음 페이지를 요청한다.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size
+) {
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor, int size) {
+        return new CursorPageResponse<>(content, nextCursor, nextCursor != null, size);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPageResponse<>(content.stream().<R>map(converter).toList(), nextCursor, hasNext, size);
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.interfaces.api;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 본문과 그 본문의 ETag. 본문은 필요할 때(If-None-Match 가 일치하지 않을 때)만 만든다.
+ */
+public record ETagged<T>(
+        String eTag,
+        Supplier<T> bodySupplier
+) {
+    /**
+     * 같은 값이면 응답 바이트가 같으므로 strong ETag 를 사용한다.
+     */
+    public static <T> ETagged<T> strong(List<?> parts, Supplier<T> body) {
+        return new ETagged<>("\"" + join(parts) + "\"", body);
+    }
+
+    /**
+     * 목록처럼 의미상 같은지만 보장하는 응답은 구성 요소를 해시한 weak ETag 를 사용한다.
+     */
+    public static <T> ETagged<T> weak(List<?> parts, Supplier<T> body) {
+        String digest = DigestUtils.md5DigestAsHex(join(parts).getBytes(StandardCharsets.UTF_8));
+        return new ETagged<>("W/\"" + digest + "\"", body);
+    }
+
+    public T body() {
+        return bodySupplier.get();
+    }
+
+    private static String join(List<?> parts) {
+        return parts.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining("-"));
+    }
+}
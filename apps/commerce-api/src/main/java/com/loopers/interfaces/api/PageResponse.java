@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 @Getter
 public class PageResponse<T> {
@@ -65,6 +66,25 @@ public class PageResponse<T> {
         );
     }
 
+    /**
+     * 페이지 메타 정보는 유지한 채 내용만 변환한다.
+     */
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> converter) {
+        return new PageResponse<>(
+                content.stream().<R>map(converter).toList(),
+                pageable,
+                last,
+                totalPages,
+                totalElements,
+                size,
+                number,
+                sort,
+                first,
+                numberOfElements,
+                empty
+        );
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (!(o instanceof PageResponse<?> that)) return false;
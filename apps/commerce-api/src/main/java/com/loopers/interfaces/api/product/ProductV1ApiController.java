@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.ProductFacade;
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.ETagged;
 import com.loopers.interfaces.api.PageResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -11,32 +14,101 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductV1ApiController implements ProductV1ApiSpec {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final ProductFacade productFacade;
 
     @GetMapping("/{productId}")
     @Override
-    public ApiResponse<ProductV1Dto.ProductInfo> getProduct(@PathVariable Long productId, HttpServletRequest request) {
+    public ApiResponse<ProductV1Dto.ProductInfo> getProduct(@PathVariable Long productId, HttpServletRequest request, WebRequest webRequest) {
+        String userId = request.getHeader("X-USER-ID");
+        if (userId == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID header is required.");
+        }
+        return respond(productFacade.getProductWithETag(productId, Long.valueOf(userId)), webRequest);
+    }
+
+    @GetMapping("/batch")
+    @Override
+    public ApiResponse<List<ProductV1Dto.ProductInfo>> getProductsByIds(@RequestParam List<Long> ids, HttpServletRequest request) {
         String userId = request.getHeader("X-USER-ID");
         if (userId == null) {
             throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID header is required.");
         }
-        return ApiResponse.success(productFacade.getProduct(productId, Long.valueOf(userId)));
+        List<Long> productIds = ids.stream().distinct().toList();
+        if (productIds.isEmpty() || productIds.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "ids must contain between 1 and " + MAX_BATCH_SIZE + " product ids.");
+        }
+        return ApiResponse.success(productFacade.getProductsByIds(productIds, Long.valueOf(userId)));
     }
 
     @GetMapping
     @Override
-    public ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> getProducts(Pageable pageable, HttpServletRequest request) {
+    public ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> getProducts(Pageable pageable, HttpServletRequest request, WebRequest webRequest) {
+        String userId = request.getHeader("X-USER-ID");
+        if (userId == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID header is required.");
+        }
+        return respond(productFacade.getProductsWithETag(pageable, Long.valueOf(userId)), webRequest);
+    }
+
+    @GetMapping("/search")
+    @Override
+    public ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> searchProducts(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
+            Pageable pageable,
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
+        String userId = request.getHeader("X-USER-ID");
+        if (userId == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID header is required.");
+        }
+        return respond(productFacade.searchProductsWithETag(brandId, minPrice, maxPrice, sortType, pageable, Long.valueOf(userId)), webRequest);
+    }
+
+    @GetMapping(params = "sortType")
+    @Override
+    public ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>> getProductsByCursor(
+            @RequestParam ProductSortType sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
         String userId = request.getHeader("X-USER-ID");
         if (userId == null) {
             throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID header is required.");
         }
-        return ApiResponse.success(productFacade.getProducts(pageable, Long.valueOf(userId)));
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE + ".");
+        }
+        return respond(productFacade.getProductsByCursorWithETag(sortType, cursor, size, Long.valueOf(userId)), webRequest);
+    }
+
+    /**
+     * If-None-Match 가 ETag 와 일치하면 본문을 만들지 않고 304 Not Modified 로 응답한다.
+     */
+    private <T> ApiResponse<T> respond(ETagged<T> response, WebRequest webRequest) {
+        if (webRequest.checkNotModified(response.eTag())) {
+            return null;
+        }
+        return ApiResponse.success(response.body());
     }
 }
@@ -1,19 +1,48 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
 import com.loopers.interfaces.api.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
 
 @Tag(name = "Product V1 API", description = "my-commerce 상품 API 입니다.")
 public interface ProductV1ApiSpec {
 
-    @Operation(summary = "상품 상세 조회")
-    ApiResponse<ProductV1Dto.ProductInfo> getProduct(Long productId, HttpServletRequest request);
+    @Operation(summary = "상품 상세 조회", description = "응답의 ETag 를 If-None-Match 로 보내면, 변경이 없을 때 304 Not Modified 를 반환합니다.")
+    ApiResponse<ProductV1Dto.ProductInfo> getProduct(Long productId, HttpServletRequest request, WebRequest webRequest);
+
+    @Operation(summary = "상품 일괄 조회", description = "ids 로 전달한 상품(최대 100개)의 상세를 요청 순서대로 반환합니다. 존재하지 않는 상품은 응답에서 제외됩니다.")
+    ApiResponse<List<ProductV1Dto.ProductInfo>> getProductsByIds(List<Long> ids, HttpServletRequest request);
+
+    @Operation(summary = "상품 목록 조회", description = "응답의 weak ETag 를 If-None-Match 로 보내면, 변경이 없을 때 304 Not Modified 를 반환합니다.")
+    ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> getProducts(Pageable pageable, HttpServletRequest request, WebRequest webRequest);
+
+    @Operation(summary = "상품 검색", description = "브랜드, 가격 범위로 상품을 필터링하고 sortType 기준으로 정렬합니다. 모든 조건은 선택입니다.")
+    ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> searchProducts(
+            Long brandId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            ProductSortType sortType,
+            Pageable pageable,
+            HttpServletRequest request,
+            WebRequest webRequest
+    );
 
-    @Operation(summary = "상품 목록 조회")
-    ApiResponse<PageResponse<ProductV1Dto.ProductInfo>> getProducts(Pageable pageable, HttpServletRequest request);
+    @Operation(summary = "상품 목록 커서 기반 조회", description = "sortType 을 지정하면 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>> getProductsByCursor(
+            ProductSortType sortType,
+            String cursor,
+            int size,
+            HttpServletRequest request,
+            WebRequest webRequest
+    );
 
 }
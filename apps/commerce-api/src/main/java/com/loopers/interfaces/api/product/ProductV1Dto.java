@@ -1,6 +1,6 @@
 package com.loopers.interfaces.api.product;
 
-import com.loopers.domain.product.ProductEntity;
+import com.loopers.application.product.ProductCatalogInfo;
 
 import java.math.BigDecimal;
 
@@ -14,14 +14,14 @@ public class ProductV1Dto {
             long likesCount,    // 좋아요 수 추가
             boolean isLiked
     ) {
-        public static ProductInfo of(ProductEntity product, long likesCount, boolean isLiked) {
+        public static ProductInfo of(ProductCatalogInfo product, boolean isLiked) {
             return new ProductInfo(
-                    product.getId(),
-                    product.getName(),
-                    product.getPrice(),
-                    product.getStock(),
-                    product.getBrand().getBrandName(),
-                    likesCount,
+                    product.id(),
+                    product.name(),
+                    product.price(),
+                    product.stock(),
+                    product.brandName(),
+                    product.likesCount(),
                     isLiked
             );
         }
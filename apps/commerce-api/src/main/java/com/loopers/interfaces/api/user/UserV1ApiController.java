@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.application.like.LikeFacade;
 import com.loopers.application.user.UserFacade;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.product.ProductV1Dto;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +16,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserV1ApiController implements UserV1ApiSpec {
 
+    private static final int MAX_LIKED_PAGE_SIZE = 100;
+
     private final UserFacade userFacade;
+    private final LikeFacade likeFacade;
 
     @PostMapping
     @Override
@@ -35,4 +41,23 @@ public class UserV1ApiController implements UserV1ApiSpec {
         return ApiResponse.success(userFacade.find(userId));
     }
 
+    @GetMapping("/me/likes")
+    @Override
+    public ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>> myLikes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request
+    ) {
+        if (request.getHeader("X-USER-ID") == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "User ID is missing in the request header.");
+        }
+        if (size <= 0 || size > MAX_LIKED_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size must be between 1 and " + MAX_LIKED_PAGE_SIZE + ".");
+        }
+
+        long userId = Long.parseLong(request.getHeader("X-USER-ID"));
+
+        return ApiResponse.success(likeFacade.getLikedProducts(userId, cursor, size));
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.loopers.interfaces.api.user;
 
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.product.ProductV1Dto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,4 +16,7 @@ public interface UserV1ApiSpec {
     @Operation(summary = "내 정보 조회")
     ApiResponse<UserV1Dto.UserResponse> me(HttpServletRequest request);
 
+    @Operation(summary = "내가 좋아요한 상품 목록 조회", description = "최근에 좋아요한 순서로 조회하며, 응답의 nextCursor 로 다음 페이지를 요청합니다.")
+    ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>> myLikes(String cursor, int size, HttpServletRequest request);
+
 }
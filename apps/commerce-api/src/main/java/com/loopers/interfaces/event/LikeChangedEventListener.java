@@ -1,22 +1,23 @@
 package com.loopers.interfaces.event;
 
+import com.loopers.application.product.ProductLikeCountBuffer;
 import com.loopers.domain.like.LikeChangedEvent;
-import com.loopers.domain.product.ProductService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 좋아요 수는 버퍼에 모았다가 주기적으로 반영하므로, 커밋 직후 버퍼에 변화량만 더하고 바로 돌아온다.
+ */
 @Component
 @RequiredArgsConstructor
 public class LikeChangedEventListener {
 
-    private final ProductService productService;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
 
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleLikeChangedEvent(LikeChangedEvent event) {
-        productService.updateLikeCount(event.productId(), event.liked());
+        productLikeCountBuffer.add(event.productId(), event.liked() ? 1 : -1);
     }
 }
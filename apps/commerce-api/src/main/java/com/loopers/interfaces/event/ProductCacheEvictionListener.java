@@ -0,0 +1,21 @@
+package com.loopers.interfaces.event;
+
+import com.loopers.application.product.ProductCacheInvalidator;
+import com.loopers.domain.product.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEvictionListener {
+
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    // 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 후에 지운다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductChangedEvent(ProductChangedEvent event) {
+        productCacheInvalidator.evict(event.productIds(), event.sortKeyChanged(), event.listingChanged());
+    }
+}
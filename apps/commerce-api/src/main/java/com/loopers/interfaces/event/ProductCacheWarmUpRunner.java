@@ -0,0 +1,34 @@
+package com.loopers.interfaces.event;
+
+import com.loopers.application.product.ProductCacheWarmer;
+import com.loopers.config.CacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCacheWarmUpRunner implements ApplicationRunner {
+
+    private final ProductCacheWarmer productCacheWarmer;
+    private final CacheProperties cacheProperties;
+
+    /**
+     * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로, 예열이 끝난 뒤에 트래픽을 받는다.
+     * 실패하더라도 캐시는 요청 시 채워지므로 기동은 계속한다.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!cacheProperties.warmUp().enabled()) {
+            return;
+        }
+        try {
+            productCacheWarmer.warmUp();
+        } catch (Exception e) {
+            log.warn("캐시 예열 실패", e);
+        }
+    }
+}
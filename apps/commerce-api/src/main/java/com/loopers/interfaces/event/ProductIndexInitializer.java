@@ -0,0 +1,40 @@
+package com.loopers.interfaces.event;
+
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIndexInitializer {
+
+    private final ProductService productService;
+
+    /**
+     * 기동 시 DB 기준으로 정렬 인덱스를 다시 만든다. 실패하더라도 목록 조회는 DB 로 대체되므로 기동은 계속한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSortIndex() {
+        try {
+            productService.rebuildSortIndex();
+        } catch (Exception e) {
+            log.warn("상품 정렬 인덱스 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 기동 시 DB 기준으로 상품 존재 필터를 채운다. 준비되기 전에는 필터가 모든 id 를 통과시키므로 기동은 계속한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildExistenceFilter() {
+        try {
+            productService.rebuildExistenceFilter();
+        } catch (Exception e) {
+            log.warn("상품 존재 필터 재구축 실패", e);
+        }
+    }
+}
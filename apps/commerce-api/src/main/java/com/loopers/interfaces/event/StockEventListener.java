@@ -1,5 +1,7 @@
 package com.loopers.interfaces.event;
 
+import com.loopers.application.product.StockReserver;
+import com.loopers.domain.order.event.OrderAbortedEvent;
 import com.loopers.domain.order.event.OrderFailedEvent;
 import com.loopers.domain.order.event.OrderPlacedEvent;
 import com.loopers.domain.product.ProductCommand;
@@ -17,6 +19,7 @@ import java.util.List;
 public class StockEventListener {
 
     private final ProductService productService;
+    private final StockReserver stockReserver;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -33,4 +36,10 @@ public class StockEventListener {
     public void handleOrderFailedEvent(OrderFailedEvent event) {
         productService.restoreStocks(event.orderId());
     }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderAbortedEvent(OrderAbortedEvent event) {
+        stockReserver.release(event.quantities());
+    }
 }
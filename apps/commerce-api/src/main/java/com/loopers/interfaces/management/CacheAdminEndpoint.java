@@ -0,0 +1,159 @@
+package com.loopers.interfaces.management;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.loopers.application.product.ProductCacheInvalidator;
+import com.loopers.infrastructure.cache.TwoTierCache;
+import com.loopers.infrastructure.cache.TwoTierCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 중 캐시를 들여다보고 잘못된 항목을 지우기 위한 관리 엔드포인트. 관리 포트(8081)로만 노출된다.
+ * <ul>
+ *     <li>GET /actuator/cacheadmin : 캐시별 L1/L2 크기, 적중/미스, L2 메모리 추정치</li>
+ *     <li>GET /actuator/cacheadmin/{cache}?key= : 키의 L1/L2 존재 여부, 남은 TTL, 직렬화된 크기</li>
+ *     <li>DELETE /actuator/cacheadmin/{cache}?key= 또는 ?pattern= : 키 또는 패턴(glob)으로 무효화</li>
+ *     <li>DELETE /actuator/cacheadmin?productId= : 상품 항목과 그 상품이 포함된 목록을 무효화</li>
+ * </ul>
+ * 키 목록과 패턴 무효화는 SCAN 으로 나누어 훑으며, Redis 를 막는 KEYS 는 사용하지 않는다.
+ */
+@Component
+@Endpoint(id = "cacheadmin")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAdminEndpoint {
+
+    // L2 키 수를 셀 때 훑는 최대 키 수. 넘어서면 truncated 로 표시한다.
+    private static final int KEY_COUNT_LIMIT = 10_000;
+    // 메모리 추정에 크기를 재는 표본 키 수
+    private static final int MEMORY_SAMPLE_SIZE = 100;
+
+    private final TwoTierCacheManager cacheManager;
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    @ReadOperation
+    public Map<String, CacheSummary> caches() {
+        Map<String, CacheSummary> result = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            TwoTierCache cache = cacheOf(cacheName);
+            if (cache != null) {
+                result.put(cacheName, summarize(cache));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * key 가 없으면 캐시 하나의 요약을, 있으면 그 키의 상태를 반환한다. 없는 캐시면 404 가 된다.
+     */
+    @ReadOperation
+    public Object cache(@Selector String cacheName, @Nullable String key) {
+        TwoTierCache cache = cacheOf(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        return key == null ? summarize(cache) : cache.inspect(key);
+    }
+
+    @DeleteOperation
+    public EvictionResult evict(@Selector String cacheName, @Nullable String key, @Nullable String pattern) {
+        if ((key == null) == (pattern == null)) {
+            throw new InvalidEndpointRequestException("key 와 pattern 중 하나만 지정해야 합니다.", "key or pattern is required");
+        }
+        TwoTierCache cache = cacheOf(cacheName);
+        if (cache == null) {
+            return null;
+        }
+
+        if (key != null) {
+            cache.evict(key);
+            log.info("관리자 캐시 무효화 cache: [{}], key: [{}]", cacheName, key);
+            return new EvictionResult(cacheName, 1);
+        }
+
+        long evicted = cache.evictMatching(pattern);
+        log.info("관리자 캐시 패턴 무효화 cache: [{}], pattern: [{}], keys: {}", cacheName, pattern, evicted);
+        return new EvictionResult(cacheName, evicted);
+    }
+
+    @DeleteOperation
+    public void evictProduct(Long productId) {
+        productCacheInvalidator.evict(List.of(productId), true, false);
+        log.info("관리자 상품 캐시 무효화 productId: [{}]", productId);
+    }
+
+    /**
+     * 캐시 매니저는 처음 보는 이름의 캐시를 만들어 주므로, 이미 있는 캐시만 찾는다.
+     */
+    private TwoTierCache cacheOf(String cacheName) {
+        return cacheManager.getCacheNames().contains(cacheName) && cacheManager.getCache(cacheName) instanceof TwoTierCache cache
+                ? cache
+                : null;
+    }
+
+    private CacheSummary summarize(TwoTierCache cache) {
+        CacheStats localStats = cache.getLocalCache().getNativeCache().stats();
+        LocalTier local = new LocalTier(
+                cache.getLocalCache().getNativeCache().estimatedSize(),
+                localStats.hitCount(),
+                localStats.missCount(),
+                localStats.hitRate(),
+                cache.getHotKeys().size()
+        );
+
+        CacheStatistics redisStats = cache.getRedisCache().getStatistics();
+        long redisLookups = redisStats.getHits() + redisStats.getMisses();
+        RedisTier redis;
+        try {
+            List<String> keys = cache.scanKeys("*", KEY_COUNT_LIMIT + 1);
+            List<String> sample = keys.subList(0, Math.min(MEMORY_SAMPLE_SIZE, keys.size()));
+            long estimatedBytes = sample.isEmpty()
+                    ? 0
+                    : cache.redisBytesOf(sample) * Math.min(keys.size(), KEY_COUNT_LIMIT) / sample.size();
+            redis = new RedisTier(
+                    redisStats.getHits(),
+                    redisStats.getMisses(),
+                    redisLookups == 0 ? 1.0 : (double) redisStats.getHits() / redisLookups,
+                    Math.min(keys.size(), KEY_COUNT_LIMIT),
+                    keys.size() > KEY_COUNT_LIMIT,
+                    estimatedBytes
+            );
+        } catch (DataAccessException e) {
+            log.warn("캐시 요약 중 Redis 조회 실패 cache: [{}]", cache.getName(), e);
+            redis = null;
+        }
+        return new CacheSummary(local, redis);
+    }
+
+    /**
+     * @param redis Redis 를 조회하지 못하면 null
+     */
+    public record CacheSummary(LocalTier local, RedisTier redis) {
+    }
+
+    public record LocalTier(long size, long hits, long misses, double hitRate, int hotKeys) {
+    }
+
+    /**
+     * @param keys          SCAN 으로 센 키 수. keysTruncated 이면 상한까지만 센 값이다.
+     * @param estimatedBytes 표본 키의 평균 크기(키 + 직렬화된 값)로 추정한 전체 크기. Redis 내부 오버헤드는 포함하지 않는다.
+     */
+    public record RedisTier(long hits, long misses, double hitRate, long keys, boolean keysTruncated, long estimatedBytes) {
+    }
+
+    public record EvictionResult(String cacheName, long evictedKeys) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductLikeCountBuffer;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikedProductStore;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.UserEntity;
+import com.loopers.domain.user.UserGender;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+public class LikeFacadeTest {
+
+    @Autowired
+    private LikeFacade likeFacade;
+    @MockitoSpyBean
+    private LikeService likeService;
+    @MockitoSpyBean
+    private LikedProductStore likedProductStore;
+    @Autowired
+    private LikeWriteBehindBuffer likeWriteBehindBuffer;
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UserEntity user;
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserEntity.create("user", "user@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
+        BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+        product = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeWriteBehindBuffer.flush();
+        productLikeCountBuffer.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("좋아요를 누르면 DB 에 반영되기 전에도 좋아요 여부에 바로 반영되고, 이후 likes 테이블과 좋아요 수에 반영된다")
+    @Test
+    void like_isVisibleImmediately_andPersistedAsynchronously() {
+        // act
+        likeFacade.like(user.getId(), product.getId());
+        boolean likedBeforeFlush = likeService.isLiked(user.getId(), product.getId());
+        likeWriteBehindBuffer.flush();
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(likedBeforeFlush).isTrue(),
+                () -> assertThat(likeRepository.countByProductId(product.getId())).isEqualTo(1),
+                () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getLikeCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("반영 전에 좋아요와 취소가 이어지면 마지막 상태만 반영되어, 좋아요 수가 바뀌지 않는다")
+    @Test
+    void likeThenUnlike_leavesNoLike() {
+        // act
+        likeFacade.like(user.getId(), product.getId());
+        likeFacade.like(user.getId(), product.getId());
+        likeFacade.unlike(user.getId(), product.getId());
+        likeWriteBehindBuffer.flush();
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(likeService.isLiked(user.getId(), product.getId())).isFalse(),
+                () -> assertThat(likeRepository.countByProductId(product.getId())).isZero(),
+                () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getLikeCount()).isZero()
+        );
+    }
+
+    @DisplayName("좋아요 목록 저장소에 기록하지 못한 좋아요는 DB 에 반영한 뒤 목록을 지워, DB 기준으로 다시 채운다")
+    @Test
+    void like_evictsLikedProducts_whenStoreToggleFails() {
+        // arrange
+        likedProductStore.load(user.getId(), List.of());
+        doReturn(Optional.empty()).when(likedProductStore).toggle(anyLong(), anyLong(), anyBoolean());
+
+        // act
+        likeFacade.like(user.getId(), product.getId());
+        likeService.isLiked(user.getId(), product.getId());
+        likeWriteBehindBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(likeRepository.countByProductId(product.getId())).isEqualTo(1),
+                () -> assertThat(likeService.isLiked(user.getId(), product.getId())).isTrue()
+        );
+    }
+
+    @DisplayName("반영이 DB 예외가 아닌 이유로 실패해도, 꺼낸 상태를 되돌려 다음 주기에 반영한다")
+    @Test
+    void flush_restoresStates_whenApplyFails() {
+        // arrange
+        likeFacade.like(user.getId(), product.getId());
+        doThrow(new CannotCreateTransactionException("커넥션을 얻지 못했습니다"))
+                .doCallRealMethod()
+                .when(likeService).applyLikeStates(any());
+
+        // act
+        likeWriteBehindBuffer.flush();
+        likeWriteBehindBuffer.flush();
+
+        // assert
+        assertThat(likeRepository.countByProductId(product.getId())).isEqualTo(1);
+    }
+
+    @DisplayName("묶음 안의 한 상태가 계속 실패해도 나머지 상태는 반영되고, 실패한 상태는 정해진 횟수만큼 시도한 뒤 버린다")
+    @Test
+    void flush_appliesOtherStates_andDiscardsPoisonState() {
+        // arrange
+        long poisonProductId = 987_654_321L;
+        likeFacade.like(user.getId(), product.getId());
+        likeWriteBehindBuffer.add(user.getId(), poisonProductId, true);
+        doThrow(new DataIntegrityViolationException("제약 조건 위반"))
+                .when(likeService).applyLikeStates(argThat(states -> states.stream().anyMatch(state -> state.productId() == poisonProductId)));
+
+        double discardedBefore = meterRegistry.counter("like.write.discarded").count();
+
+        // act
+        for (int i = 0; i < 3; i++) {
+            likeWriteBehindBuffer.flush();
+        }
+        int afterDiscard = likeWriteBehindBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(afterDiscard).isZero(),
+                () -> assertThat(meterRegistry.counter("like.write.discarded").count() - discardedBefore).isEqualTo(1),
+                () -> assertThat(likeRepository.countByProductId(product.getId())).isEqualTo(1),
+                () -> assertThat(likeRepository.countByProductId(poisonProductId)).isZero()
+        );
+    }
+}
@@ -10,10 +10,12 @@ import com.loopers.domain.point.PointEntity;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockReservation;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -55,9 +57,13 @@ public class OrderFacadeConcurrencyTest {
     private CouponRepository couponRepository;
     @Autowired
     private BrandRepository brandRepository;
+    @Autowired
+    private StockReservation stockReservation;
 
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
 
     @BeforeEach
     public void setUp() {
@@ -67,6 +73,7 @@ public class OrderFacadeConcurrencyTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
     }
 
     private void setUpTestData() {
@@ -140,6 +147,54 @@ public class OrderFacadeConcurrencyTest {
             assertThat(finalProduct.getStock()).isZero();
         }
 
+        @DisplayName("재고가 5개인 상품을 30명이 동시에 주문하면, 예약에 성공한 5개의 주문만 만들어지고 예약 가능 재고는 0이 된다.")
+        @Test
+        void reservationShouldNotOversell_whenOrdersExceedStock() throws InterruptedException {
+            // arrange
+            final int threadCount = 30;
+            final int stock = 5;
+            UserEntity savedUser = userRepository.save(testUser);
+
+            BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+            ProductEntity product = productRepository.save(ProductEntity.create("ProductA", 100, stock, brand));
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger insufficientCount = new AtomicInteger();
+
+            try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+                CountDownLatch latch = new CountDownLatch(threadCount);
+
+                // act
+                for (int i = 0; i < threadCount; i++) {
+                    executorService.submit(() -> {
+                        try {
+                            orderFacade.placeOrder(OrderCommand.Place.create(
+                                    savedUser.getId(),
+                                    List.of(new OrderCommand.OrderItemDetail(product.getId(), 1)),
+                                    PaymentMethod.POINT));
+                            successCount.getAndIncrement();
+                        } catch (IllegalArgumentException e) {
+                            if (e.getMessage().contains("재고가 부족합니다")) {
+                                insufficientCount.getAndIncrement();
+                            }
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                        } finally {
+                            latch.countDown();
+                        }
+                    });
+                }
+
+                latch.await();
+            }
+
+            // assert
+            assertThat(successCount.get()).isEqualTo(stock);
+            assertThat(insufficientCount.get()).isEqualTo(threadCount - stock);
+            assertThat(orderRepository.count()).isEqualTo(stock);
+            assertThat(stockReservation.findAvailable(List.of(product.getId()))).containsEntry(product.getId(), 0L);
+        }
+
         @DisplayName("수량이 1개인 쿠폰을 동일한 사용자가 동시에 사용하면, 1개의 주문만 성공해야 한다.")
         @Test
         void onlyOneOrderShouldSucceed_whenUsingOneCouponConcurrently() throws InterruptedException {
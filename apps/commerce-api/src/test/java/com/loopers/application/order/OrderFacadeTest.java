@@ -1,32 +1,44 @@
 package com.loopers.application.order;
 
+import com.loopers.application.product.StockReserver;
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.coupon.CouponEntity;
 import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.order.OrderEntity;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderService;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.payment.PaymentMethod;
+import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.point.PointEntity;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservation;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 public class OrderFacadeTest {
@@ -41,8 +53,20 @@ public class OrderFacadeTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
     @Autowired
+    private RedisCleanUp redisCleanUp;
+    @Autowired
+    private StockReservation stockReservation;
+    @MockitoSpyBean
+    private StockReserver stockReserver;
+    @MockitoSpyBean
+    private ProductService productService;
+    @Autowired
     private OrderFacade orderFacade;
     @Autowired
+    private OrderService orderService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private BrandRepository brandRepository;
@@ -77,6 +101,7 @@ public class OrderFacadeTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
     }
 
     @DisplayName("주문을 생성할 때, ")
@@ -271,6 +296,130 @@ public class OrderFacadeTest {
             assertThat(userPointAfterOrder.getAmount()).isEqualTo(initialPoints.subtract(finalPrice));
             assertThat(usedCoupon.isUsed()).isTrue();
         }
+
+        @DisplayName("재고가 부족하면, 주문을 만들지 않고 실패하며 예약 가능 재고도 그대로 남는다")
+        @Test
+        void placeOrder_failsWithoutReserving_whenStockIsInsufficient() {
+            // arrange
+            OrderCommand.Place command = OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(
+                            new OrderCommand.OrderItemDetail(productA.getId(), 1),
+                            new OrderCommand.OrderItemDetail(productB.getId(), productB.getStock() + 1)
+                    ),
+                    PaymentMethod.POINT);
+
+            // act
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> orderFacade.placeOrder(command));
+
+            // assert
+            assertThat(exception.getMessage()).contains("재고가 부족합니다");
+            assertThat(orderRepository.count()).isZero();
+            assertThat(stockReservation.findAvailable(List.of(productA.getId(), productB.getId())))
+                    .containsEntry(productA.getId(), (long) productA.getStock())
+                    .containsEntry(productB.getId(), (long) productB.getStock());
+        }
+
+        @DisplayName("재고를 예약한 주문은, 상품을 한 번의 쿼리로 조회하고 상품 엔티티를 하나씩 조회하지 않는다")
+        @Test
+        void placeOrder_loadsProductsInOneQuery_whenStockIsReserved() {
+            // arrange
+            OrderCommand.Place command = OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(
+                            new OrderCommand.OrderItemDetail(productA.getId(), 1),
+                            new OrderCommand.OrderItemDetail(productB.getId(), 1)
+                    ),
+                    PaymentMethod.POINT);
+
+            // act
+            orderFacade.placeOrder(command);
+
+            // assert
+            assertThat(orderRepository.count()).isEqualTo(1);
+            verify(productService, times(1)).findViewsByIds(any());
+            verify(productService, never()).findById(any());
+        }
+
+        @DisplayName("예약한 뒤 주문이 실패하면, 예약한 재고를 돌려준다")
+        @Test
+        void placeOrder_releasesReservation_whenOrderIsRolledBack() {
+            // arrange
+            OrderCommand.Place command = OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(new OrderCommand.OrderItemDetail(productA.getId(), 2)),
+                    PaymentMethod.POINT,
+                    999L);
+
+            // act
+            assertThrows(EntityNotFoundException.class, () -> orderFacade.placeOrder(command));
+
+            // assert
+            assertThat(stockReservation.findAvailable(List.of(productA.getId())))
+                    .containsEntry(productA.getId(), (long) productA.getStock());
+        }
+
+        @DisplayName("예약하고 주문이 커밋되면, 예약 가능 재고가 주문 수량만큼 줄고 주문에 예약 여부가 남는다")
+        @Test
+        void placeOrder_keepsReservation_whenOrderIsCommitted() {
+            // arrange
+            OrderCommand.Place command = OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(
+                            new OrderCommand.OrderItemDetail(productA.getId(), 2),
+                            new OrderCommand.OrderItemDetail(productB.getId(), 1)
+                    ),
+                    PaymentMethod.POINT);
+
+            // act
+            OrderInfo orderInfo = orderFacade.placeOrder(command);
+
+            // assert
+            OrderEntity order = orderRepository.findById(orderInfo.getOrderId()).orElseThrow();
+            assertThat(order.isStockReserved()).isTrue();
+            assertThat(stockReservation.findAvailable(List.of(productA.getId(), productB.getId())))
+                    .containsEntry(productA.getId(), (long) productA.getStock() - 2)
+                    .containsEntry(productB.getId(), (long) productB.getStock() - 1);
+        }
+    }
+
+    @DisplayName("예약한 주문이 결제되지 않고 끝날 때, ")
+    @Nested
+    class AbortOrder {
+
+        @DisplayName("주문이 실패 처리되면, 예약한 재고를 돌려준다")
+        @Test
+        void releasesReservation_whenReservedOrderFails() {
+            // arrange
+            OrderInfo orderInfo = orderFacade.placeOrder(OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(new OrderCommand.OrderItemDetail(productA.getId(), 2)),
+                    PaymentMethod.POINT));
+
+            // act
+            transactionTemplate.executeWithoutResult(status -> orderService.updateOrderStatus(orderInfo.getOrderId(), PaymentStatus.FAILED));
+
+            // assert
+            verify(stockReserver, timeout(2000)).release(Map.of(productA.getId(), 2));
+        }
+
+        @DisplayName("예약 없이 만들어진 주문이 실패 처리되면, 예약을 돌려주지 않는다")
+        @Test
+        void doesNotRelease_whenOrderWasNotReserved() {
+            // arrange
+            doReturn(false).when(stockReserver).reserve(any());
+            OrderInfo orderInfo = orderFacade.placeOrder(OrderCommand.Place.create(
+                    testUser.getId(),
+                    List.of(new OrderCommand.OrderItemDetail(productA.getId(), 2)),
+                    PaymentMethod.POINT));
+
+            // act
+            transactionTemplate.executeWithoutResult(status -> orderService.updateOrderStatus(orderInfo.getOrderId(), PaymentStatus.FAILED));
+
+            // assert
+            assertThat(orderRepository.findById(orderInfo.getOrderId()).orElseThrow().isStockReserved()).isFalse();
+            verify(stockReserver, after(1000).never()).release(any());
+        }
     }
 
 }
@@ -0,0 +1,155 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeCountReconciliationCheckpoint;
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserEntity;
+import com.loopers.domain.user.UserGender;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+public class LikeCountReconcilerTest {
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+    @Autowired
+    private LikeCountReconciliationCheckpoint checkpoint;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private ProductLikeCountBuffer likeCountBuffer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private ProductEntity underCounted;
+    private ProductEntity overCounted;
+    private ProductEntity consistent;
+    private BrandEntity brand;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user1 = userRepository.save(UserEntity.create("user1", "user1@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
+        UserEntity user2 = userRepository.save(UserEntity.create("user2", "user2@test.com", UserGender.FEMALE, LocalDate.now().minusYears(30)));
+        brand = brandRepository.save(BrandEntity.create("나이키"));
+        underCounted = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+        overCounted = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+        consistent = productRepository.save(ProductEntity.create("모자", 30000, 10, brand));
+
+        // 좋아요 수 반영이 유실된 상품
+        likeRepository.save(LikeEntity.create(user1, underCounted));
+        likeRepository.save(LikeEntity.create(user2, underCounted));
+        // 취소가 반영되지 않은 상품
+        productService.applyLikeCountDeltas(Map.of(overCounted.getId(), 3L));
+        // 정상 반영된 상품
+        likeRepository.save(LikeEntity.create(user1, consistent));
+        productService.applyLikeCountDeltas(Map.of(consistent.getId(), 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("like_count 가 likes 와 어긋난 상품만 likes 에서 센 값으로 바로잡는다")
+    @Test
+    void correctsDriftedLikeCounts() {
+        // act
+        LikeCountReconciler.ReconciliationResult result = likeCountReconciler.reconcile();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.checked()).isEqualTo(3),
+                () -> assertThat(result.corrected()).isEqualTo(2),
+                () -> assertThat(result.completed()).isTrue(),
+                () -> assertThat(likeCountOf(underCounted)).isEqualTo(2),
+                () -> assertThat(likeCountOf(overCounted)).isZero(),
+                () -> assertThat(likeCountOf(consistent)).isEqualTo(1),
+                () -> assertThat(checkpoint.lastProductId()).isZero()
+        );
+    }
+
+    @DisplayName("저장된 위치가 있으면 그 다음 상품부터 이어서 처리한다")
+    @Test
+    void resumesFromCheckpoint() {
+        // arrange
+        checkpoint.save(underCounted.getId());
+
+        // act
+        LikeCountReconciler.ReconciliationResult result = likeCountReconciler.reconcile();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.checked()).isEqualTo(2),
+                () -> assertThat(likeCountOf(underCounted)).isZero(),
+                () -> assertThat(likeCountOf(overCounted)).isZero()
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 실행 중이면 아무것도 바꾸지 않는다")
+    @Test
+    void skips_whenAnotherInstanceIsRunning() {
+        // arrange
+        checkpoint.tryLock(Duration.ofMinutes(1));
+
+        // act
+        LikeCountReconciler.ReconciliationResult result = likeCountReconciler.reconcile();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.checked()).isZero(),
+                () -> assertThat(likeCountOf(underCounted)).isZero()
+        );
+    }
+
+    @DisplayName("이 노드의 버퍼에 반영되지 않은 좋아요가 있는 상품은 바로잡지 않아, 버퍼가 반영된 뒤에도 두 번 세지 않는다")
+    @Test
+    void skipsProductWithPendingDelta_soBufferedLikeIsNotCountedTwice() {
+        // arrange
+        UserEntity user = userRepository.save(UserEntity.create("user3", "user3@test.com", UserGender.MALE, LocalDate.now().minusYears(25)));
+        ProductEntity pending = productRepository.save(ProductEntity.create("양말", 5000, 10, brand));
+        likeRepository.save(LikeEntity.create(user, pending));
+        likeCountBuffer.add(pending.getId(), 1L);
+
+        // act
+        likeCountReconciler.reconcile();
+        likeCountBuffer.flush();
+
+        // assert
+        assertThat(likeCountOf(pending)).isEqualTo(1);
+    }
+
+    private long likeCountOf(ProductEntity product) {
+        return productRepository.findById(product.getId()).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+public class ProductCacheVerifierTest {
+
+    @Autowired
+    private ProductCacheVerifier productCacheVerifier;
+    @Autowired
+    private ProductCatalogReader productCatalogReader;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Test Brand"));
+        product = productRepository.save(ProductEntity.create("Test Product", 10000, 10, brand));
+        productCatalogReader.getProduct(product.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        Objects.requireNonNull(cacheManager.getCache("product")).clear();
+        Objects.requireNonNull(cacheManager.getCache("products")).clear();
+    }
+
+    @DisplayName("캐시된 상품이 DB 와 같으면 일치로 집계한다")
+    @Test
+    void countsConsistent_whenCacheMatchesDatabase() {
+        // act
+        ProductCacheVerifier.VerificationResult result = productCacheVerifier.verify();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.sampled()).isEqualTo(1),
+                () -> assertThat(result.stale()).isZero(),
+                () -> assertThat(result.deleted()).isZero()
+        );
+    }
+
+    @DisplayName("캐시 무효화 없이 DB 의 상품이 바뀌면 불일치로 집계한다")
+    @Test
+    void countsStale_whenDatabaseChangedWithoutEviction() {
+        // arrange
+        ProductEntity saved = productRepository.findById(product.getId()).orElseThrow();
+        saved.decreaseStock(1);
+        productRepository.save(saved);
+
+        // act
+        ProductCacheVerifier.VerificationResult result = productCacheVerifier.verify();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.sampled()).isEqualTo(1),
+                () -> assertThat(result.stale()).isEqualTo(1)
+        );
+    }
+}
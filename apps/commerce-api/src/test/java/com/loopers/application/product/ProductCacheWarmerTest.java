@@ -0,0 +1,81 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.infrastructure.cache.TwoTierCache;
+import com.loopers.infrastructure.product.RedisProductAccessStats;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+public class ProductCacheWarmerTest {
+
+    @Autowired
+    private ProductCacheWarmer productCacheWarmer;
+    @Autowired
+    private RedisProductAccessStats productAccessStats;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트에서 남은 정렬 인덱스를 비운다.
+        productService.rebuildSortIndex();
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Test Brand"));
+        product = productRepository.save(ProductEntity.create("Test Product", 10000, 10, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        Objects.requireNonNull(cacheManager.getCache("product")).clear();
+        Objects.requireNonNull(cacheManager.getCache("products")).clear();
+    }
+
+    @DisplayName("조회 통계 상위 상품과 정렬 기준별 첫 페이지를 Redis 와 로컬 캐시에 적재한다")
+    @Test
+    void loadsTopProductsAndFirstPages() {
+        // arrange
+        for (int i = 0; i < 1000; i++) {
+            productAccessStats.record(product.getId());
+        }
+        productAccessStats.flush();
+
+        // act
+        productCacheWarmer.warmUp();
+
+        // assert
+        TwoTierCache productCache = (TwoTierCache) cacheManager.getCache("product");
+        TwoTierCache productsCache = (TwoTierCache) cacheManager.getCache("products");
+        assertAll(
+                () -> assertThat(productCache.getLocalCache().get("product:" + product.getId())).isNotNull(),
+                () -> assertThat(productCache.getRedisCache().get("product:" + product.getId())).isNotNull(),
+                () -> assertThat(productsCache.getRedisCache().get("ids:page:0:size:20:sort:price: ASC")).isNotNull(),
+                () -> assertThat(productsCache.getRedisCache().get("ids:cursor:LIKES_DESC:null:size:20")).isNotNull()
+        );
+    }
+}
@@ -3,15 +3,19 @@ package com.loopers.application.product;
 import com.loopers.application.ProductFacade;
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
+import com.loopers.interfaces.api.ETagged;
 import com.loopers.interfaces.api.PageResponse;
 import com.loopers.interfaces.api.product.ProductV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,12 +26,19 @@ import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -49,10 +60,18 @@ public class ProductFacadeCacheTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
 
     // 메서드 호출을 추적해서 캐시 동작 확인
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockitoSpyBean
     private ProductService productService;
 
@@ -61,6 +80,8 @@ public class ProductFacadeCacheTest {
 
     @BeforeEach
     void setUp() {
+        // 이전 테스트에서 남은 정렬 인덱스를 비운다.
+        productService.rebuildSortIndex();
         testUser = userRepository.save(UserEntity.create("testuser", "test@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
         BrandEntity brand = brandRepository.save(BrandEntity.create("Test Brand"));
         testProduct = productRepository.save(ProductEntity.create("Test Product", 10000, 10, brand));
@@ -71,6 +92,7 @@ public class ProductFacadeCacheTest {
         databaseCleanUp.truncateAllTables();
         Objects.requireNonNull(cacheManager.getCache("product")).clear();
         Objects.requireNonNull(cacheManager.getCache("products")).clear();
+        redisCleanUp.flushAll();
     }
 
     @DisplayName("getProduct 호출 시, 동일한 요청은 캐시를 통해 처리된다")
@@ -87,11 +109,43 @@ public class ProductFacadeCacheTest {
         ProductV1Dto.ProductInfo cachedResult = productFacade.getProduct(productId, userId);
 
         // assert
-        verify(productService, times(1)).findById(productId); // 실제 호출 횟수 1회
+        verify(productService, times(1)).findViewById(productId); // 실제 호출 횟수 1회
         assertThat(cachedResult).isNotNull();
         assertThat(firstResult).isEqualTo(cachedResult);
     }
 
+    @DisplayName("캐시가 비어 있을 때 같은 상품을 동시에 조회해도, 원본 조회는 한 번만 실행된다")
+    @Test
+    void getProduct_loadsOnce_whenConcurrentRequestsMissCache() throws InterruptedException {
+        // arrange
+        Long productId = testProduct.getId();
+        Long userId = testUser.getId();
+        int threadCount = 20;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        // act
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        productFacade.getProduct(productId, userId);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+            startLatch.countDown();
+            doneLatch.await();
+        }
+
+        // assert
+        verify(productService, times(1)).findViewById(productId);
+    }
+
     @DisplayName("getProducts 호출 시, 동일한 페이지 요청은 캐시를 통해 처리된다")
     @Test
     void getProducts_shouldBeCached() {
@@ -110,4 +164,146 @@ public class ProductFacadeCacheTest {
         assertThat(cachedResult).isNotNull();
         assertThat(firstResult).isEqualTo(cachedResult);
     }
+
+    @DisplayName("서로 다른 사용자가 같은 상품을 조회하면, 하나의 캐시 엔트리를 공유하고 좋아요 여부만 각자 다르게 반환된다")
+    @Test
+    void getProduct_sharesCacheEntryAcrossUsers() {
+        // arrange
+        UserEntity otherUser = userRepository.save(UserEntity.create("otheruser", "other@test.com", UserGender.FEMALE, LocalDate.now().minusYears(25)));
+        likeRepository.save(LikeEntity.create(testUser, testProduct));
+        Long productId = testProduct.getId();
+
+        // act
+        ProductV1Dto.ProductInfo likedResult = productFacade.getProduct(productId, testUser.getId());
+        ProductV1Dto.ProductInfo notLikedResult = productFacade.getProduct(productId, otherUser.getId());
+
+        // assert
+        verify(productService, times(1)).findViewById(productId);
+        assertThat(likedResult.isLiked()).isTrue();
+        assertThat(notLikedResult.isLiked()).isFalse();
+        assertThat(notLikedResult.likesCount()).isEqualTo(likedResult.likesCount());
+    }
+
+    @DisplayName("서로 다른 사용자가 같은 페이지를 조회하면, 하나의 목록 캐시 엔트리를 공유한다")
+    @Test
+    void getProducts_sharesCacheEntryAcrossUsers() {
+        // arrange
+        UserEntity otherUser = userRepository.save(UserEntity.create("otheruser", "other@test.com", UserGender.FEMALE, LocalDate.now().minusYears(25)));
+        likeRepository.save(LikeEntity.create(testUser, testProduct));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").descending());
+
+        // act
+        PageResponse<ProductV1Dto.ProductInfo> likedResult = productFacade.getProducts(pageable, testUser.getId());
+        PageResponse<ProductV1Dto.ProductInfo> notLikedResult = productFacade.getProducts(pageable, otherUser.getId());
+
+        // assert
+        verify(productService, times(1)).findAll(pageable);
+        assertThat(likedResult.getContent().get(0).isLiked()).isTrue();
+        assertThat(notLikedResult.getContent().get(0).isLiked()).isFalse();
+    }
+
+    @DisplayName("상품의 좋아요 수가 바뀌면, 그 상품의 캐시와 상품이 포함된 목록 캐시가 무효화되어 새 순서와 좋아요 수로 조회된다")
+    @Test
+    void getProducts_reflectsLikeCountChange_afterEviction() {
+        // arrange
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Other Brand"));
+        ProductEntity otherProduct = productRepository.save(ProductEntity.create("Other Product", 20000, 10, brand));
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount"));
+        PageResponse<ProductV1Dto.ProductInfo> before = productFacade.getProducts(pageable, testUser.getId());
+
+        // act
+        likeRepository.save(LikeEntity.create(testUser, testProduct));
+        productService.applyLikeCountDeltas(Map.of(testProduct.getId(), 1L));
+        PageResponse<ProductV1Dto.ProductInfo> after = productFacade.getProducts(pageable, testUser.getId());
+
+        // assert
+        verify(productService, times(2)).findAll(pageable);
+        assertThat(before.getContent()).extracting(ProductV1Dto.ProductInfo::id)
+                .containsExactly(otherProduct.getId(), testProduct.getId());
+        assertThat(after.getContent()).extracting(ProductV1Dto.ProductInfo::id)
+                .containsExactly(testProduct.getId(), otherProduct.getId());
+        assertThat(after.getContent().get(0).likesCount()).isEqualTo(1);
+    }
+
+    @DisplayName("상품의 좋아요 수가 바뀌면, 그 상품이 담긴 목록만 무효화되고 담기지 않은 목록은 그대로 남는다")
+    @Test
+    void getProducts_evictsOnlyListsContainingTheProduct() {
+        // arrange
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Other Brand"));
+        ProductEntity otherProduct = productRepository.save(ProductEntity.create("Other Product", 20000, 10, brand));
+        Pageable likesFirstPage = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "likeCount"));
+        Pageable latestPage = PageRequest.of(0, 10, Sort.by("id").descending());
+        PageResponse<ProductV1Dto.ProductInfo> before = productFacade.getProducts(likesFirstPage, testUser.getId());
+        productFacade.getProducts(latestPage, testUser.getId());
+
+        // act
+        productService.applyLikeCountDeltas(Map.of(testProduct.getId(), 1L));
+        productFacade.getProducts(likesFirstPage, testUser.getId());
+        PageResponse<ProductV1Dto.ProductInfo> latest = productFacade.getProducts(latestPage, testUser.getId());
+
+        // assert
+        assertThat(before.getContent()).extracting(ProductV1Dto.ProductInfo::id).containsExactly(otherProduct.getId());
+        verify(productService, times(1)).findAll(likesFirstPage);
+        verify(productService, times(2)).findAll(latestPage);
+        assertThat(latest.getContent()).filteredOn(product -> product.id().equals(testProduct.getId()))
+                .extracting(ProductV1Dto.ProductInfo::likesCount)
+                .containsExactly(1);
+    }
+
+    @DisplayName("상품이 생성되거나 삭제되면, 모든 목록 캐시가 무효화되어 바뀐 구성으로 조회된다")
+    @Test
+    void getProducts_evictsAllLists_whenProductIsCreatedOrDeleted() {
+        // arrange
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Other Brand"));
+        Pageable latestPage = PageRequest.of(0, 10, Sort.by("id").descending());
+        productFacade.getProducts(latestPage, testUser.getId());
+
+        // act
+        ProductEntity created = productService.save(ProductEntity.create("New Product", 20000, 10, brand));
+        PageResponse<ProductV1Dto.ProductInfo> afterCreate = productFacade.getProducts(latestPage, testUser.getId());
+        productService.delete(created.getId());
+        PageResponse<ProductV1Dto.ProductInfo> afterDelete = productFacade.getProducts(latestPage, testUser.getId());
+
+        // assert
+        assertThat(afterCreate.getContent()).extracting(ProductV1Dto.ProductInfo::id)
+                .containsExactly(created.getId(), testProduct.getId());
+        assertThat(afterDelete.getContent()).extracting(ProductV1Dto.ProductInfo::id)
+                .containsExactly(testProduct.getId());
+        verify(productService, times(3)).findAll(latestPage);
+    }
+
+    @DisplayName("목록의 ETag 가 클라이언트의 ETag 와 같아 본문을 만들지 않으면, 상품 정보를 읽지 않는다")
+    @Test
+    void getProductsWithETag_doesNotLoadProducts_untilBodyIsBuilt() {
+        // arrange
+        Pageable latestPage = PageRequest.of(0, 10, Sort.by("id").descending());
+        ETagged<PageResponse<ProductV1Dto.ProductInfo>> first = productFacade.getProductsWithETag(latestPage, testUser.getId());
+        Objects.requireNonNull(cacheManager.getCache("product")).clear();
+
+        // act
+        ETagged<PageResponse<ProductV1Dto.ProductInfo>> second = productFacade.getProductsWithETag(latestPage, testUser.getId());
+
+        // assert
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        verify(productService, never()).findViewsByIds(any());
+        second.body();
+        verify(productService, times(1)).findViewsByIds(any());
+    }
+
+    @DisplayName("캐시를 거치지 않고 상품이 바뀌어도, 목록의 ETag 가 달라지고 본문은 바뀐 값으로 조회된다")
+    @Test
+    void getProductsWithETag_reflectsChangeMissedByCache() {
+        // arrange
+        Pageable latestPage = PageRequest.of(0, 10, Sort.by("id").descending());
+        ETagged<PageResponse<ProductV1Dto.ProductInfo>> before = productFacade.getProductsWithETag(latestPage, testUser.getId());
+        before.body();
+        jdbcTemplate.update("UPDATE products SET stock = 3, version = version + 1 WHERE id = ?", testProduct.getId());
+
+        // act
+        ETagged<PageResponse<ProductV1Dto.ProductInfo>> after = productFacade.getProductsWithETag(latestPage, testUser.getId());
+
+        // assert
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.body().getContent()).extracting(ProductV1Dto.ProductInfo::stock).containsExactly(3);
+    }
 }
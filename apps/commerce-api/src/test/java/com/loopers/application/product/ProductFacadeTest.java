@@ -7,19 +7,25 @@ import com.loopers.domain.like.LikeEntity;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.interfaces.api.PageResponse;
 import com.loopers.interfaces.api.product.ProductV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +44,12 @@ public class ProductFacadeTest {
     private BrandRepository brandRepository;
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ProductService productService;
 
     private UserEntity user1;
     private UserEntity user2;
@@ -46,6 +58,8 @@ public class ProductFacadeTest {
 
     @BeforeEach
     void setUp() {
+        // 이전 테스트에서 남은 정렬 인덱스를 비운다.
+        productService.rebuildSortIndex();
         // 테스트 데이터 생성
         user1 = userRepository.save(UserEntity.create("user1", "user1@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
         user2 = userRepository.save(UserEntity.create("user2", "user2@test.com", UserGender.FEMALE, LocalDate.now().minusYears(30)));
@@ -58,6 +72,17 @@ public class ProductFacadeTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        Objects.requireNonNull(cacheManager.getCache("product")).clear();
+        Objects.requireNonNull(cacheManager.getCache("products")).clear();
+        redisCleanUp.flushAll();
+    }
+
+    /**
+     * 좋아요를 저장하고, 좋아요 이벤트가 반영된 것처럼 상품의 좋아요 수를 늘린다.
+     */
+    private void like(UserEntity user, ProductEntity product) {
+        likeRepository.save(LikeEntity.create(user, product));
+        productService.applyLikeCountDeltas(Map.of(product.getId(), 1L));
     }
 
     @DisplayName("상품 상세 조회 시")
@@ -68,9 +93,9 @@ public class ProductFacadeTest {
         @Test
         void returnsProductDetailsWithBrandNameLikesCount() {
             // arrange
-            likeRepository.save(LikeEntity.create(user1, product1));
-            likeRepository.save(LikeEntity.create(user2, product1));
-            likeRepository.save(LikeEntity.create(user2, product2));
+            like(user1, product1);
+            like(user2, product1);
+            like(user2, product2);
 
             ProductV1Dto.ProductInfo result = productFacade.getProduct(product1.getId(), user1.getId());
 
@@ -86,9 +111,9 @@ public class ProductFacadeTest {
         @Test
         void returnsIsLikedFalseWhenUserHasNotLiked() {
             // arrange
-            likeRepository.save(LikeEntity.create(user1, product1));
-            likeRepository.save(LikeEntity.create(user2, product1));
-            likeRepository.save(LikeEntity.create(user2, product2));
+            like(user1, product1);
+            like(user2, product1);
+            like(user2, product2);
 
             // act
             ProductV1Dto.ProductInfo result = productFacade.getProduct(product2.getId(), user1.getId());
@@ -108,9 +133,9 @@ public class ProductFacadeTest {
         @Test
         void returnsProductListWithLikesCountAndIsLiked() {
             // arrange
-            likeRepository.save(LikeEntity.create(user1, product1));
-            likeRepository.save(LikeEntity.create(user2, product1));
-            likeRepository.save(LikeEntity.create(user2, product2));
+            like(user1, product1);
+            like(user2, product1);
+            like(user2, product2);
             Pageable pageable = PageRequest.of(0, 10);
 
             // act
@@ -133,5 +158,23 @@ public class ProductFacadeTest {
             assertThat(resultForProduct2.likesCount()).isEqualTo(1);
             assertThat(resultForProduct2.isLiked()).isFalse();
         }
+
+        @DisplayName("좋아요 순 정렬 시, 저장된 좋아요 수 변경이 정렬 인덱스에 반영된 순서로 반환한다")
+        @Test
+        void returnsProductsOrderedByLikeCountFromSortIndex() {
+            // arrange
+            product2.increaseLikeCount();
+            productRepository.save(product2);
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount"));
+
+            // act
+            PageResponse<ProductV1Dto.ProductInfo> results = productFacade.getProducts(pageable, user1.getId());
+
+            // assert
+            assertThat(results.getTotalElements()).isEqualTo(2);
+            assertThat(results.getContent())
+                    .extracting(ProductV1Dto.ProductInfo::id)
+                    .containsExactly(product2.getId(), product1.getId());
+        }
     }
 }
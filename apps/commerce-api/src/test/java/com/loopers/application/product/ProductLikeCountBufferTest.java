@@ -0,0 +1,140 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+public class ProductLikeCountBufferTest {
+
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+    @Autowired
+    private ProductRepository productRepository;
+    @MockitoSpyBean
+    private ProductService productService;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductEntity product;
+    private ProductEntity otherProduct;
+
+    @BeforeEach
+    void setUp() {
+        BrandEntity brand = brandRepository.save(BrandEntity.create("Test Brand"));
+        product = productRepository.save(ProductEntity.create("Test Product", 10000, 10, brand));
+        otherProduct = productRepository.save(ProductEntity.create("Other Product", 20000, 10, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("같은 상품의 좋아요와 취소는 상쇄되고, 남은 변화량만 상품별로 반영된다")
+    @Test
+    void appliesNetDeltaPerProduct() {
+        // arrange
+        productLikeCountBuffer.add(product.getId(), 1);
+        productLikeCountBuffer.add(product.getId(), 1);
+        productLikeCountBuffer.add(product.getId(), -1);
+        productLikeCountBuffer.add(otherProduct.getId(), 1);
+
+        // act
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(likeCountOf(product)).isEqualTo(1),
+                () -> assertThat(likeCountOf(otherProduct)).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("취소가 더 많이 모여도 좋아요 수는 0 아래로 내려가지 않는다")
+    @Test
+    void doesNotGoBelowZero() {
+        // arrange
+        productLikeCountBuffer.add(product.getId(), -3);
+
+        // act
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertThat(likeCountOf(product)).isZero();
+    }
+
+    @DisplayName("동시에 들어온 좋아요도 반영 도중 잃어버리지 않는다")
+    @Test
+    void keepsAllDeltas_whenAddedConcurrently() throws InterruptedException {
+        // arrange
+        int threadCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    productLikeCountBuffer.add(product.getId(), 1);
+                    productLikeCountBuffer.flush();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertThat(likeCountOf(product)).isEqualTo(threadCount);
+    }
+
+    @DisplayName("반영이 커밋 실패로 끝나도, 꺼낸 변화량을 되돌려 다음 주기에 반영한다")
+    @Test
+    void restoresDeltas_whenFlushFails() {
+        // arrange
+        productLikeCountBuffer.add(product.getId(), 1);
+        productLikeCountBuffer.add(otherProduct.getId(), 2);
+        doThrow(new TransactionSystemException("커밋하지 못했습니다"))
+                .doCallRealMethod()
+                .when(productService).applyLikeCountDeltas(anyMap());
+
+        // act
+        productLikeCountBuffer.flush();
+        productLikeCountBuffer.flush();
+
+        // assert
+        assertAll(
+                () -> assertThat(likeCountOf(product)).isEqualTo(1),
+                () -> assertThat(likeCountOf(otherProduct)).isEqualTo(2)
+        );
+    }
+
+    private long likeCountOf(ProductEntity target) {
+        return productRepository.findById(target.getId()).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,131 @@
+package com.loopers.application.product;
+
+import com.loopers.application.order.OrderItemInfo;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockReconciliationCheckpoint;
+import com.loopers.domain.product.StockReservation;
+import com.loopers.domain.user.UserEntity;
+import com.loopers.domain.user.UserGender;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+public class StockReconcilerTest {
+
+    @Autowired
+    private StockReconciler stockReconciler;
+    @Autowired
+    private StockReservation stockReservation;
+    @Autowired
+    private StockReconciliationCheckpoint checkpoint;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private ProductEntity drifted;
+    private ProductEntity reserved;
+    private ProductEntity notLoaded;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = userRepository.save(UserEntity.create("user1", "user1@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
+        BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+        drifted = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+        reserved = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+        notLoaded = productRepository.save(ProductEntity.create("모자", 30000, 10, brand));
+
+        // 아직 재고를 차감하지 않은 주문
+        OrderEntity order = OrderEntity.create(user);
+        order.addOrderItem(new OrderItemInfo(reserved.getId(), reserved.getName(), reserved.getPrice(), 3));
+        orderRepository.save(order);
+
+        // 예약 해제가 유실된 상품과, 예약이 정상 반영된 상품
+        stockReservation.load(Map.of(drifted.getId(), 6L, reserved.getId(), 7L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("적재된 상품 중 DB 기준 예약 가능 재고와 어긋난 상품만 바로잡는다")
+    @Test
+    void correctsDriftedReservableStocks() {
+        // act
+        StockReconciler.ReconciliationResult result = stockReconciler.reconcile();
+
+        // assert
+        Map<Long, Long> available = stockReservation.findAvailable(List.of(drifted.getId(), reserved.getId(), notLoaded.getId()));
+        assertAll(
+                () -> assertThat(result.corrected()).isEqualTo(1),
+                () -> assertThat(result.completed()).isTrue(),
+                () -> assertThat(available).containsEntry(drifted.getId(), 10L),
+                () -> assertThat(available).containsEntry(reserved.getId(), 7L),
+                () -> assertThat(available).doesNotContainKey(notLoaded.getId()),
+                () -> assertThat(checkpoint.lastProductId()).isZero()
+        );
+    }
+
+    @DisplayName("저장된 위치가 있으면 그 다음 상품부터 이어서 처리한다")
+    @Test
+    void resumesFromCheckpoint() {
+        // arrange
+        checkpoint.save(drifted.getId());
+
+        // act
+        StockReconciler.ReconciliationResult result = stockReconciler.reconcile();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.corrected()).isZero(),
+                () -> assertThat(stockReservation.findAvailable(List.of(drifted.getId()))).containsEntry(drifted.getId(), 6L)
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 실행 중이면 아무것도 바꾸지 않는다")
+    @Test
+    void skips_whenAnotherInstanceIsRunning() {
+        // arrange
+        checkpoint.tryLock(Duration.ofMinutes(1));
+
+        // act
+        StockReconciler.ReconciliationResult result = stockReconciler.reconcile();
+
+        // assert
+        assertAll(
+                () -> assertThat(result.corrected()).isZero(),
+                () -> assertThat(result.completed()).isFalse(),
+                () -> assertThat(stockReservation.findAvailable(List.of(drifted.getId()))).containsEntry(drifted.getId(), 6L)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.application.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class BatchJobRunnerTest {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final BatchJobRunner batchJobRunner = new BatchJobRunner();
+
+    @AfterEach
+    void tearDown() {
+        batchJobRunner.shutdown();
+    }
+
+    @DisplayName("작업은 호출한 스레드가 아닌 배치 스레드에서 실행되고, 호출한 스레드는 기다리지 않는다")
+    @Test
+    void runsJobOnBatchThread() throws InterruptedException {
+        // arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // act
+        boolean submitted = batchJobRunner.submit(JOB_NAME, () -> {
+            threadName.set(Thread.currentThread().getName());
+            awaitQuietly(release);
+            finished.countDown();
+        });
+        boolean runningWhileBlocked = batchJobRunner.isRunning(JOB_NAME);
+        release.countDown();
+
+        // assert
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertAll(
+                () -> assertThat(submitted).isTrue(),
+                () -> assertThat(runningWhileBlocked).isTrue(),
+                () -> assertThat(threadName.get()).startsWith("batch-job-")
+        );
+    }
+
+    @DisplayName("같은 이름의 작업이 실행 중이면 새 작업은 건너뛴다")
+    @Test
+    void skipsJob_whenSameJobIsRunning() {
+        // arrange
+        CountDownLatch release = new CountDownLatch(1);
+        batchJobRunner.submit(JOB_NAME, () -> awaitQuietly(release));
+
+        // act
+        boolean submitted = batchJobRunner.submit(JOB_NAME, () -> {
+        });
+        release.countDown();
+
+        // assert
+        assertThat(submitted).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
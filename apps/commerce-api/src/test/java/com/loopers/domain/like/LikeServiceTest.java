@@ -7,6 +7,7 @@ import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.infrastructure.like.FakeLikeRepository;
+import com.loopers.infrastructure.like.FakeLikedProductStore;
 import com.loopers.infrastructure.product.FakeProductRepository;
 import com.loopers.infrastructure.user.FakeUserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,8 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,22 +36,26 @@ public class LikeServiceTest {
      * 좋아요 서비스 테스트
      * - [o] 좋아요 등록 시 멱등적으로 동작한다.
      * - [o] 좋아요 취소 시 멱등적으로 동작한다.
+     * - [o] 좋아요 목록이 없으면 DB 에서 채운 뒤 조회한다.
+     * - [o] 좋아요한 상품을 최근 순으로 커서를 이어가며 조회한다.
      */
 
     private LikeService likeService;
     private LikeRepository likeRepository;
     private UserRepository userRepository;
     private ProductRepository productRepository;
+    private LikedProductStore likedProductStore;
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
-        this.likeRepository = new FakeLikeRepository();
         this.userRepository = new FakeUserRepository();
         this.productRepository = new FakeProductRepository();
-        this.likeService = new LikeService(likeRepository, userRepository, productRepository, eventPublisher);
+        this.likeRepository = new FakeLikeRepository(userRepository, productRepository);
+        this.likedProductStore = new FakeLikedProductStore();
+        this.likeService = new LikeService(likeRepository, likedProductStore, eventPublisher);
     }
 
     @DisplayName("좋아요를 ")
@@ -109,8 +116,8 @@ public class LikeServiceTest {
             long userId = user.getId();
             long productId = product.getId();
 
-            LikeEntity like = likeService.addLike(userId, productId);
-            assertThat(like).isNotNull();
+            likeService.addLike(userId, productId);
+            LikeEntity like = likeRepository.findByUserIdAndProductId(userId, productId).orElseThrow();
             likeService.removeLike(userId, productId);
             LikeEntity removedLike = likeRepository.findById(like.getId()).get();
             assertThat(removedLike).isNotNull();
@@ -168,10 +175,178 @@ public class LikeServiceTest {
             likeRepository.save(LikeEntity.create(user, product));
 
             // act
-            likeService.addLike(user.getId(), product.getId());
+            boolean changed = likeService.addLike(user.getId(), product.getId());
 
             // assert
+            assertThat(changed).isFalse();
             verifyNoInteractions(eventPublisher);
         }
+
+        @DisplayName("취소한 좋아요를 다시 누르면 같은 행을 복원하고 이벤트를 발행한다")
+        @Test
+        void restoresLikeAndPublishesEvent_whenLikeWasRemoved() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            ProductEntity product = productRepository.save(ProductEntity.create(
+                    "신발",
+                    10000,
+                    10,
+                    BrandEntity.create("나이키")
+            ));
+            LikeEntity like = likeRepository.save(LikeEntity.create(user, product));
+            like.delete();
+
+            // act
+            boolean changed = likeService.addLike(user.getId(), product.getId());
+
+            // assert
+            assertThat(changed).isTrue();
+            assertThat(likeRepository.count()).isEqualTo(1);
+            assertThat(like.isDeleted()).isFalse();
+            verify(eventPublisher).publishEvent(new LikeChangedEvent(product.getId(), user.getId(), true));
+        }
+
+        @DisplayName("누른 적 없는 좋아요를 취소하면 이벤트를 발행하지 않는다")
+        @Test
+        void doesNotPublishEvent_whenRemovingAbsentLike() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            ProductEntity product = productRepository.save(ProductEntity.create(
+                    "신발",
+                    10000,
+                    10,
+                    BrandEntity.create("나이키")
+            ));
+
+            // act
+            boolean changed = likeService.removeLike(user.getId(), product.getId());
+
+            // assert
+            assertThat(changed).isFalse();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @DisplayName("좋아요 여부를 조회할 때")
+    @Nested
+    class FindLiked {
+
+        @DisplayName("사용자의 좋아요 목록이 없으면, DB 에서 채운 뒤 조회한다")
+        @Test
+        void loadsLikedProductIdsFromDatabase_whenStoreIsEmpty() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            BrandEntity brand = BrandEntity.create("나이키");
+            ProductEntity liked = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+            ProductEntity notLiked = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+            likeRepository.save(LikeEntity.create(user, liked));
+
+            // act
+            Set<Long> result = likeService.findLikedProductIds(user.getId(), List.of(liked.getId(), notLiked.getId()));
+
+            // assert
+            assertThat(result).containsExactly(liked.getId());
+            assertThat(likedProductStore.findLiked(user.getId(), List.of(liked.getId()))).contains(Set.of(liked.getId()));
+        }
+
+        @DisplayName("사용자의 좋아요 목록이 있으면, DB 를 조회하지 않고 목록으로 판단한다")
+        @Test
+        void usesStore_whenLikedProductIdsAreLoaded() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            ProductEntity product = productRepository.save(ProductEntity.create("신발", 10000, 10, BrandEntity.create("나이키")));
+            likedProductStore.load(user.getId(), List.of(product.getId()));
+
+            // act
+            boolean isLiked = likeService.isLiked(user.getId(), product.getId());
+
+            // assert
+            assertThat(isLiked).isTrue();
+            assertThat(likeRepository.count()).isZero();
+        }
+    }
+
+    @DisplayName("좋아요한 상품 목록을 조회할 때")
+    @Nested
+    class FindLikedProducts {
+
+        @DisplayName("최근에 좋아요한 순으로 조회하고, 다음 커서로 취소하지 않은 나머지를 이어서 조회한다")
+        @Test
+        void returnsLikedProductsInRecentOrder_andContinuesWithCursor() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            BrandEntity brand = BrandEntity.create("나이키");
+            ProductEntity first = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+            ProductEntity second = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+            ProductEntity third = productRepository.save(ProductEntity.create("모자", 30000, 10, brand));
+            ProductEntity removed = productRepository.save(ProductEntity.create("양말", 5000, 10, brand));
+            likeRepository.save(LikeEntity.create(user, first));
+            likeRepository.save(LikeEntity.create(user, removed)).delete();
+            likeRepository.save(LikeEntity.create(user, second));
+            likeRepository.save(LikeEntity.create(user, third));
+
+            // act
+            LikedProductSlice firstPage = likeService.findLikedProducts(user.getId(), null, 2);
+            LikedProductSlice secondPage = likeService.findLikedProducts(user.getId(), firstPage.nextCursor(), 2);
+
+            // assert
+            assertThat(firstPage.productIds()).containsExactly(third.getId(), second.getId());
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(secondPage.productIds()).containsExactly(first.getId());
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @DisplayName("취소했다가 다시 좋아요한 상품은, 다시 누른 시각 기준으로 가장 먼저 조회된다")
+        @Test
+        void returnsRestoredLikeFirst() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create(
+                    "user",
+                    "test@test.com",
+                    UserGender.MALE,
+                    LocalDate.of(2000, 1, 1)
+            ));
+            BrandEntity brand = BrandEntity.create("나이키");
+            ProductEntity first = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+            ProductEntity second = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+            likeRepository.save(LikeEntity.create(user, first));
+            likeRepository.save(LikeEntity.create(user, second));
+            likeRepository.softDeleteLike(user.getId(), first.getId());
+            likeRepository.upsertLike(user.getId(), first.getId());
+
+            // act
+            LikedProductSlice firstPage = likeService.findLikedProducts(user.getId(), null, 1);
+            LikedProductSlice secondPage = likeService.findLikedProducts(user.getId(), firstPage.nextCursor(), 1);
+
+            // assert
+            assertThat(firstPage.productIds()).containsExactly(first.getId());
+            assertThat(secondPage.productIds()).containsExactly(second.getId());
+            assertThat(secondPage.nextCursor()).isNull();
+        }
     }
 }
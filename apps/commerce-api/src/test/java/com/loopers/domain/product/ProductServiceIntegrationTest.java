@@ -0,0 +1,110 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.order.OrderItemInfo;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.user.UserEntity;
+import com.loopers.domain.user.UserGender;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class ProductServiceIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private UserEntity user;
+    private ProductEntity shoes;
+    private ProductEntity bag;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserEntity.create("user1", "user1@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
+        BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+        shoes = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+        bag = productRepository.save(ProductEntity.create("가방", 20000, 1, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("주문의 재고를 차감할 때, ")
+    @Nested
+    class DecreaseStocks {
+
+        @DisplayName("한 상품이라도 재고가 부족하면, 예외가 발생하고 모든 상품의 재고와 주문의 차감 여부가 그대로 남는다")
+        @Test
+        void rollsBackEveryStock_whenAnyStockIsInsufficient() {
+            // arrange
+            OrderEntity order = OrderEntity.create(user);
+            order.addOrderItem(new OrderItemInfo(shoes.getId(), shoes.getName(), shoes.getPrice(), 3));
+            order.addOrderItem(new OrderItemInfo(bag.getId(), bag.getName(), bag.getPrice(), 2));
+            Long orderId = orderRepository.save(order).getId();
+            List<ProductCommand.StockDecrease> commands = List.of(
+                    new ProductCommand.StockDecrease(shoes.getId(), 3),
+                    new ProductCommand.StockDecrease(bag.getId(), 2)
+            );
+
+            // act
+            assertThrows(IllegalArgumentException.class, () -> productService.decreaseStocks(orderId, commands));
+
+            // assert
+            ProductEntity shoesAfter = productRepository.findById(shoes.getId()).orElseThrow();
+            ProductEntity bagAfter = productRepository.findById(bag.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(shoesAfter.getStock()).isEqualTo(10),
+                    () -> assertThat(shoesAfter.getVersion()).isEqualTo(shoes.getVersion()),
+                    () -> assertThat(bagAfter.getStock()).isEqualTo(1),
+                    () -> assertThat(orderRepository.findById(orderId).orElseThrow().isStockDeducted()).isFalse()
+            );
+        }
+    }
+
+    @DisplayName("정렬 키를 청크로 조회할 때, ")
+    @Nested
+    class FindSortKeysAfter {
+
+        @DisplayName("삭제된 상품은 제외하고 id 오름차순으로 반환한다")
+        @Test
+        void excludesDeletedProducts() {
+            // arrange
+            shoes.delete();
+            productRepository.save(shoes);
+
+            // act
+            List<ProductSortKey> sortKeys = productService.findSortKeysAfter(0L, 10);
+
+            // assert
+            assertThat(sortKeys).extracting(ProductSortKey::id).containsExactly(bag.getId());
+        }
+    }
+}
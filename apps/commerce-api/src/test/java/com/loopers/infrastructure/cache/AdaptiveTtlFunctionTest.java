@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveTtlFunctionTest {
+
+    private static final CacheProperties.TtlSpec SPEC =
+            new CacheProperties.TtlSpec(Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(30));
+
+    private final CacheAccessStats accessStats = new CacheAccessStats();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveTtlFunction ttlFunction = new AdaptiveTtlFunction("product", SPEC, accessStats, meterRegistry);
+
+    @DisplayName("조회가 적고 변경이 없는 키는 기본 TTL 을 사용한다")
+    @Test
+    void usesBaseTtl_whenKeyIsRarelyRead() {
+        // arrange
+        accessStats.recordRead("product", "product:1");
+
+        // act
+        Duration ttl = ttlFunction.getTimeToLive("product:1", null);
+
+        // assert
+        assertThat(ttl).isEqualTo(SPEC.base());
+    }
+
+    @DisplayName("자주 조회되고 변경이 없는 키는 기본 TTL 보다 길게, 최대 TTL 이하로 둔다")
+    @Test
+    void extendsTtl_whenKeyIsReadOften() {
+        // arrange
+        for (int i = 0; i < 1000; i++) {
+            accessStats.recordRead("product", "product:1");
+        }
+
+        // act
+        Duration ttl = ttlFunction.getTimeToLive("product:1", null);
+
+        // assert
+        assertThat(ttl).isGreaterThan(SPEC.base()).isLessThanOrEqualTo(SPEC.max());
+    }
+
+    @DisplayName("자주 변경되는 키는 최소 TTL 까지 줄인다")
+    @Test
+    void shortensTtl_whenKeyChangesOften() {
+        // arrange
+        for (int i = 0; i < 100; i++) {
+            accessStats.recordRead("product", "product:1");
+            accessStats.recordWrite("product", "product:1");
+        }
+
+        // act
+        Duration ttl = ttlFunction.getTimeToLive("product:1", null);
+
+        // assert
+        assertThat(ttl).isEqualTo(SPEC.min());
+    }
+
+    @DisplayName("선택한 TTL 은 cache.ttl.chosen 분포로 기록된다")
+    @Test
+    void recordsChosenTtl() {
+        // act
+        ttlFunction.getTimeToLive("product:1", null);
+
+        // assert
+        assertThat(meterRegistry.get("cache.ttl.chosen").tag("cache", "product").summary().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductCatalogInfo;
+import com.loopers.interfaces.api.PageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactCacheValueSerializerTest {
+
+    private final CompactCacheValueSerializer serializer = new CompactCacheValueSerializer(512);
+
+    @DisplayName("임계값보다 작은 값은 압축하지 않고 직렬화하며, 원래 값으로 역직렬화된다")
+    @Test
+    void roundTripsSmallValueWithoutCompression() {
+        // arrange
+        ProductCatalogInfo product = productOf(1L);
+
+        // act
+        byte[] bytes = serializer.serialize(product);
+        Object result = serializer.deserialize(bytes);
+
+        // assert
+        assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.FORMAT_VERSION);
+        assertThat(bytes[1]).isZero();
+        assertThat(result).isEqualTo(product);
+    }
+
+    @DisplayName("임계값 이상인 페이지는 LZ4 로 압축되며, 원래 값으로 역직렬화된다")
+    @Test
+    void roundTripsLargePageWithCompression() {
+        // arrange
+        List<ProductCatalogInfo> products = LongStream.rangeClosed(1, 20).mapToObj(this::productOf).toList();
+        PageResponse<ProductCatalogInfo> page = PageResponse.from(new PageImpl<>(products, PageRequest.of(0, 20), 100));
+
+        // act
+        byte[] bytes = serializer.serialize(page);
+        Object result = serializer.deserialize(bytes);
+
+        // assert
+        assertThat(bytes[1]).isEqualTo((byte) 0x01);
+        assertThat(result).isEqualTo(page);
+    }
+
+    @DisplayName("알 수 없는 버전으로 저장된 값은 캐시 미스(null)로 처리한다")
+    @Test
+    void returnsNull_whenFormatVersionIsUnknown() {
+        // arrange
+        byte[] bytes = serializer.serialize(productOf(1L));
+        bytes[0] = (byte) (CompactCacheValueSerializer.FORMAT_VERSION + 1);
+
+        // act
+        Object result = serializer.deserialize(bytes);
+
+        // assert
+        assertThat(result).isNull();
+    }
+
+    private ProductCatalogInfo productOf(long id) {
+        return new ProductCatalogInfo(id, "상품-" + id, BigDecimal.valueOf(10000 + id), 10, "브랜드", id * 3, 0L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EarlyRefresherTest {
+
+    private static final CacheProperties.LoadingSpec LOADING_SPEC = new CacheProperties.LoadingSpec(
+            Duration.ofSeconds(3), Duration.ofSeconds(1), Duration.ofMillis(50), 1.0, Duration.ofMillis(100)
+    );
+    private static final CacheProperties.LocalCacheSpec LOCAL_SPEC = new CacheProperties.LocalCacheSpec(100, Duration.ofSeconds(5));
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final EarlyRefresher refresher = new EarlyRefresher(LOADING_SPEC, LOCAL_SPEC, submitted::add);
+
+    @DisplayName("L2 의 남은 TTL 이 L1 TTL 보다 짧으면, 조기 갱신한다")
+    @Test
+    void refreshes_whenRemainingTtlIsWithinLocalTtl() {
+        // act
+        boolean refresh = refresher.shouldRefresh("key", Duration.ofSeconds(4));
+
+        // assert
+        assertThat(refresh).isTrue();
+    }
+
+    @DisplayName("남은 TTL 이 원본 조회 시간보다 충분히 길면, 조기 갱신하지 않는다")
+    @Test
+    void doesNotRefresh_whenRemainingTtlIsLong() {
+        // act
+        boolean refresh = refresher.shouldRefresh("key", Duration.ofHours(1));
+
+        // assert
+        assertThat(refresh).isFalse();
+    }
+
+    @DisplayName("같은 키를 갱신하는 동안에는, 다시 제출해도 한 번만 실행하고 검토 대상에서도 빠진다")
+    @Test
+    void runsOnce_whileSameKeyIsRefreshing() {
+        // arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // act
+        refresher.submit("key", runs::incrementAndGet);
+        refresher.submit("key", runs::incrementAndGet);
+        boolean mayRefreshWhileRunning = refresher.mayRefresh("key");
+        submitted.forEach(Runnable::run);
+
+        // assert
+        assertThat(submitted).hasSize(1);
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(mayRefreshWhileRunning).isFalse();
+        assertThat(refresher.mayRefresh("key")).isTrue();
+    }
+
+    @DisplayName("실행기가 작업을 거절하면, 다음 기회에 다시 갱신할 수 있다")
+    @Test
+    void allowsRetry_whenExecutorRejects() {
+        // arrange
+        EarlyRefresher rejecting = new EarlyRefresher(LOADING_SPEC, LOCAL_SPEC, task -> {
+            throw new RejectedExecutionException();
+        });
+
+        // act
+        rejecting.submit("key", () -> {
+        });
+
+        // assert
+        assertThat(rejecting.mayRefresh("key")).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.config.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotKeyDetectorTest {
+
+    private static final CacheProperties.HotKeySpec SPEC =
+            new CacheProperties.HotKeySpec(Duration.ofSeconds(10), 2, 5, Duration.ofSeconds(5), 1024, 4);
+
+    private final MutableClock clock = new MutableClock();
+    private final HotKeyDetector detector = new HotKeyDetector(SPEC, clock);
+
+    @DisplayName("윈도우가 끝나면 최소 조회 수를 넘긴 키 중 조회가 많은 상위 K 개를 인기 키로 고른다")
+    @Test
+    void selectsTopKeys_whenWindowEnds() {
+        // arrange
+        record("product:1", 30);
+        record("product:2", 20);
+        record("product:3", 10);
+        record("product:4", 3);
+
+        // act
+        clock.advance(SPEC.window());
+
+        // assert
+        assertThat(detector.hotKeys())
+                .extracting(HotKeyDetector.HotKey::key)
+                .containsExactly("product:1", "product:2");
+        assertThat(detector.isHot("product:1")).isTrue();
+        assertThat(detector.isHot("product:3")).isFalse();
+    }
+
+    @DisplayName("윈도우가 끝나기 전에는 이전 윈도우의 인기 키를 유지한다")
+    @Test
+    void keepsPreviousHotKeys_untilWindowEnds() {
+        // arrange
+        record("product:1", 30);
+        clock.advance(SPEC.window());
+
+        // act
+        record("product:2", 30);
+
+        // assert
+        assertThat(detector.isHot("product:1")).isTrue();
+        assertThat(detector.isHot("product:2")).isFalse();
+    }
+
+    private void record(Object key, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(key);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
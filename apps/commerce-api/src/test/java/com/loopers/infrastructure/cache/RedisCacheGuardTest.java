@@ -0,0 +1,106 @@
+package com.loopers.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RedisCacheGuardTest {
+
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.of(RedisCacheGuard.CIRCUIT_BREAKER_NAME, CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .permittedNumberOfCallsInHalfOpenState(1)
+            .recordExceptions(RedisConnectionFailureException.class)
+            .build());
+    private final Bulkhead bulkhead = Bulkhead.of(RedisCacheGuard.BULKHEAD_NAME, BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final RedisCacheGuard guard = new RedisCacheGuard(circuitBreaker, bulkhead);
+
+    @DisplayName("Redis 호출이 실패하면 대체 값을 반환하고, 실패가 쌓여 서킷이 열리면 Redis 를 호출하지 않는다")
+    @Test
+    void skipsRedis_whenCircuitIsOpen() {
+        // arrange
+        AtomicInteger redisCalls = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < 4; i++) {
+            String result = guard.execute(() -> {
+                redisCalls.incrementAndGet();
+                throw new RedisConnectionFailureException("connection refused");
+            }, () -> "fallback");
+            assertThat(result).isEqualTo("fallback");
+        }
+        boolean applied = guard.run(redisCalls::incrementAndGet);
+
+        // assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(guard.isAvailable()).isFalse();
+        assertThat(applied).isFalse();
+        assertThat(redisCalls.get()).isEqualTo(4);
+    }
+
+    @DisplayName("반열림 상태에서 호출이 성공해 서킷이 닫히면 회복 작업을 실행한다")
+    @Test
+    void runsRecoveryListeners_whenCircuitCloses() {
+        // arrange
+        AtomicInteger recoveries = new AtomicInteger();
+        guard.onRecovery(recoveries::incrementAndGet);
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        // act
+        boolean applied = guard.run(() -> {
+        });
+
+        // assert
+        assertThat(applied).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(recoveries.get()).isEqualTo(1);
+    }
+
+    @DisplayName("Redis 없이 원본을 조회하는 요청이 동시 실행 한도를 넘으면 거절한다")
+    @Test
+    void rejectsFallbackLoad_whenConcurrencyLimitIsExceeded() throws Exception {
+        // arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> guard.loadWithoutCache(() -> {
+            loading.countDown();
+            release.await();
+            return "loaded";
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+
+        try {
+            // act & assert
+            assertThatThrownBy(() -> guard.loadWithoutCache(() -> "loaded"))
+                    .isInstanceOf(BulkheadFullException.class);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(guard.loadWithoutCache(() -> "loaded")).isEqualTo("loaded");
+    }
+}
@@ -0,0 +1,311 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductIdList;
+import com.loopers.application.product.ProductIdListReader;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@SpringBootTest
+public class TwoTierCacheTest {
+
+    private static final String KEY = "test:key";
+    private static final List<String> TAGS = List.of("sort:test");
+    private static final String OTHER_KEY = "test:other-key";
+    private static final ProductIdList VALUE = new ProductIdList(List.of(1L, 2L), 2, null);
+    private static final ProductIdList STALE_VALUE = new ProductIdList(List.of(3L), 1, null);
+
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, Object> redisTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = (TwoTierCache) Objects.requireNonNull(cacheManager.getCache(ProductIdListReader.CACHE_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.clear();
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("로더와 함께 조회할 때, ")
+    @Nested
+    class GetWithLoader {
+
+        @DisplayName("L1 에 값이 있으면, L2 와 원본을 조회하지 않고 L1 의 값을 반환한다")
+        @Test
+        void returnsLocalValue_whenLocalHit() {
+            // arrange
+            cache.getRedisCache().put(KEY, STALE_VALUE);
+            cache.getLocalCache().put(KEY, VALUE);
+
+            // act
+            ProductIdList value = cache.get(KEY, () -> fail("원본을 조회하면 안 됩니다."));
+
+            // assert
+            assertThat(value).isEqualTo(VALUE);
+        }
+
+        @DisplayName("L1 에 없고 L2 에 있으면, 원본을 조회하지 않고 L2 의 값을 L1 에 채운다")
+        @Test
+        void fillsLocalFromRedis_whenOnlyRedisHit() {
+            // arrange
+            cache.getRedisCache().put(KEY, VALUE);
+
+            // act
+            ProductIdList value = cache.get(KEY, () -> fail("원본을 조회하면 안 됩니다."));
+
+            // assert
+            assertThat(value).isEqualTo(VALUE);
+            assertThat(cache.getLocalCache().get(KEY).get()).isEqualTo(VALUE);
+        }
+
+        @DisplayName("두 계층에 모두 없으면, 원본을 조회해 두 계층에 저장한다")
+        @Test
+        void loadsAndStoresInBothTiers_whenMissed() {
+            // act
+            ProductIdList value = cache.get(KEY, () -> VALUE);
+
+            // assert
+            assertThat(value).isEqualTo(VALUE);
+            assertThat(cache.getRedisCache().get(KEY).get()).isEqualTo(VALUE);
+            assertThat(cache.getLocalCache().get(KEY).get()).isEqualTo(VALUE);
+        }
+
+        @DisplayName("같은 키를 동시에 조회하면, 원본은 한 번만 조회하고 모두 같은 값을 받는다")
+        @Test
+        void loadsOnce_whenSameKeyIsRequestedConcurrently() throws Exception {
+            // arrange
+            int threadCount = 10;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch startLatch = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            List<Future<ProductIdList>> futures = new ArrayList<>();
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return cache.get(KEY, () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(200);
+                        return VALUE;
+                    });
+                }));
+            }
+            startLatch.countDown();
+            List<ProductIdList> values = new ArrayList<>();
+            for (Future<ProductIdList> future : futures) {
+                values.add(future.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // assert
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(values).containsOnly(VALUE);
+        }
+
+        @DisplayName("적재 중인 키를 무효화하면, 적재를 기다리지 않고 바로 끝나며 적재된 값은 L1 에 남지 않는다")
+        @Test
+        void evictsWithoutWaitingForLoad_andDropsLoadedValueFromLocal() throws Exception {
+            // arrange
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<ProductIdList> load = executor.submit(() -> cache.get(KEY, () -> {
+                loading.countDown();
+                release.await();
+                return STALE_VALUE;
+            }));
+            loading.await();
+
+            // act
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> cache.evict(KEY));
+            release.countDown();
+            ProductIdList loaded = load.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // assert
+            assertThat(loaded).isEqualTo(STALE_VALUE);
+            assertThat(cache.getLocalCache().get(KEY)).isNull();
+        }
+    }
+
+    @DisplayName("무효화 메시지를 받을 때, ")
+    @Nested
+    class Invalidation {
+
+        @DisplayName("다른 노드가 발행한 메시지면, 해당 키를 L1 에서 지운다")
+        @Test
+        void evictsLocal_whenMessageComesFromOtherNode() throws Exception {
+            // arrange
+            cache.getLocalCache().put(KEY, VALUE);
+
+            // act
+            publishFromOtherNode(KEY);
+
+            // assert
+            waitUntil(() -> cache.getLocalCache().get(KEY) == null);
+        }
+
+        @DisplayName("다른 노드가 캐시 전체를 비우면, L1 을 모두 비운다")
+        @Test
+        void clearsLocal_whenOtherNodeClears() throws Exception {
+            // arrange
+            cache.getLocalCache().put(KEY, VALUE);
+            cache.getLocalCache().put(OTHER_KEY, VALUE);
+
+            // act
+            redisTemplate.convertAndSend(CacheInvalidationPublisher.CHANNEL,
+                    objectMapper.writeValueAsString(CacheInvalidationMessage.clear("other-node", cache.getName())));
+
+            // assert
+            waitUntil(() -> cache.getLocalCache().get(KEY) == null && cache.getLocalCache().get(OTHER_KEY) == null);
+        }
+
+        @DisplayName("이 노드가 발행한 메시지면, 방금 쓴 L1 값을 지우지 않는다")
+        @Test
+        void ignoresOwnMessage() throws Exception {
+            // arrange
+            cache.getLocalCache().put(OTHER_KEY, VALUE);
+
+            // act
+            cache.put(KEY, VALUE);
+            // 같은 채널의 메시지는 발행 순서대로 전달되므로, 뒤에 보낸 메시지가 반영되면 앞선 메시지도 처리된 것이다.
+            publishFromOtherNode(OTHER_KEY);
+            waitUntil(() -> cache.getLocalCache().get(OTHER_KEY) == null);
+
+            // assert
+            assertThat(cache.getLocalCache().get(KEY).get()).isEqualTo(VALUE);
+        }
+
+        private void publishFromOtherNode(String key) throws Exception {
+            redisTemplate.convertAndSend(CacheInvalidationPublisher.CHANNEL,
+                    objectMapper.writeValueAsString(CacheInvalidationMessage.evict("other-node", cache.getName(), key)));
+        }
+    }
+
+    @DisplayName("태그를 달아 적재할 때, ")
+    @Nested
+    class GetTagged {
+
+        @DisplayName("적재한 값은 두 계층에 저장되고, 태그로 무효화하면 두 계층에서 모두 지워진다")
+        @Test
+        void storesValue_andEvictsItByTag() {
+            // act
+            cache.getTagged(KEY, TAGS, () -> VALUE);
+            boolean storedInRedis = cache.getRedisCache().get(KEY) != null;
+            boolean storedInLocal = cache.getLocalCache().get(KEY) != null;
+            cache.evictTagged(TAGS);
+
+            // assert
+            assertThat(storedInRedis).isTrue();
+            assertThat(storedInLocal).isTrue();
+            assertThat(cache.getRedisCache().get(KEY)).isNull();
+            assertThat(cache.getLocalCache().get(KEY)).isNull();
+        }
+
+        @DisplayName("적재하는 동안 태그가 무효화되면, 적재한 값은 반환하지만 캐시에는 남기지 않는다")
+        @Test
+        void dropsValue_whenTagIsEvictedWhileLoading() {
+            // act
+            ProductIdList loaded = cache.getTagged(KEY, TAGS, () -> {
+                cache.evictTagged(TAGS);
+                return VALUE;
+            });
+
+            // assert
+            assertThat(loaded).isEqualTo(VALUE);
+            assertThat(cache.getRedisCache().get(KEY)).isNull();
+            assertThat(cache.getLocalCache().get(KEY)).isNull();
+        }
+
+        @DisplayName("적재한 값에서 태그를 계산해 달면, 값에 담긴 항목의 태그로 무효화할 수 있다")
+        @Test
+        void tagsByLoadedValue_andEvictsByDerivedTag() {
+            // act
+            cache.getTagged(KEY, value -> value.productIds().stream().map(id -> "product:" + id).toList(), () -> VALUE);
+            cache.getTagged(OTHER_KEY, value -> value.productIds().stream().map(id -> "product:" + id).toList(), () -> STALE_VALUE);
+            cache.evictTagged(List.of("product:1"));
+
+            // assert
+            assertThat(cache.getRedisCache().get(KEY)).isNull();
+            assertThat(cache.getLocalCache().get(KEY)).isNull();
+            assertThat(cache.getRedisCache().get(OTHER_KEY)).isNotNull();
+        }
+
+        @DisplayName("값에서 계산한 태그가 적재하는 동안 무효화되면, 캐시에 남기지 않는다")
+        @Test
+        void dropsValue_whenDerivedTagIsEvictedWhileLoading() {
+            // act
+            ProductIdList loaded = cache.getTagged(KEY, value -> List.of("product:1"), () -> {
+                cache.evictTagged(List.of("product:1"));
+                return VALUE;
+            });
+
+            // assert
+            assertThat(loaded).isEqualTo(VALUE);
+            assertThat(cache.getRedisCache().get(KEY)).isNull();
+            assertThat(cache.getLocalCache().get(KEY)).isNull();
+        }
+
+        @DisplayName("로더가 던진 런타임 예외는 감싸지 않고 그대로 던진다")
+        @Test
+        void rethrowsLoaderException() {
+            // act
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> cache.getTagged(KEY, TAGS, () -> {
+                throw new IllegalArgumentException("잘못된 요청");
+            }));
+
+            // assert
+            assertThat(exception).hasMessage("잘못된 요청");
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("제한 시간 안에 조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
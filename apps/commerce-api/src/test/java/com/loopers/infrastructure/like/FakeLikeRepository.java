@@ -1,17 +1,47 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeCountDto;
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeEntity;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.UserRepository;
 import com.loopers.infrastructure.InMemoryCrudRepository;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class FakeLikeRepository extends InMemoryCrudRepository<LikeEntity> implements LikeRepository {
 
+    private static final ZonedDateTime CLOCK_ORIGIN = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    // 엔티티의 updated_at 은 JPA 가 채우므로, 좋아요를 누른 시각은 순서가 보장되는 가상의 시각으로 따로 기록한다.
+    private final Map<Long, ZonedDateTime> likedAts = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    public FakeLikeRepository(UserRepository userRepository, ProductRepository productRepository) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public LikeEntity save(LikeEntity entity) {
+        LikeEntity saved = super.save(entity);
+        likedAts.putIfAbsent(saved.getId(), tick());
+        return saved;
+    }
+
     @Override
     public long countByProductId(Long productId) {
         return map.values().stream()
@@ -34,12 +64,6 @@ public class FakeLikeRepository extends InMemoryCrudRepository<LikeEntity> imple
                 .findFirst();
     }
 
-    @Override
-    public void deleteByUserIdAndProductId(Long userId, Long productId) {
-        Optional<LikeEntity> like = findByUserIdAndProductId(userId, productId);
-        like.ifPresent(LikeEntity::delete);
-    }
-
     @Override
     public Set<Long> findLikedProductIdsByUserIdAndProductIds(Long userId, List<Long> productIds) {
         return map.values().stream()
@@ -51,9 +75,54 @@ public class FakeLikeRepository extends InMemoryCrudRepository<LikeEntity> imple
     }
 
     @Override
-    public LikeEntity saveOrFind(LikeEntity likeEntity) {
-        LikeEntity like = map.putIfAbsent(likeEntity.getId(), likeEntity);
-        return like != null ? like : likeEntity;
+    public List<Long> findLikedProductIdsByUserId(Long userId) {
+        return map.values().stream()
+                .filter(likeEntity -> likeEntity.getUser().getId().equals(userId) && !likeEntity.isDeleted())
+                .map(likeEntity -> likeEntity.getProduct().getId())
+                .toList();
+    }
+
+    @Override
+    public List<LikedProduct> findLikedProducts(Long userId, LikeCursor cursor, int limit) {
+        return map.values().stream()
+                .filter(likeEntity -> likeEntity.getUser().getId().equals(userId) && !likeEntity.isDeleted())
+                .map(likeEntity -> new LikedProduct(likeEntity.getId(), likeEntity.getProduct().getId(), likedAts.get(likeEntity.getId())))
+                .filter(like -> cursor == null || isBefore(like, cursor))
+                .sorted(Comparator.comparing(LikedProduct::likedAt).thenComparing(LikedProduct::likeId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static boolean isBefore(LikedProduct like, LikeCursor cursor) {
+        int compared = like.likedAt().toInstant().compareTo(cursor.likedAt().toInstant());
+        return compared < 0 || (compared == 0 && like.likeId() < cursor.likeId());
+    }
+
+    private ZonedDateTime tick() {
+        return CLOCK_ORIGIN.plusNanos(clock.incrementAndGet() * 1000);
+    }
+
+    @Override
+    public boolean upsertLike(Long userId, Long productId) {
+        Optional<LikeEntity> like = findByUserIdAndProductId(userId, productId);
+        if (like.isEmpty()) {
+            save(LikeEntity.create(userRepository.getReferenceById(userId), productRepository.getReferenceById(productId)));
+            return true;
+        }
+        if (!like.get().isDeleted()) {
+            return false;
+        }
+        like.get().restore();
+        likedAts.put(like.get().getId(), tick());
+        return true;
+    }
+
+    @Override
+    public boolean softDeleteLike(Long userId, Long productId) {
+        Optional<LikeEntity> like = findByUserIdAndProductId(userId, productId)
+                .filter(likeEntity -> !likeEntity.isDeleted());
+        like.ifPresent(LikeEntity::delete);
+        return like.isPresent();
     }
 
 }
@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikedProductStore;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class FakeLikedProductStore implements LikedProductStore {
+
+    private final Map<Long, Set<Long>> likedProductIdsByUserId = new HashMap<>();
+
+    @Override
+    public Optional<Set<Long>> findLiked(Long userId, Collection<Long> productIds) {
+        return Optional.ofNullable(likedProductIdsByUserId.get(userId))
+                .map(liked -> productIds.stream()
+                        .filter(liked::contains)
+                        .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public void load(Long userId, Collection<Long> likedProductIds) {
+        likedProductIdsByUserId.putIfAbsent(userId, new HashSet<>(likedProductIds));
+    }
+
+    @Override
+    public Optional<Boolean> toggle(Long userId, Long productId, boolean liked) {
+        return Optional.ofNullable(likedProductIdsByUserId.get(userId))
+                .map(likedProductIds -> liked ? likedProductIds.add(productId) : likedProductIds.remove(productId));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        likedProductIdsByUserId.remove(userId);
+    }
+}
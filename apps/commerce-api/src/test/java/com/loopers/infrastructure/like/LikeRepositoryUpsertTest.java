@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 좋아요 추가/취소 문장이 uk_likes_user_product 위에서 상태가 실제로 바뀌었는지를 올바르게 알려주는지 MySQL 에서 검증한다.
+ */
+@SpringBootTest
+public class LikeRepositoryUpsertTest {
+
+    private static final long USER_ID = 1L;
+    private static final long PRODUCT_ID = 1L;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("처음 누른 좋아요는 새 행을 만들고, 이미 좋아요 상태면 바뀐 것이 없다고 알려준다")
+    @Test
+    void upsertLike_reportsInsertOnlyOnce() {
+        // act
+        boolean inserted = likeRepository.upsertLike(USER_ID, PRODUCT_ID);
+        boolean repeated = likeRepository.upsertLike(USER_ID, PRODUCT_ID);
+
+        // assert
+        assertAll(
+                () -> assertThat(inserted).isTrue(),
+                () -> assertThat(repeated).isFalse(),
+                () -> assertThat(likeRepository.count()).isEqualTo(1),
+                () -> assertThat(likeRepository.countByProductId(PRODUCT_ID)).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("취소는 좋아요 상태일 때만 바뀌었다고 알려주고, 취소한 좋아요를 다시 누르면 같은 행을 복원한다")
+    @Test
+    void softDeleteThenUpsert_restoresSameRow() {
+        // arrange
+        likeRepository.upsertLike(USER_ID, PRODUCT_ID);
+        ZonedDateTime createdAt = likeRepository.findByUserIdAndProductId(USER_ID, PRODUCT_ID).orElseThrow().getCreatedAt();
+
+        // act
+        boolean deleted = likeRepository.softDeleteLike(USER_ID, PRODUCT_ID);
+        boolean deletedAgain = likeRepository.softDeleteLike(USER_ID, PRODUCT_ID);
+        long countAfterDelete = likeRepository.countByProductId(PRODUCT_ID);
+        boolean restored = likeRepository.upsertLike(USER_ID, PRODUCT_ID);
+
+        // assert
+        LikeEntity like = likeRepository.findByUserIdAndProductId(USER_ID, PRODUCT_ID).orElseThrow();
+        assertAll(
+                () -> assertThat(deleted).isTrue(),
+                () -> assertThat(deletedAgain).isFalse(),
+                () -> assertThat(countAfterDelete).isZero(),
+                () -> assertThat(restored).isTrue(),
+                () -> assertThat(like.isDeleted()).isFalse(),
+                () -> assertThat(like.getCreatedAt()).isEqualTo(createdAt),
+                () -> assertThat(likeRepository.count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("누른 적 없는 좋아요를 취소하면 바뀐 것이 없다고 알려준다")
+    @Test
+    void softDeleteLike_returnsFalse_whenAbsent() {
+        // act
+        boolean deleted = likeRepository.softDeleteLike(USER_ID, PRODUCT_ID);
+
+        // assert
+        assertThat(deleted).isFalse();
+    }
+}
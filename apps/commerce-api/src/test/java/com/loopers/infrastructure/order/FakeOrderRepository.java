@@ -2,10 +2,16 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderEntity;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.ReservedQuantity;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.infrastructure.InMemoryCrudRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class FakeOrderRepository extends InMemoryCrudRepository<OrderEntity> implements OrderRepository {
 
@@ -20,4 +26,16 @@ public class FakeOrderRepository extends InMemoryCrudRepository<OrderEntity> imp
     public Optional<OrderEntity> findByIdWithPessimisticLock(Long orderId) {
         return findById(orderId);
     }
+
+    @Override
+    public List<ReservedQuantity> findReservedQuantities(Collection<Long> productIds) {
+        Map<Long, Long> quantities = findAll().stream()
+                .filter(order -> order.isPending() && !order.isStockDeducted())
+                .flatMap(order -> order.getItems().stream())
+                .filter(item -> productIds.contains(item.getProductId()))
+                .collect(Collectors.groupingBy(OrderItem::getProductId, Collectors.summingLong(OrderItem::getQuantity)));
+        return quantities.entrySet().stream()
+                .map(entry -> new ReservedQuantity(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 }
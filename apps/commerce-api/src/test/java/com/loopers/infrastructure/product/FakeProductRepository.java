@@ -1,7 +1,14 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.product.LikeCountCorrection;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductFreshness;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortKey;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductView;
 import com.loopers.infrastructure.InMemoryCrudRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -11,12 +18,28 @@ import org.springframework.data.domain.Sort;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 public class FakeProductRepository extends InMemoryCrudRepository<ProductEntity> implements ProductRepository {
 
     @Override
-    public Page<ProductEntity> findAll(Pageable pageable) {
+    public Optional<ProductView> findViewById(Long id) {
+        return Optional.ofNullable(map.get(id)).map(this::toView);
+    }
+
+    @Override
+    public List<ProductView> findViewsByIds(List<Long> ids) {
+        return ids.stream()
+                .map(map::get)
+                .filter(Objects::nonNull)
+                .map(this::toView)
+                .toList();
+    }
+
+    @Override
+    public Page<ProductView> findViews(Pageable pageable) {
         List<ProductEntity> allProducts = new ArrayList<>(map.values());
 
         Sort sort = pageable.getSort();
@@ -33,17 +56,135 @@ public class FakeProductRepository extends InMemoryCrudRepository<ProductEntity>
         int start = (int) pageable.getOffset();
         int end = Math.min((start + pageable.getPageSize()), allProducts.size());
 
-        List<ProductEntity> pageContent = start >= allProducts.size()
+        List<ProductView> pageContent = start >= allProducts.size()
                 ? List.of()
-                : allProducts.subList(start, end);
+                : allProducts.subList(start, end).stream().map(this::toView).toList();
 
         return new PageImpl<>(pageContent, pageable, allProducts.size());
     }
 
     @Override
-    public Optional<ProductEntity> findByIdWithPessimisticLock(Long id) {
+    public List<ProductView> findViewsByCursor(ProductSortType sortType, ProductCursor cursor, int limit) {
+        Comparator<ProductEntity> comparator = comparatorOf(sortType);
+
+        return map.values().stream()
+                .sorted(comparator)
+                .filter(product -> cursor == null || comparator.compare(product, lastOf(cursor)) > 0)
+                .limit(limit)
+                .map(this::toView)
+                .toList();
+    }
+
+    @Override
+    public Page<ProductView> search(ProductCommand.Search condition, Pageable pageable) {
+        List<ProductEntity> filtered = map.values().stream()
+                .filter(product -> condition.brandId() == null || product.getBrand().getId().equals(condition.brandId()))
+                .filter(product -> condition.minPrice() == null || product.getPrice().compareTo(condition.minPrice()) >= 0)
+                .filter(product -> condition.maxPrice() == null || product.getPrice().compareTo(condition.maxPrice()) <= 0)
+                .sorted(comparatorOf(condition.sortType()))
+                .toList();
+
+        List<ProductView> pageContent = filtered.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::toView)
+                .toList();
+
+        return new PageImpl<>(pageContent, pageable, filtered.size());
+    }
+
+    @Override
+    public List<ProductSortKey> findSortKeysAfter(Long lastId, int limit) {
         return map.values().stream()
-                .filter(product -> product.getId().equals(id))
-                .findFirst();
+                .filter(product -> product.getId() > lastId)
+                .filter(product -> !product.isDeleted())
+                .sorted(Comparator.comparing(ProductEntity::getId))
+                .limit(limit)
+                .map(ProductSortKey::from)
+                .toList();
+    }
+
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> {
+            ProductEntity product = map.get(id);
+            if (product == null) {
+                return;
+            }
+            for (long i = 0; i < Math.abs(delta); i++) {
+                if (delta > 0) {
+                    product.increaseLikeCount();
+                } else {
+                    product.decreaseLikeCount();
+                }
+            }
+        });
+    }
+
+    @Override
+    public int correctLikeCounts(List<LikeCountCorrection> corrections) {
+        int corrected = 0;
+        for (LikeCountCorrection correction : corrections) {
+            ProductEntity product = map.get(correction.productId());
+            if (product == null || product.getLikeCount() != correction.expected()) {
+                continue;
+            }
+            addLikeCounts(Map.of(product.getId(), correction.actual() - correction.expected()));
+            corrected++;
+        }
+        return corrected;
+    }
+
+    @Override
+    public boolean decreaseStocks(Map<Long, Integer> quantities) {
+        boolean applicable = quantities.entrySet().stream()
+                .allMatch(entry -> map.containsKey(entry.getKey()) && map.get(entry.getKey()).getStock() >= entry.getValue());
+        if (!applicable) {
+            return false;
+        }
+        quantities.forEach((id, quantity) -> map.get(id).decreaseStock(quantity));
+        return true;
+    }
+
+    @Override
+    public boolean increaseStocks(Map<Long, Integer> quantities) {
+        if (!map.keySet().containsAll(quantities.keySet())) {
+            return false;
+        }
+        quantities.forEach((id, quantity) -> map.get(id).increaseStock(quantity));
+        return true;
+    }
+
+    @Override
+    public List<ProductFreshness> findFreshnessByIds(List<Long> ids) {
+        return ids.stream()
+                .map(map::get)
+                .filter(Objects::nonNull)
+                .map(ProductFreshness::from)
+                .toList();
+    }
+
+    private ProductView toView(ProductEntity product) {
+        return new ProductView(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getStock(),
+                product.getBrand().getBrandName(),
+                product.getLikeCount(),
+                product.getVersion()
+        );
+    }
+
+    private Comparator<ProductEntity> comparatorOf(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> Comparator.comparing(ProductEntity::getId).reversed();
+            case PRICE_ASC -> Comparator.comparing(ProductEntity::getPrice).thenComparing(ProductEntity::getId);
+            case LIKES_DESC -> Comparator.comparingLong(ProductEntity::getLikeCount).thenComparing(ProductEntity::getId).reversed();
+        };
+    }
+
+    private ProductEntity lastOf(ProductCursor cursor) {
+        return map.get(cursor.id());
     }
 }
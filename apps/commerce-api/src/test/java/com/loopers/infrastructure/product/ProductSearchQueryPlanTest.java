@@ -0,0 +1,188 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.infrastructure.PerformanceTestHelper;
+import com.loopers.utils.DatabaseCleanUp;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 상품 검색(ProductRepositoryImpl#search)을 실제로 실행해 QueryDSL 이 만든 SQL 을 가로챈 뒤 EXPLAIN 하여,
+ * 모든 필터/정렬 조합에서 실행 계획의 모든 테이블이 인덱스를 사용하고 filesort 가 발생하지 않는지 검증한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+@DisplayName("상품 검색 실행 계획 테스트")
+public class ProductSearchQueryPlanTest {
+
+    private static final long BRAND_ID = 3L;
+    private static final BigDecimal MIN_PRICE = BigDecimal.valueOf(5000);
+    private static final BigDecimal MAX_PRICE = BigDecimal.valueOf(45000);
+    private static final int PAGE_SIZE = 20;
+    private static final String DIGITS = "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 " +
+            "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCaptor sqlCaptor;
+
+    @Autowired
+    private PerformanceTestHelper performanceTestHelper;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeAll
+    void setUp() {
+        // 옵티마이저가 풀 스캔을 고르지 않도록 10,000 건(브랜드 10개, 가격 500단계)을 만든다.
+        performanceTestHelper.executeNativeQueryWithTransaction(
+                "INSERT INTO brands (brand_name, created_at, updated_at) " +
+                        "SELECT CONCAT('brand-', a.d), NOW(), NOW() FROM " + DIGITS + " a"
+        );
+        performanceTestHelper.executeNativeQueryWithTransaction(
+                "INSERT INTO products (name, price, stock, brand_id, like_count, version, created_at, updated_at) " +
+                        "SELECT CONCAT('product-', seq.n), 1000 + (seq.n % 500) * 100, 100, 1 + (seq.n % 10), seq.n % 1000, 0, NOW(), NOW() " +
+                        "FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n " +
+                        "FROM " + DIGITS + " a, " + DIGITS + " b, " + DIGITS + " c, " + DIGITS + " e) seq"
+        );
+        performanceTestHelper.analizeTable("brands");
+        performanceTestHelper.analizeTable("products");
+    }
+
+    @AfterAll
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    static Stream<Arguments> searchConditions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (ProductSortType sortType : ProductSortType.values()) {
+            for (boolean brandFilter : new boolean[]{false, true}) {
+                for (boolean priceFilter : new boolean[]{false, true}) {
+                    arguments.add(Arguments.of(brandFilter, priceFilter, sortType));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @DisplayName("브랜드/가격 필터와 정렬 기준의 모든 조합에서 인덱스를 사용하며 filesort 가 발생하지 않는다.")
+    @ParameterizedTest(name = "brand: {0}, price: {1}, sort: {2}")
+    @MethodSource("searchConditions")
+    void usesIndexWithoutFilesort(boolean brandFilter, boolean priceFilter, ProductSortType sortType) {
+        // arrange
+        ProductCommand.Search condition = new ProductCommand.Search(
+                brandFilter ? BRAND_ID : null,
+                priceFilter ? MIN_PRICE : null,
+                priceFilter ? MAX_PRICE : null,
+                sortType
+        );
+        sqlCaptor.clear();
+        productRepository.search(condition, PageRequest.of(0, PAGE_SIZE));
+        String sql = sqlCaptor.contentQuery();
+
+        // act
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, parametersOf(condition, sql));
+        System.out.println("--- [" + sortType + " / brand: " + brandFilter + " / price: " + priceFilter + "] " + sql);
+        plan.forEach(row -> System.out.println("  " + row));
+
+        // assert
+        assertThat(plan).isNotEmpty();
+        assertAll(plan.stream().<Executable>map(row -> () -> assertAll(
+                () -> assertThat(row.get("key")).as("key of %s", row.get("table")).isNotNull(),
+                () -> assertThat(String.valueOf(row.get("Extra"))).as("Extra of %s", row.get("table"))
+                        .doesNotContain("Using filesort")
+                        .doesNotContain("Using temporary")
+        )));
+    }
+
+    /**
+     * 검색 조건이 where 절에 붙는 순서대로 바인딩 값을 만들고, 마지막에 limit 값을 붙인다.
+     */
+    private Object[] parametersOf(ProductCommand.Search condition, String sql) {
+        List<Object> parameters = new ArrayList<>();
+        if (condition.brandId() != null) {
+            parameters.add(condition.brandId());
+        }
+        if (condition.minPrice() != null) {
+            parameters.add(condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            parameters.add(condition.maxPrice());
+        }
+        parameters.add(PAGE_SIZE);
+
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("바인딩 파라미터 수가 생성된 SQL 과 다릅니다. sql: %s", sql)
+                .isEqualTo(parameters.size());
+        return parameters.toArray();
+    }
+
+    /**
+     * Hibernate 가 JDBC 로 보내는 SQL 을 그대로 기록한다.
+     */
+    static class SqlCaptor implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        String contentQuery() {
+            return statements.stream()
+                    .filter(sql -> sql.toLowerCase().contains("order by"))
+                    .reduce((first, second) -> second)
+                    .orElseThrow();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptorConfig {
+
+        @Bean
+        SqlCaptor sqlCaptor() {
+            return new SqlCaptor();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptorCustomizer(SqlCaptor sqlCaptor) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCaptor);
+        }
+    }
+}
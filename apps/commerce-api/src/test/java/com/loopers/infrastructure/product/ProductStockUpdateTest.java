@@ -0,0 +1,89 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 여러 상품의 재고를 한 문장으로 증감할 때, 모든 상품에 적용되었는지를 올바르게 알려주는지 MySQL 에서 검증한다.
+ */
+@SpringBootTest
+public class ProductStockUpdateTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductEntity shoes;
+    private ProductEntity bag;
+
+    @BeforeEach
+    void setUp() {
+        BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+        shoes = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+        bag = productRepository.save(ProductEntity.create("가방", 20000, 1, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("모든 상품의 재고가 충분하면, 상품마다 다른 수량을 한 번에 차감하고 버전을 올린다")
+    @Test
+    void decreaseStocks_appliesAll_whenEveryStockIsEnough() {
+        // act
+        boolean applied = productRepository.decreaseStocks(Map.of(bag.getId(), 1, shoes.getId(), 3));
+
+        // assert
+        ProductEntity updatedShoes = productRepository.findById(shoes.getId()).orElseThrow();
+        ProductEntity updatedBag = productRepository.findById(bag.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(applied).isTrue(),
+                () -> assertThat(updatedShoes.getStock()).isEqualTo(7),
+                () -> assertThat(updatedBag.getStock()).isZero(),
+                () -> assertThat(updatedShoes.getVersion()).isGreaterThan(shoes.getVersion())
+        );
+    }
+
+    @DisplayName("재고가 부족한 상품이 있으면, 모두 적용되지 않았다고 알려준다")
+    @Test
+    void decreaseStocks_returnsFalse_whenAnyStockIsInsufficient() {
+        // act
+        boolean applied = productRepository.decreaseStocks(Map.of(shoes.getId(), 3, bag.getId(), 2));
+
+        // assert
+        assertAll(
+                () -> assertThat(applied).isFalse(),
+                () -> assertThat(productRepository.findById(bag.getId()).orElseThrow().getStock()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("존재하지 않는 상품이 있으면, 재고를 늘릴 때도 모두 적용되지 않았다고 알려준다")
+    @Test
+    void increaseStocks_returnsFalse_whenProductIsMissing() {
+        // act
+        boolean applied = productRepository.increaseStocks(Map.of(shoes.getId(), 2, 999L, 1));
+
+        // assert
+        assertThat(applied).isFalse();
+    }
+}
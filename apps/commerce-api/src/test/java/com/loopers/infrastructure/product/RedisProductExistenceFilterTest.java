@@ -0,0 +1,121 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductView;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("상품 존재 필터 테스트")
+public class RedisProductExistenceFilterTest {
+
+    // 다른 테스트에서 만들어질 일이 없는 id
+    private static final long UNKNOWN_PRODUCT_ID = 987_654_321L;
+
+    @Autowired
+    private RedisProductExistenceFilter productExistenceFilter;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private BrandEntity brand;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트가 켠 비트가 남아 있으면 추가하지 않은 id 도 통과할 수 있으므로 비트맵을 비우고 다시 만든다.
+        redisCleanUp.flushAll();
+        productService.rebuildExistenceFilter();
+        brand = brandRepository.save(BrandEntity.create("나이키"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        // 이 테스트가 켠 비트와 negative cache 를 남기지 않는다. 준비 표식도 지워지므로 다른 테스트에서는 필터가 모두 통과시킨다.
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("한 번도 추가되지 않은 id 는 필터에서 걸러진다")
+    @Test
+    void rejectsProduct_neverAdded() {
+        // act
+        boolean mightExist = productExistenceFilter.mightExist(UNKNOWN_PRODUCT_ID);
+
+        // assert
+        assertThat(mightExist).isFalse();
+    }
+
+    @DisplayName("새로 저장한 상품은 필터를 통과한다")
+    @Test
+    void passesCreatedProduct() {
+        // act
+        ProductEntity product = productRepository.save(ProductEntity.create("신발", 130000, 10, brand));
+
+        // assert
+        assertThat(productExistenceFilter.mightExist(product.getId())).isTrue();
+    }
+
+    @DisplayName("필터가 준비된 뒤 서비스로 생성한 상품은 필터를 통과해 조회된다")
+    @Test
+    void findsProductCreatedThroughService_afterRebuild() {
+        // arrange
+        ProductEntity product = productService.save(ProductEntity.create("가방", 50000, 5, brand));
+
+        // act
+        ProductView view = productService.findViewById(product.getId());
+
+        // assert
+        assertThat(view.id()).isEqualTo(product.getId());
+        assertThat(view.name()).isEqualTo("가방");
+    }
+
+    @DisplayName("DB 에 없는 상품을 조회하면 negative cache 되어 이후 조회는 필터에서 걸러진다")
+    @Test
+    void rejectsMissingProduct_afterLookupFails() {
+        // arrange
+        productExistenceFilter.add(List.of(UNKNOWN_PRODUCT_ID));
+
+        // act
+        assertThatThrownBy(() -> productService.findViewById(UNKNOWN_PRODUCT_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        // assert
+        assertThat(productExistenceFilter.mightExist(UNKNOWN_PRODUCT_ID)).isFalse();
+    }
+
+    @DisplayName("negative cache 된 id 가 다시 추가되면 필터를 통과한다")
+    @Test
+    void passesProduct_whenAddedAfterMarkedMissing() {
+        // arrange
+        productExistenceFilter.markMissing(UNKNOWN_PRODUCT_ID);
+
+        // act
+        productExistenceFilter.add(List.of(UNKNOWN_PRODUCT_ID));
+
+        // assert
+        assertThat(productExistenceFilter.mightExist(UNKNOWN_PRODUCT_ID)).isTrue();
+    }
+}
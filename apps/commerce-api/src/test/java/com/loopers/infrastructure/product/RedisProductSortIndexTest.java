@@ -0,0 +1,94 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductIdPage;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortKey;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("상품 정렬 인덱스 테스트")
+public class RedisProductSortIndexTest {
+
+    @Autowired
+    private RedisProductSortIndex productSortIndex;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private BrandEntity brand;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.flushAll();
+        productService.rebuildSortIndex();
+        brand = brandRepository.save(BrandEntity.create("나이키"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
+    }
+
+    @DisplayName("삭제된 상품의 좋아요 수가 바뀌어도, 인덱스에 다시 추가되지 않는다")
+    @Test
+    void doesNotReAddDeletedProduct_whenLikeCountChanges() {
+        // arrange
+        ProductEntity product = productRepository.save(ProductEntity.create("신발", 130000, 10, brand));
+        productService.delete(product.getId());
+
+        // act
+        productService.applyLikeCountDeltas(Map.of(product.getId(), 1L));
+
+        // assert
+        ProductIdPage page = productSortIndex.findIds(ProductSortType.LIKES_DESC, 0, 10).orElseThrow();
+        assertThat(page.ids()).doesNotContain(product.getId());
+    }
+
+    @DisplayName("재구축하는 동안 삭제된 상품은, 재구축이 이미 읽어 갔더라도 교체된 인덱스에 남지 않는다")
+    @Test
+    void dropsProductRemovedDuringRebuild() {
+        // arrange
+        ProductSortKey removed = new ProductSortKey(1L, BigDecimal.valueOf(10000), 0L);
+        ProductSortKey kept = new ProductSortKey(2L, BigDecimal.valueOf(20000), 0L);
+
+        // act
+        productSortIndex.rebuild(lastId -> {
+            if (lastId == 0L) {
+                return List.of(removed, kept);
+            }
+            productSortIndex.remove(List.of(removed.id()));
+            return List.of();
+        });
+
+        // assert
+        ProductIdPage page = productSortIndex.findIds(ProductSortType.LATEST, 0, 10).orElseThrow();
+        assertThat(page.ids()).containsExactly(kept.id());
+        assertThat(page.totalElements()).isEqualTo(1);
+    }
+}
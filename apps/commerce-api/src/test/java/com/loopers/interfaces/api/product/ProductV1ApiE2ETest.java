@@ -2,23 +2,32 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
 import com.loopers.interfaces.api.PageResponse;
 import com.loopers.utils.DatabaseCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -41,11 +50,18 @@ public class ProductV1ApiE2ETest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ProductService productService;
+
     private ProductEntity product1;
     private UserEntity user1;
 
     @BeforeEach
     void setUp() {
+        // 이전 테스트에서 남은 정렬 인덱스를 비운다.
+        productService.rebuildSortIndex();
         BrandEntity brand = brandRepository.save(BrandEntity.create("Test Brand"));
         product1 = productRepository.save(ProductEntity.create("Test Product 1", 10000, 10, brand));
         user1 = userRepository.save(UserEntity.create("testuser", "test@test.com", UserGender.MALE, LocalDate.now().minusYears(20)));
@@ -54,6 +70,8 @@ public class ProductV1ApiE2ETest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        Objects.requireNonNull(cacheManager.getCache("product")).clear();
+        Objects.requireNonNull(cacheManager.getCache("products")).clear();
     }
 
     @DisplayName("GET /api/v1/products/{id}")
@@ -83,6 +101,32 @@ public class ProductV1ApiE2ETest {
                     () -> assertThat(response.getBody().data().name()).isEqualTo(product1.getName())
             );
         }
+
+        @DisplayName("응답의 ETag 를 If-None-Match 로 보내면, 변경이 없을 때 304 Not Modified 를 반환한다.")
+        @Test
+        void returnsNotModified_whenETagMatches() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            String requestUrl = ENDPOINT.apply(product1.getId());
+            ParameterizedTypeReference<ApiResponse<ProductV1Dto.ProductInfo>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductInfo>> firstResponse =
+                    testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+            String eTag = firstResponse.getHeaders().getETag();
+
+            // act
+            httpHeaders.setIfNoneMatch(eTag);
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductInfo>> response =
+                    testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(eTag).isNotNull().doesNotStartWith("W/"),
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(response.getBody()).isNull()
+            );
+        }
     }
 
     @DisplayName("GET /api/v1/products")
@@ -111,5 +155,192 @@ public class ProductV1ApiE2ETest {
                     () -> assertThat(response.getBody().data().getTotalElements()).isEqualTo(1)
             );
         }
+
+        @DisplayName("목록 응답의 weak ETag 를 If-None-Match 로 보내면, 변경이 없을 때 304 Not Modified 를 반환한다.")
+        @Test
+        void returnsNotModified_whenWeakETagMatches() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            ParameterizedTypeReference<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> firstResponse =
+                    testRestTemplate.exchange(ENDPOINT, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+            String eTag = firstResponse.getHeaders().getETag();
+
+            // act
+            httpHeaders.setIfNoneMatch(eTag);
+            ResponseEntity<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(eTag).isNotNull().startsWith("W/"),
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED)
+            );
+        }
+    }
+
+    @DisplayName("GET /api/v1/products/batch")
+    @Nested
+    class GetProductsByIds {
+
+        private static final String ENDPOINT = "/api/v1/products/batch";
+
+        @DisplayName("캐시된 상품과 캐시되지 않은 상품을 섞어 요청해도 요청 순서대로 반환하고, 존재하지 않는 상품은 제외한다.")
+        @Test
+        void returnsProductsInRequestedOrder_whenSomeAreCached() {
+            // arrange
+            BrandEntity brand = brandRepository.save(BrandEntity.create("Batch Brand"));
+            ProductEntity product2 = productRepository.save(ProductEntity.create("Test Product 2", 20000, 10, brand));
+
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            // product1 만 상세 조회로 캐시에 올려 둔다.
+            testRestTemplate.exchange("/api/v1/products/" + product1.getId(), HttpMethod.GET, new HttpEntity<>(httpHeaders), String.class);
+            String query = "?ids=" + product2.getId() + "," + (product2.getId() + 100) + "," + product1.getId();
+
+            // act
+            ParameterizedTypeReference<ApiResponse<List<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<List<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + query, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data()).extracting(ProductV1Dto.ProductInfo::id)
+                            .containsExactly(product2.getId(), product1.getId()),
+                    () -> assertThat(cacheManager.getCache("product").get("product:" + product2.getId())).isNotNull()
+            );
+        }
+
+        @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 400 Bad Request 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenTooManyIdsAreRequested() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            String ids = String.join(",", LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).toList());
+
+            // act
+            ParameterizedTypeReference<ApiResponse<List<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<List<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + "?ids=" + ids, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/products/search")
+    @Nested
+    class SearchProducts {
+
+        private static final String ENDPOINT = "/api/v1/products/search";
+
+        @DisplayName("브랜드와 가격 범위로 필터링하고 가격 오름차순으로 정렬된 상품 목록을 반환한다.")
+        @Test
+        void returnsFilteredProductsInPriceOrder() {
+            // arrange
+            BrandEntity brand = brandRepository.save(BrandEntity.create("Search Brand"));
+            productRepository.save(ProductEntity.create("Search Product 1", 30000, 10, brand));
+            productRepository.save(ProductEntity.create("Search Product 2", 15000, 10, brand));
+            productRepository.save(ProductEntity.create("Search Product 3", 50000, 10, brand));
+
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            String query = "?brandId=" + brand.getId() + "&minPrice=10000&maxPrice=40000&sortType=PRICE_ASC";
+
+            // act
+            ParameterizedTypeReference<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + query, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data().getTotalElements()).isEqualTo(2),
+                    () -> assertThat(response.getBody().data().getContent()).extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("Search Product 2", "Search Product 1")
+            );
+        }
+
+        @DisplayName("최소 가격이 최대 가격보다 크면 400 Bad Request 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenMinPriceIsGreaterThanMaxPrice() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+
+            // act
+            ParameterizedTypeReference<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<PageResponse<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + "?minPrice=20000&maxPrice=10000", HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/products?sortType=")
+    @Nested
+    class GetProductsByCursor {
+
+        private static final String ENDPOINT = "/api/v1/products";
+
+        @DisplayName("nextCursor 를 따라가면 중복 없이 가격 오름차순으로 모든 상품을 조회한다.")
+        @Test
+        void returnsAllProductsInOrder_whenFollowingNextCursor() {
+            // arrange
+            BrandEntity brand = brandRepository.save(BrandEntity.create("Cursor Brand"));
+            productRepository.save(ProductEntity.create("Test Product 2", 5000, 10, brand));
+            productRepository.save(ProductEntity.create("Test Product 3", 10000, 10, brand));
+            productRepository.save(ProductEntity.create("Test Product 4", 20000, 10, brand));
+
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            ParameterizedTypeReference<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+
+            // act
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> firstPage =
+                    testRestTemplate.exchange(ENDPOINT + "?sortType=PRICE_ASC&size=2", HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+            String nextCursor = firstPage.getBody().data().nextCursor();
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> secondPage =
+                    testRestTemplate.exchange(ENDPOINT + "?sortType=PRICE_ASC&size=2&cursor=" + nextCursor, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            List<ProductV1Dto.ProductInfo> products = new ArrayList<>(firstPage.getBody().data().content());
+            products.addAll(secondPage.getBody().data().content());
+            assertAll(
+                    () -> assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(firstPage.getBody().data().hasNext()).isTrue(),
+                    () -> assertThat(secondPage.getBody().data().hasNext()).isFalse(),
+                    () -> assertThat(products).extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("Test Product 2", "Test Product 1", "Test Product 3", "Test Product 4")
+            );
+        }
+
+        @DisplayName("정렬 기준과 맞지 않는 커서를 전달하면 400 Bad Request 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenCursorDoesNotMatchSortType() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", user1.getId().toString());
+            String priceCursor = new ProductCursor(ProductSortType.PRICE_ASC, "10000", product1.getId()).encode();
+
+            // act
+            ParameterizedTypeReference<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + "?sortType=LIKES_DESC&cursor=" + priceCursor, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
     }
 }
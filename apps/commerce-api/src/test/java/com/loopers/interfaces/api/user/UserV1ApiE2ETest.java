@@ -1,9 +1,20 @@
 package com.loopers.interfaces.api.user;
 
 import com.loopers.application.user.UserFacade;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserGender;
+import com.loopers.domain.user.UserRepository;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.product.ProductV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,6 +43,10 @@ class UserV1ApiE2ETest {
      * 내 정보 조회 E2E 테스트
      * - [o]  내 정보 조회에 성공할 경우, 해당하는 유저 정보를 응답으로 반환한다.
      * - [o]  존재하지 않는 ID 로 조회할 경우, `404 Not Found` 응답을 반환한다.
+     *
+     * 내가 좋아요한 상품 목록 조회 E2E 테스트
+     * - [o]  최근에 좋아요한 순으로 조회하고, nextCursor 로 다음 페이지를 조회한다.
+     * - [o]  커서가 올바르지 않을 경우, `400 Bad Request` 응답을 반환한다.
      */
 
     @Autowired
@@ -40,12 +55,28 @@ class UserV1ApiE2ETest {
     @Autowired
     private TestRestTemplate testRestTemplate;
 
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.flushAll();
     }
 
     @DisplayName("POST /api/v1/users")
@@ -165,4 +196,106 @@ class UserV1ApiE2ETest {
         }
 
     }
+    @DisplayName("GET /api/v1/users/me/likes")
+    @Nested
+    class MyLikes {
+
+        private static final String ENDPOINT = "/api/v1/users/me/likes";
+
+        private final ParameterizedTypeReference<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> responseType =
+                new ParameterizedTypeReference<>() {
+                };
+
+        @DisplayName("최근에 좋아요한 순으로 조회하고, nextCursor 로 다음 페이지를 조회한다.")
+        @Test
+        void returnsLikedProductsInRecentOrder_andNextPageWithCursor() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create("mwma91", "test@gmail.com", UserGender.MALE, LocalDate.of(2000, 1, 1)));
+            BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+            ProductEntity shoes = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+            ProductEntity bag = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+            ProductEntity cap = productRepository.save(ProductEntity.create("모자", 30000, 10, brand));
+            likeRepository.save(LikeEntity.create(user, shoes));
+            likeRepository.save(LikeEntity.create(user, bag));
+            likeRepository.save(LikeEntity.create(user, cap));
+
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", String.valueOf(user.getId()));
+
+            // act
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> firstPage =
+                    testRestTemplate.exchange(ENDPOINT + "?size=2", HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+            String nextCursor = firstPage.getBody().data().nextCursor();
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> secondPage =
+                    testRestTemplate.exchange(ENDPOINT + "?size=2&cursor=" + nextCursor, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(firstPage.getBody().data().content())
+                            .extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("모자", "가방"),
+                    () -> assertThat(firstPage.getBody().data().content())
+                            .allMatch(ProductV1Dto.ProductInfo::isLiked),
+                    () -> assertThat(firstPage.getBody().data().hasNext()).isTrue(),
+                    () -> assertThat(secondPage.getBody().data().content())
+                            .extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("신발"),
+                    () -> assertThat(secondPage.getBody().data().hasNext()).isFalse()
+            );
+        }
+
+        @DisplayName("취소했다가 다시 좋아요한 상품은, 다시 누른 시각 기준으로 가장 먼저 조회된다.")
+        @Test
+        void returnsRestoredLikeFirst() {
+            // arrange
+            UserEntity user = userRepository.save(UserEntity.create("mwma91", "test@gmail.com", UserGender.MALE, LocalDate.of(2000, 1, 1)));
+            BrandEntity brand = brandRepository.save(BrandEntity.create("나이키"));
+            ProductEntity shoes = productRepository.save(ProductEntity.create("신발", 10000, 10, brand));
+            ProductEntity bag = productRepository.save(ProductEntity.create("가방", 20000, 10, brand));
+            likeRepository.save(LikeEntity.create(user, shoes));
+            likeRepository.save(LikeEntity.create(user, bag));
+            likeRepository.softDeleteLike(user.getId(), shoes.getId());
+            likeRepository.upsertLike(user.getId(), shoes.getId());
+
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", String.valueOf(user.getId()));
+
+            // act
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> firstPage =
+                    testRestTemplate.exchange(ENDPOINT + "?size=1", HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+            String nextCursor = firstPage.getBody().data().nextCursor();
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> secondPage =
+                    testRestTemplate.exchange(ENDPOINT + "?size=1&cursor=" + nextCursor, HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(firstPage.getBody().data().content())
+                            .extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("신발"),
+                    () -> assertThat(secondPage.getBody().data().content())
+                            .extracting(ProductV1Dto.ProductInfo::name)
+                            .containsExactly("가방"),
+                    () -> assertThat(secondPage.getBody().data().hasNext()).isFalse()
+            );
+        }
+
+        @DisplayName("커서가 올바르지 않을 경우, `400 Bad Request` 응답을 반환한다.")
+        @Test
+        void returnsBadRequest_whenCursorIsInvalid() {
+            // arrange
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.add("X-USER-ID", "1");
+
+            // act
+            ResponseEntity<ApiResponse<CursorPageResponse<ProductV1Dto.ProductInfo>>> response =
+                    testRestTemplate.exchange(ENDPOINT + "?cursor=invalid", HttpMethod.GET, new HttpEntity<>(httpHeaders), responseType);
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST),
+                    () -> assertThat(response.getBody().meta().result()).isEqualTo(ApiResponse.Metadata.Result.FAIL)
+            );
+        }
+    }
 }
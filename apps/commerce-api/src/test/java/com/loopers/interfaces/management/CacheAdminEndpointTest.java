@@ -0,0 +1,110 @@
+package com.loopers.interfaces.management;
+
+import com.loopers.application.product.ProductCatalogInfo;
+import com.loopers.infrastructure.cache.TwoTierCache;
+import com.loopers.infrastructure.cache.TwoTierCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+public class CacheAdminEndpointTest {
+
+    @Autowired
+    private CacheAdminEndpoint cacheAdminEndpoint;
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = (TwoTierCache) Objects.requireNonNull(cacheManager.getCache("product"));
+        cache.put("product:1", productOf(1L));
+        cache.put("product:10", productOf(10L));
+        cache.put("product:2", productOf(2L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.clear();
+    }
+
+    @DisplayName("키를 지정하면 L1/L2 존재 여부와 남은 TTL, 직렬화된 크기를 보여준다")
+    @Test
+    void inspectsKey() {
+        // act
+        Object result = cacheAdminEndpoint.cache("product", "product:1");
+
+        // assert
+        assertThat(result).isInstanceOf(TwoTierCache.KeyInspection.class);
+        TwoTierCache.KeyInspection inspection = (TwoTierCache.KeyInspection) result;
+        assertAll(
+                () -> assertThat(inspection.inLocal()).isTrue(),
+                () -> assertThat(inspection.inRedis()).isTrue(),
+                () -> assertThat(inspection.ttlMillis()).isPositive(),
+                () -> assertThat(inspection.serializedBytes()).isPositive()
+        );
+    }
+
+    @DisplayName("캐시 요약에 L2 키 수와 메모리 추정치가 포함된다")
+    @Test
+    void summarizesCache() {
+        // act
+        Object result = cacheAdminEndpoint.cache("product", null);
+
+        // assert
+        assertThat(result).isInstanceOf(CacheAdminEndpoint.CacheSummary.class);
+        CacheAdminEndpoint.CacheSummary summary = (CacheAdminEndpoint.CacheSummary) result;
+        assertAll(
+                () -> assertThat(summary.local().size()).isGreaterThanOrEqualTo(3),
+                () -> assertThat(summary.redis().keys()).isGreaterThanOrEqualTo(3),
+                () -> assertThat(summary.redis().keysTruncated()).isFalse(),
+                () -> assertThat(summary.redis().estimatedBytes()).isPositive()
+        );
+    }
+
+    @DisplayName("패턴으로 무효화하면 패턴에 맞는 키만 L1/L2 에서 지운다")
+    @Test
+    void evictsKeysMatchingPattern() {
+        // act
+        CacheAdminEndpoint.EvictionResult result = cacheAdminEndpoint.evict("product", null, "product:1*");
+
+        // assert
+        assertThat(result.evictedKeys()).isEqualTo(2);
+        assertThat(cache.get("product:1")).isNull();
+        assertThat(cache.get("product:10")).isNull();
+        assertThat(cache.get("product:2")).isNotNull();
+    }
+
+    @DisplayName("키와 패턴을 함께 지정하거나 둘 다 지정하지 않으면 잘못된 요청이다")
+    @Test
+    void rejectsEviction_whenKeyAndPatternAreAmbiguous() {
+        assertThatThrownBy(() -> cacheAdminEndpoint.evict("product", null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> cacheAdminEndpoint.evict("product", "product:1", "product:*"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    @DisplayName("없는 캐시를 조회하면 null(404)을 반환한다")
+    @Test
+    void returnsNull_whenCacheDoesNotExist() {
+        assertThat(cacheAdminEndpoint.cache("unknown", null)).isNull();
+    }
+
+    private ProductCatalogInfo productOf(long id) {
+        return new ProductCatalogInfo(id, "상품-" + id, BigDecimal.valueOf(10000 + id), 10, "브랜드", id * 3, 0L);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -23,6 +24,7 @@ public class RedisConfig {
     private final RedisProperties redisProperties;
 
     public static final String CONNECTION_MASTER = "redisConnectionMaster";
+    public static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     @Bean
@@ -31,6 +33,7 @@ public class RedisConfig {
         // 기본 ConnectionFactory: Replica 우선 읽기
         return createLettuceConnectionFactory(() -> LettuceClientConfiguration.builder()
                 .readFrom(ReadFrom.REPLICA_PREFERRED)
+                .commandTimeout(redisProperties.commandTimeout())
                 .build());
     }
 
@@ -39,9 +42,22 @@ public class RedisConfig {
         // Master ConnectionFactory: Master에서만 읽기/쓰기
         return createLettuceConnectionFactory(() -> LettuceClientConfiguration.builder()
                 .readFrom(ReadFrom.MASTER)
+                .commandTimeout(redisProperties.commandTimeout())
                 .build());
     }
 
+    @Bean(name = CONNECTION_PUBSUB)
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        // Pub/Sub ConnectionFactory: Master/Replica 구성은 Pub/Sub 연결을 지원하지 않으므로 Master에 단독으로 연결
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(
+                redisProperties.master().host(),
+                redisProperties.master().port()
+        );
+        standaloneConfig.setDatabase(redisProperties.database());
+
+        return new LettuceConnectionFactory(standaloneConfig);
+    }
+
     @Bean
     @Primary
     public RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory) {
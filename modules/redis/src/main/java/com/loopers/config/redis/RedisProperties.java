@@ -1,13 +1,16 @@
 package com.loopers.config.redis;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 
 @ConfigurationProperties(prefix = "datasource.redis")
 public record RedisProperties(
         int database,
         RedisNodeInfo master,
-        List<RedisNodeInfo> replicas
+        List<RedisNodeInfo> replicas,
+        @DefaultValue("1s") Duration commandTimeout
 ) {
 }